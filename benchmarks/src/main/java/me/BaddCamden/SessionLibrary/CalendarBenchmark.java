@@ -0,0 +1,122 @@
+package me.BaddCamden.SessionLibrary;
+
+import java.time.DayOfWeek;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.EnumSet;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import me.BaddCamden.SessionLibrary.calendar.CalendarEngine;
+import me.BaddCamden.SessionLibrary.calendar.DayCounterRegistry;
+import me.BaddCamden.SessionLibrary.scheduler.VirtualScheduler;
+
+/**
+ * The calendar monitor for each mode: the check {@code SessionManager.runCalendarCheck} runs
+ * every 800 ticks, the same check with virtual time moving, and
+ * {@code computeNextEligibleTime} from reference times spread over a year.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CalendarBenchmark {
+
+    private static final long CHECK_PERIOD_TICKS = 800L;
+
+    /** Calendar mode under test. */
+    @Param({ "specific", "daily", "day-of-week", "day-of-month", "day-of-year", "custom-counter" })
+    public String mode;
+
+    private final ZoneId zone = ZoneId.of("Europe/Berlin");
+    private final LocalDateTime specificDateTime = LocalDateTime.of(2030, 6, 1, 20, 0);
+    private final LocalTime dailyTime = LocalTime.of(20, 0);
+    private final Set<DayOfWeek> weekdays = new HashSet<>(EnumSet.of(DayOfWeek.FRIDAY, DayOfWeek.SATURDAY));
+    private final Set<Integer> monthDays = new HashSet<>(Set.of(1, 15, 31));
+    private final Set<Integer> yearDays = new HashSet<>(Set.of(1, 60, 200, 366));
+    private final int counterTarget = 7;
+    private VirtualScheduler scheduler;
+    private CalendarEngine engine;
+    private DayCounterRegistry counters;
+    private ZonedDateTime[] days;
+    private int dayIndex;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        scheduler = HeadlessServer.start(Instant.parse("2024-01-01T00:00:00Z"));
+        engine = new CalendarEngine(SessionManager.getClock());
+        engine.configure(true, mode, zone, specificDateTime, dailyTime, weekdays, monthDays, yearDays,
+                counterTarget);
+        counters = new DayCounterRegistry(SessionManager.getClock());
+        counters.configure(List.of(new DayCounterRegistry.Definition("events", zone, LocalDate.of(2023, 12, 1), 0,
+                false)));
+        scheduler.runTaskTimer(this::calendarCheck, 0L, CHECK_PERIOD_TICKS);
+
+        // Reference times spread over a year, so every next-eligible lookup starts from a new day
+        days = new ZonedDateTime[365];
+        ZonedDateTime first = ZonedDateTime.of(2024, 1, 1, 12, 0, 0, 0, zone);
+        for (int i = 0; i < days.length; i++) {
+            days[i] = first.plusDays(i);
+        }
+    }
+
+    /**
+     * The check alone, without moving time, as a server runs it almost every time.
+     */
+    @Benchmark
+    public void quietCheck() {
+        calendarCheck();
+    }
+
+    /**
+     * One monitor period of virtual time. A day holds 2,160 periods, and only those crossing
+     * midnight or a rule's start time do more than the quiet check.
+     */
+    @Benchmark
+    public void monitorPeriod() {
+        scheduler.advanceTicks(CHECK_PERIOD_TICKS);
+    }
+
+    /**
+     * Next eligible start after a reference time.
+     *
+     * @return next eligible start, or null when the mode has none.
+     */
+    @Benchmark
+    public ZonedDateTime nextEligibleTime() {
+        ZonedDateTime day = days[dayIndex];
+        dayIndex = dayIndex + 1 < days.length ? dayIndex + 1 : 0;
+        return engine.computeNextEligibleTime(day);
+    }
+
+    /**
+     * Same work as {@code SessionManager.runCalendarCheck}.
+     */
+    private void calendarCheck() {
+        engine.updateSettings(true, mode, zone, specificDateTime, dailyTime, weekdays, monthDays, yearDays,
+                counterTarget);
+        engine.check();
+        counters.check();
+    }
+}
@@ -0,0 +1,108 @@
+package me.BaddCamden.SessionLibrary;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.bukkit.configuration.InvalidConfigurationException;
+import org.bukkit.configuration.file.YamlConfiguration;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import me.BaddCamden.SessionLibrary.calendar.CalendarEngine;
+import me.BaddCamden.SessionLibrary.calendar.DayCounterRegistry;
+import me.BaddCamden.SessionLibrary.scheduler.VirtualScheduler;
+
+/**
+ * daycounter.yml round-trips: the writes {@code SessionManager.saveDayCounter} makes into the
+ * YAML document and its serialization, and the load path that parses it and restores the
+ * calendar and named counters. The file itself is left out so disk speed does not dominate.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DayCounterPersistenceBenchmark {
+
+    /** Number of named day counters persisted alongside the calendar state. */
+    @Param({ "0", "8" })
+    public int namedCounters;
+
+    private final ZoneId zone = ZoneId.of("Europe/Berlin");
+    private CalendarEngine engine;
+    private DayCounterRegistry counters;
+    private YamlConfiguration dayCounterData;
+    private String saved;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        VirtualScheduler scheduler = HeadlessServer.start(Instant.parse("2024-01-01T00:00:00Z"));
+        engine = new CalendarEngine(SessionManager.getClock());
+        engine.configure(true, "daily", zone, null, LocalTime.of(20, 0), null, null, null, 0);
+        counters = new DayCounterRegistry(SessionManager.getClock());
+        List<DayCounterRegistry.Definition> definitions = new ArrayList<>();
+        for (int i = 0; i < namedCounters; i++) {
+            definitions.add(new DayCounterRegistry.Definition("counter-" + i, zone, LocalDate.of(2023, 1, 1 + i),
+                    i % 2 == 0 ? 30 : 0, i % 2 == 0));
+        }
+        counters.configure(definitions);
+
+        // A few weeks in, so every value has been written at least once
+        scheduler.runTaskTimer(() -> {
+            engine.check();
+            counters.check();
+        }, 0L, 800L);
+        scheduler.advanceTicks(20L * 60 * 60 * 24 * 21);
+
+        dayCounterData = new YamlConfiguration();
+        saved = save();
+    }
+
+    /**
+     * Write the current state into the document and serialize it.
+     *
+     * @return YAML text that would be written to daycounter.yml.
+     */
+    @Benchmark
+    public String save() {
+        for (Map.Entry<String, Object> entry : engine.persistentState().entrySet()) {
+            dayCounterData.set(entry.getKey(), entry.getValue());
+        }
+        for (Map.Entry<String, Object> entry : counters.persistentState().entrySet()) {
+            dayCounterData.set(entry.getKey(), entry.getValue());
+        }
+        return dayCounterData.saveToString();
+    }
+
+    /**
+     * Parse saved YAML and restore the calendar and named counters from it.
+     *
+     * @return restored calendar day counter.
+     * @throws InvalidConfigurationException if the saved text does not parse.
+     */
+    @Benchmark
+    public int load() throws InvalidConfigurationException {
+        YamlConfiguration loaded = new YamlConfiguration();
+        loaded.loadFromString(saved);
+        engine.restoreState(loaded.getValues(false));
+        counters.restoreState(loaded.getValues(true));
+        return engine.getDayCounterValue();
+    }
+}
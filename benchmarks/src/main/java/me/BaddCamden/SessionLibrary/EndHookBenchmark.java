@@ -0,0 +1,82 @@
+package me.BaddCamden.SessionLibrary;
+
+import java.time.Instant;
+import java.util.concurrent.TimeUnit;
+
+import org.bukkit.plugin.Plugin;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import me.BaddCamden.SessionLibrary.hooks.SessionEndHook;
+import me.BaddCamden.SessionLibrary.scheduler.VirtualScheduler;
+
+/**
+ * A full session lifecycle with end hooks registered: start, the end sequence with hook
+ * dispatch, and the end after a one-second grace period. Hooks only observe, so the default
+ * grace timer runs each time.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EndHookBenchmark {
+
+    /** Number of registered end hooks. */
+    @Param({ "0", "1", "4" })
+    public int hooks;
+
+    private final SessionEndHook[] registered = new SessionEndHook[4];
+    private volatile Session lastSession;
+    private Plugin plugin;
+    private VirtualScheduler scheduler;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        plugin = HeadlessServer.install();
+        scheduler = HeadlessServer.start(Instant.parse("2024-01-01T00:00:00Z"));
+        SessionManager.config.set("end-grace-period-seconds", 1);
+        for (int i = 0; i < hooks; i++) {
+            registered[i] = session -> {
+                lastSession = session;
+                return false;
+            };
+            Session.registerEndHook(registered[i]);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        for (SessionEndHook hook : registered) {
+            Session.unregisterEndHook(hook);
+        }
+        SessionManager.config.set("end-grace-period-seconds", null);
+    }
+
+    /**
+     * Start a session, run its end sequence through the grace period, and cancel its timer.
+     *
+     * @return the ended session.
+     */
+    @Benchmark
+    public Session endSequence() {
+        Session session = new Session(plugin, 3600, false);
+        session.start();
+        session.beginEndSequence();
+        scheduler.advanceTicks(21);
+        session.stopSession();
+        return session;
+    }
+}
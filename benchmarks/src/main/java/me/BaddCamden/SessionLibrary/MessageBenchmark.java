@@ -0,0 +1,69 @@
+package me.BaddCamden.SessionLibrary;
+
+import java.time.Instant;
+import java.util.concurrent.TimeUnit;
+
+import org.bukkit.plugin.Plugin;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import me.BaddCamden.SessionLibrary.scheduler.VirtualScheduler;
+
+/**
+ * Countdown message rendering: a session kept inside its final ten seconds, so every second
+ * looks up the {@code messages.session-countdown} template, fills in {@code %seconds%} and
+ * broadcasts it. Broadcasts reach the stand-in server, which only counts them.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MessageBenchmark {
+
+    private static final int SESSION_SECONDS = 10;
+
+    private Plugin plugin;
+    private VirtualScheduler scheduler;
+    private Session session;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        plugin = HeadlessServer.install();
+        scheduler = HeadlessServer.start(Instant.parse("2024-01-01T00:00:00Z"));
+    }
+
+    @Setup(Level.Iteration)
+    public void startSession() {
+        session = new Session(plugin, SESSION_SECONDS, false);
+        session.start();
+    }
+
+    @TearDown(Level.Iteration)
+    public void stopSession() {
+        session.stopSession();
+    }
+
+    /**
+     * One second of countdown that renders and broadcasts a message. The timer is reset before
+     * it reaches zero, so the end sequence never starts.
+     */
+    @Benchmark
+    public void countdownTick() {
+        scheduler.advanceTicks(20);
+        if (session.getTimeLeft() <= 1) {
+            session.reset();
+        }
+    }
+}
@@ -0,0 +1,104 @@
+package me.BaddCamden.SessionLibrary;
+
+import java.time.Instant;
+import java.util.concurrent.TimeUnit;
+
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.plugin.Plugin;
+import org.bukkit.plugin.RegisteredListener;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import me.BaddCamden.SessionLibrary.events.SessionTickEvent;
+import me.BaddCamden.SessionLibrary.hooks.SessionTickListener;
+import me.BaddCamden.SessionLibrary.scheduler.VirtualScheduler;
+
+/**
+ * One second of session countdown: the shared ticker pulse and {@code Session.tick} for every
+ * running session, driven through the virtual scheduler. Sessions are long enough that no
+ * milestone message is reached, so this measures the plain per-second path.
+ * <p>
+ * {@code tick-event} listeners are reached through the stand-in plugin manager, whose reflective
+ * proxy adds a small allocation per event on top of the {@link SessionTickEvent} itself.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SessionTickBenchmark {
+
+    private static final int SESSION_SECONDS = 1_000_000_000;
+
+    /** Number of sessions ticked per second. */
+    @Param({ "1", "8" })
+    public int sessions;
+
+    /** What listens to each tick: nothing, a primitive {@link SessionTickListener}, or a Bukkit listener. */
+    @Param({ "none", "tick-listener", "tick-event" })
+    public String listener;
+
+    private final Listener eventListener = new Listener() {
+    };
+    private final SessionTickListener tickListener = (sessionId, secondsLeft) -> lastSecondsLeft = secondsLeft;
+    private volatile int lastSecondsLeft;
+    private Plugin plugin;
+    private VirtualScheduler scheduler;
+    private Session[] running;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        plugin = HeadlessServer.install();
+        scheduler = HeadlessServer.start(Instant.parse("2024-01-01T00:00:00Z"));
+        if (listener.equals("tick-listener")) {
+            Session.registerTickListener(tickListener);
+        } else if (listener.equals("tick-event")) {
+            SessionTickEvent.getHandlerList().register(new RegisteredListener(eventListener,
+                    (owner, event) -> lastSecondsLeft = ((SessionTickEvent) event).getSecondsLeft(),
+                    EventPriority.MONITOR, plugin, false));
+        }
+    }
+
+    @Setup(Level.Iteration)
+    public void startSessions() {
+        running = new Session[sessions];
+        for (int i = 0; i < sessions; i++) {
+            running[i] = new Session(plugin, SESSION_SECONDS, false);
+            running[i].start();
+        }
+    }
+
+    @TearDown(Level.Iteration)
+    public void stopSessions() {
+        for (Session session : running) {
+            session.stopSession();
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        Session.unregisterTickListener(tickListener);
+        SessionTickEvent.getHandlerList().unregister(eventListener);
+    }
+
+    /**
+     * Advance one second of virtual time, running the ticker pulse once.
+     */
+    @Benchmark
+    public void pulse() {
+        scheduler.advanceTicks(20);
+    }
+}
@@ -0,0 +1,57 @@
+package me.BaddCamden.SessionLibrary;
+
+import static org.openjdk.jcstress.annotations.Expect.ACCEPTABLE;
+import static org.openjdk.jcstress.annotations.Expect.FORBIDDEN;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.openjdk.jcstress.annotations.Actor;
+import org.openjdk.jcstress.annotations.Arbiter;
+import org.openjdk.jcstress.annotations.JCStressTest;
+import org.openjdk.jcstress.annotations.Outcome;
+import org.openjdk.jcstress.annotations.State;
+import org.openjdk.jcstress.infra.results.II_Result;
+
+import me.BaddCamden.SessionLibrary.hooks.SessionEndHook;
+
+/**
+ * An end hook registered while the end sequence is dispatching hooks. Dispatch works on a
+ * snapshot of the registry, so the new hook either sees this end sequence once or not at all,
+ * and registering never disturbs the dispatch in progress.
+ * <p>
+ * Result: calls the new hook received for this session, and end sequence events.
+ */
+@JCStressTest
+@Outcome(id = "0, 1", expect = ACCEPTABLE, desc = "Registered after dispatch took its snapshot.")
+@Outcome(id = "1, 1", expect = ACCEPTABLE, desc = "Registered in time and handled the end sequence.")
+@Outcome(expect = FORBIDDEN, desc = "The hook ran twice, or the end sequence did not run exactly once.")
+@State
+public class EndHookRegistrationTest {
+
+    private final Session session = StressSupport.newSession(3600);
+    private final AtomicInteger hookCalls = new AtomicInteger();
+    // Hooks are global and other instances run at the same time, so only count this session
+    private final SessionEndHook hook = ending -> ending == session && hookCalls.incrementAndGet() > 0;
+
+    public EndHookRegistrationTest() {
+        session.start();
+    }
+
+    @Actor
+    public void beginEndSequence() {
+        session.beginEndSequence();
+    }
+
+    @Actor
+    public void registerHook() {
+        Session.registerEndHook(hook);
+    }
+
+    @Arbiter
+    public void arbiter(II_Result r) {
+        Session.unregisterEndHook(hook);
+        r.r1 = hookCalls.get();
+        r.r2 = StressSupport.counts(session).endSequences.get();
+        StressSupport.release(session);
+    }
+}
@@ -0,0 +1,59 @@
+package me.BaddCamden.SessionLibrary;
+
+import static org.openjdk.jcstress.annotations.Expect.ACCEPTABLE;
+import static org.openjdk.jcstress.annotations.Expect.FORBIDDEN;
+
+import org.openjdk.jcstress.annotations.Actor;
+import org.openjdk.jcstress.annotations.Arbiter;
+import org.openjdk.jcstress.annotations.JCStressTest;
+import org.openjdk.jcstress.annotations.Outcome;
+import org.openjdk.jcstress.annotations.State;
+import org.openjdk.jcstress.infra.results.IIII_Result;
+
+/**
+ * Start, the end sequence, a forced end and a plain end racing on one session. However they
+ * interleave, the run starts once, enters its end sequence once and ends at most once, and an
+ * ended session is no longer running.
+ * <p>
+ * Result: start events, end sequence events, end events, and whether the session is still running.
+ */
+@JCStressTest
+@Outcome(id = "1, 1, 1, 0", expect = ACCEPTABLE, desc = "Ended once, by end() or forceEndNow().")
+@Outcome(id = "1, 1, 0, 1", expect = ACCEPTABLE,
+        desc = "Both ends ran before start; the end sequence waits for its grace period.")
+@Outcome(expect = FORBIDDEN, desc = "A lifecycle event fired twice, or the running flag disagrees with the end.")
+@State
+public class SessionLifecycleRaceTest {
+
+    private final Session session = StressSupport.newSession(3600);
+
+    @Actor
+    public void start() {
+        session.start();
+    }
+
+    @Actor
+    public void beginEndSequence() {
+        session.beginEndSequence();
+    }
+
+    @Actor
+    public void forceEndNow() {
+        session.forceEndNow();
+    }
+
+    @Actor
+    public void end() {
+        session.end();
+    }
+
+    @Arbiter
+    public void arbiter(IIII_Result r) {
+        StressSupport.Counts counts = StressSupport.counts(session);
+        r.r1 = counts.starts.get();
+        r.r2 = counts.endSequences.get();
+        r.r3 = counts.ends.get();
+        r.r4 = session.isRunning() ? 1 : 0;
+        StressSupport.release(session);
+    }
+}
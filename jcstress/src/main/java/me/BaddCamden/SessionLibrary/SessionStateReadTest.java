@@ -0,0 +1,49 @@
+package me.BaddCamden.SessionLibrary;
+
+import static org.openjdk.jcstress.annotations.Expect.ACCEPTABLE;
+import static org.openjdk.jcstress.annotations.Expect.FORBIDDEN;
+
+import org.openjdk.jcstress.annotations.Actor;
+import org.openjdk.jcstress.annotations.Arbiter;
+import org.openjdk.jcstress.annotations.JCStressTest;
+import org.openjdk.jcstress.annotations.Outcome;
+import org.openjdk.jcstress.annotations.State;
+import org.openjdk.jcstress.infra.results.II_Result;
+
+/**
+ * Another thread reading {@code isRunning} and then {@code getTimeLeft} while the main thread
+ * ticks a session once and force-ends it. The countdown is zeroed before the running flag
+ * clears, so a reader that sees the session stopped also sees it at zero.
+ * <p>
+ * Result: whether the reader saw the session running, and the seconds left it read next.
+ */
+@JCStressTest
+@Outcome(id = { "1, 60", "1, 59", "1, 0" }, expect = ACCEPTABLE, desc = "Read while running, before or after each write.")
+@Outcome(id = "0, 0", expect = ACCEPTABLE, desc = "Read after the forced end.")
+@Outcome(expect = FORBIDDEN, desc = "Saw the session stopped but not its zeroed countdown.")
+@State
+public class SessionStateReadTest {
+
+    private final Session session = StressSupport.newSession(60);
+
+    public SessionStateReadTest() {
+        session.start();
+    }
+
+    @Actor
+    public void tickThenForceEnd() {
+        session.tick();
+        session.forceEndNow();
+    }
+
+    @Actor
+    public void reader(II_Result r) {
+        r.r1 = session.isRunning() ? 1 : 0;
+        r.r2 = session.getTimeLeft();
+    }
+
+    @Arbiter
+    public void arbiter() {
+        StressSupport.release(session);
+    }
+}
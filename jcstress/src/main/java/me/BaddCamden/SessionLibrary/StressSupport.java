@@ -0,0 +1,125 @@
+package me.BaddCamden.SessionLibrary;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import org.bukkit.event.Event;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.HandlerList;
+import org.bukkit.event.Listener;
+import org.bukkit.plugin.Plugin;
+import org.bukkit.plugin.RegisteredListener;
+
+import me.BaddCamden.SessionLibrary.events.SessionEndEvent;
+import me.BaddCamden.SessionLibrary.events.SessionEndSequenceStartEvent;
+import me.BaddCamden.SessionLibrary.events.SessionStartEvent;
+import me.BaddCamden.SessionLibrary.scheduler.SessionScheduler;
+import me.BaddCamden.SessionLibrary.scheduler.SessionTask;
+
+/**
+ * Shared setup for the stress tests: the headless server, a scheduler whose timers never fire,
+ * and per-session counts of the lifecycle events. Many test instances run at once, so counts are
+ * kept per session and must be released by each test's arbiter.
+ */
+final class StressSupport {
+
+    static final Plugin PLUGIN = HeadlessServer.install();
+
+    private static final Map<Session, Counts> COUNTS = new ConcurrentHashMap<>();
+    private static final Listener LISTENER = new Listener() {
+    };
+
+    static {
+        SessionManager.setScheduler(new InertScheduler());
+        count(SessionStartEvent.getHandlerList(), SessionStartEvent.class,
+                event -> counts(event.getSession()).starts);
+        count(SessionEndSequenceStartEvent.getHandlerList(), SessionEndSequenceStartEvent.class,
+                event -> counts(event.getSession()).endSequences);
+        count(SessionEndEvent.getHandlerList(), SessionEndEvent.class, event -> counts(event.getSession()).ends);
+    }
+
+    private StressSupport() {
+    }
+
+    /**
+     * Lifecycle events seen for one session.
+     */
+    static final class Counts {
+        final AtomicInteger starts = new AtomicInteger();
+        final AtomicInteger endSequences = new AtomicInteger();
+        final AtomicInteger ends = new AtomicInteger();
+    }
+
+    /**
+     * Create a session whose lifecycle events are counted.
+     *
+     * @param durationSeconds session length.
+     * @return tracked session.
+     */
+    static Session newSession(int durationSeconds) {
+        Session session = new Session(PLUGIN, durationSeconds, false);
+        COUNTS.put(session, new Counts());
+        return session;
+    }
+
+    /**
+     * Event counts for a tracked session.
+     *
+     * @param session tracked session.
+     * @return live counts.
+     */
+    static Counts counts(Session session) {
+        Counts counts = COUNTS.get(session);
+        return counts != null ? counts : new Counts();
+    }
+
+    /**
+     * Stop a session and forget its counts, so finished test instances do not pile up.
+     *
+     * @param session tracked session.
+     */
+    static void release(Session session) {
+        session.stopSession();
+        COUNTS.remove(session);
+    }
+
+    private static <E extends Event> void count(HandlerList handlers, Class<E> type,
+            Function<E, AtomicInteger> counter) {
+        handlers.register(new RegisteredListener(LISTENER,
+                (listener, event) -> counter.apply(type.cast(event)).incrementAndGet(),
+                EventPriority.MONITOR, PLUGIN, false));
+    }
+
+    /**
+     * Thread-safe scheduler that hands out cancellable handles but never runs anything, so
+     * grace timers and the ticker stay out of the way and each outcome comes from the actors alone.
+     */
+    private static final class InertScheduler implements SessionScheduler {
+
+        @Override
+        public SessionTask runTaskLater(Runnable task, long delayTicks) {
+            return new InertTask();
+        }
+
+        @Override
+        public SessionTask runTaskTimer(Runnable task, long delayTicks, long periodTicks) {
+            return new InertTask();
+        }
+    }
+
+    private static final class InertTask implements SessionTask {
+        private volatile boolean cancelled;
+
+        @Override
+        public void cancel() {
+            cancelled = true;
+        }
+
+        @Override
+        public boolean isCancelled() {
+            return cancelled;
+        }
+    }
+}
@@ -0,0 +1,279 @@
+package me.BaddCamden.DayUtils;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.bukkit.Bukkit;
+import org.bukkit.plugin.java.JavaPlugin;
+import org.bukkit.scheduler.BukkitTask;
+
+import me.BaddCamden.SessionLibrary.SessionManager;
+import me.BaddCamden.SessionLibrary.calendar.DayCounterRegistry;
+import me.BaddCamden.SessionLibrary.hooks.DayCounterListener;
+
+/**
+ * Serves the current date, the SessionLibrary day counter, and its named day counters as
+ * pre-rendered strings.
+ * <p>
+ * Values are computed once per local day, when a counter changes, or on reload, and then read
+ * from a single immutable holder, so scoreboards and placeholders can poll them as often as they
+ * like from any thread. A task scheduled at the next local midnight refreshes the date, and a
+ * SessionLibrary counter listener refreshes the counters.
+ */
+public final class DayService {
+
+    // Upper bound on a single wait so tick lag cannot leave the date stale for long
+    private static final long MAX_WAIT_TICKS = 20L * 60L * 60L;
+
+    private final JavaPlugin plugin;
+    private final DayUtilsConfiguration configuration;
+
+    private volatile Rendered rendered;
+    private BukkitTask boundaryTask;
+    private DayCounterListener counterListener;
+
+    /**
+     * Immutable set of values served to readers.
+     *
+     * @param zone           timezone used for the date.
+     * @param localDay       current date in the zone, before the configured offset.
+     * @param date           displayed date with the offset applied.
+     * @param dateText       displayed date formatted as ISO-8601.
+     * @param dateMessage    status line announcing the date.
+     * @param dayCounter     SessionLibrary day counter, or -1 if unavailable.
+     * @param counterMessage status line announcing the counter, or null if unavailable.
+     * @param namedCounters  named counter values in SessionLibrary's order; unmodifiable.
+     * @param namedMessages  status line per named counter, in the same order; unmodifiable.
+     */
+    private record Rendered(ZoneId zone, LocalDate localDay, LocalDate date, String dateText, String dateMessage,
+            int dayCounter, String counterMessage, Map<String, Integer> namedCounters,
+            Map<String, String> namedMessages) {
+    }
+
+    /**
+     * Create a service backed by the given configuration.
+     *
+     * @param plugin        owning plugin used for scheduling.
+     * @param configuration loaded DayUtils configuration.
+     */
+    public DayService(JavaPlugin plugin, DayUtilsConfiguration configuration) {
+        this.plugin = plugin;
+        this.configuration = configuration;
+    }
+
+    /**
+     * Render the initial values, hook into SessionLibrary when present, and schedule the first
+     * day-boundary refresh.
+     */
+    public void start() {
+        reload();
+        if (isSessionLibraryPresent()) {
+            counterListener = new DayCounterListener() {
+                @Override
+                public void onDayCounterChange(int dayCounter) {
+                    Rendered current = rendered;
+                    rendered = render(current.zone(), current.localDay(), dayCounter, current.namedCounters());
+                }
+
+                @Override
+                public void onNamedCounterChange(String name, int value) {
+                    Rendered current = rendered;
+                    Map<String, Integer> named = new LinkedHashMap<>(current.namedCounters());
+                    named.put(name, value);
+                    rendered = render(current.zone(), current.localDay(), current.dayCounter(), named);
+                }
+            };
+            SessionManager.registerDayCounterListener(counterListener);
+        }
+    }
+
+    /**
+     * Cancel the day-boundary task and detach from SessionLibrary.
+     */
+    public void stop() {
+        cancelBoundaryTask();
+        if (counterListener != null) {
+            SessionManager.unregisterDayCounterListener(counterListener);
+            counterListener = null;
+        }
+    }
+
+    /**
+     * Re-read the timezone and offset from the configuration and re-render every value.
+     */
+    public void reload() {
+        ZoneId zone = ZoneId.of(configuration.getTimezoneId());
+        rendered = render(zone, LocalDate.now(zone), fetchDayCounter(), fetchNamedCounters());
+        scheduleBoundaryTask();
+    }
+
+    /**
+     * Displayed date, with the configured day offset applied.
+     *
+     * @return cached date.
+     */
+    public LocalDate getDate() {
+        return rendered.date();
+    }
+
+    /**
+     * Displayed date formatted as ISO-8601.
+     *
+     * @return cached date string.
+     */
+    public String getDateText() {
+        return rendered.dateText();
+    }
+
+    /**
+     * Status line announcing the displayed date and timezone.
+     *
+     * @return cached message.
+     */
+    public String getDateMessage() {
+        return rendered.dateMessage();
+    }
+
+    /**
+     * SessionLibrary day counter as last reported.
+     *
+     * @return cached counter, or -1 if SessionLibrary is unavailable.
+     */
+    public int getDayCounter() {
+        return rendered.dayCounter();
+    }
+
+    /**
+     * Status line announcing the SessionLibrary day counter.
+     *
+     * @return cached message, or null if SessionLibrary is unavailable.
+     */
+    public String getCounterMessage() {
+        return rendered.counterMessage();
+    }
+
+    /**
+     * Value of a SessionLibrary named day counter as last reported.
+     *
+     * @param name counter name.
+     * @return cached value, or -1 if the counter is unknown.
+     */
+    public int getNamedCounter(String name) {
+        Integer value = rendered.namedCounters().get(name);
+        return value != null ? value : -1;
+    }
+
+    /**
+     * Status line announcing a named day counter.
+     *
+     * @param name counter name.
+     * @return cached message, or null if the counter is unknown.
+     */
+    public String getNamedCounterMessage(String name) {
+        return rendered.namedMessages().get(name);
+    }
+
+    /**
+     * Status lines for every named day counter.
+     *
+     * @return unmodifiable map of counter name to cached message.
+     */
+    public Map<String, String> getNamedCounterMessages() {
+        return rendered.namedMessages();
+    }
+
+    /**
+     * Re-render the date if the local day has turned over, then wait for the next boundary.
+     */
+    private void onBoundary() {
+        Rendered current = rendered;
+        LocalDate today = LocalDate.now(current.zone());
+        if (!today.equals(current.localDay())) {
+            rendered = render(current.zone(), today, current.dayCounter(), current.namedCounters());
+        }
+        scheduleBoundaryTask();
+    }
+
+    /**
+     * Schedule {@link #onBoundary()} shortly after the next local midnight, replacing any pending
+     * task. Long waits are split so a lagging tick rate cannot push the refresh far past midnight.
+     */
+    private void scheduleBoundaryTask() {
+        cancelBoundaryTask();
+        ZoneId zone = rendered.zone();
+        ZonedDateTime now = ZonedDateTime.now(zone);
+        ZonedDateTime midnight = now.toLocalDate().plusDays(1).atStartOfDay(zone);
+        long ticks = Duration.between(now, midnight).toMillis() / 50L + 1L;
+        boundaryTask = Bukkit.getScheduler().runTaskLater(plugin, this::onBoundary, Math.min(ticks, MAX_WAIT_TICKS));
+    }
+
+    private void cancelBoundaryTask() {
+        if (boundaryTask != null) {
+            boundaryTask.cancel();
+            boundaryTask = null;
+        }
+    }
+
+    /**
+     * Build the served values for a day and counters.
+     *
+     * @param zone          timezone used for the date.
+     * @param localDay      current date in the zone.
+     * @param dayCounter    SessionLibrary day counter, or -1 if unavailable.
+     * @param namedCounters named counter values; copied.
+     * @return rendered values.
+     */
+    private Rendered render(ZoneId zone, LocalDate localDay, int dayCounter, Map<String, Integer> namedCounters) {
+        LocalDate date = localDay.plusDays(configuration.getDefaultDayOffset());
+        String dateText = date.format(DateTimeFormatter.ISO_LOCAL_DATE);
+        String dateMessage = "§eToday is " + dateText + " (" + zone + ")";
+        String counterMessage = dayCounter >= 0 ? "§7SessionLibrary day counter: " + dayCounter : null;
+        Map<String, String> namedMessages = new LinkedHashMap<>();
+        for (Map.Entry<String, Integer> entry : namedCounters.entrySet()) {
+            namedMessages.put(entry.getKey(), "§7Day counter " + entry.getKey() + ": " + entry.getValue());
+        }
+        return new Rendered(zone, localDay, date, dateText, dateMessage, dayCounter, counterMessage,
+                Collections.unmodifiableMap(new LinkedHashMap<>(namedCounters)),
+                Collections.unmodifiableMap(namedMessages));
+    }
+
+    /**
+     * Attempt to read the day counter from the SessionLibrary plugin.
+     *
+     * @return day counter value, or -1 if unavailable.
+     */
+    private int fetchDayCounter() {
+        if (!isSessionLibraryPresent()) {
+            return -1;
+        }
+        try {
+            return SessionManager.getDayCounterValue();
+        } catch (Exception ex) {
+            plugin.getLogger().warning("Unable to read SessionLibrary day counter: " + ex.getMessage());
+            return -1;
+        }
+    }
+
+    /**
+     * Read every named day counter from the SessionLibrary plugin.
+     *
+     * @return counter values, or an empty map if unavailable.
+     */
+    private Map<String, Integer> fetchNamedCounters() {
+        if (!isSessionLibraryPresent()) {
+            return Collections.emptyMap();
+        }
+        DayCounterRegistry counters = SessionManager.getDayCounters();
+        return counters != null ? counters.getValues() : Collections.emptyMap();
+    }
+
+    private static boolean isSessionLibraryPresent() {
+        return Bukkit.getPluginManager().getPlugin("SessionLibrary") != null;
+    }
+}
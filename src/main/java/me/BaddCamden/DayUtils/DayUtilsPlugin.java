@@ -1,29 +1,26 @@
 package me.BaddCamden.DayUtils;
 
-import java.time.LocalDate;
-import java.time.ZoneId;
-import java.time.format.DateTimeFormatter;
-
 import org.bukkit.Bukkit;
 import org.bukkit.command.Command;
 import org.bukkit.command.CommandSender;
-import org.bukkit.plugin.Plugin;
 import org.bukkit.plugin.java.JavaPlugin;
 
-import me.BaddCamden.SessionLibrary.SessionManager;
-
 public class DayUtilsPlugin extends JavaPlugin {
 
     private DayUtilsConfiguration configuration;
+    private DayService dayService;
 
     /**
-     * Load configuration defaults and prepare the DayUtils configuration helper.
+     * Load configuration defaults, prepare the DayUtils configuration helper, and start the
+     * cached date and counter service.
      */
     @Override
     public void onEnable() {
         saveDefaultConfig();
         configuration = new DayUtilsConfiguration(this);
         configuration.load();
+        dayService = new DayService(this, configuration);
+        dayService.start();
     }
 
     /**
@@ -31,6 +28,9 @@ public class DayUtilsPlugin extends JavaPlugin {
      */
     @Override
     public void onDisable() {
+        if (dayService != null) {
+            dayService.stop();
+        }
         if (configuration != null) {
             configuration.save();
         }
@@ -72,6 +72,7 @@ public class DayUtilsPlugin extends JavaPlugin {
 
         reloadConfig();
         configuration.load();
+        dayService.reload();
         sender.sendMessage("§aDayUtils configuration reloaded.");
         return true;
     }
@@ -88,19 +89,15 @@ public class DayUtilsPlugin extends JavaPlugin {
             return true;
         }
 
-        ZoneId zone = ZoneId.of(configuration.getTimezoneId());
-        LocalDate today = LocalDate.now(zone).plusDays(configuration.getDefaultDayOffset());
-        String message = "§eToday is " + today.format(DateTimeFormatter.ISO_LOCAL_DATE) + " (" + zone + ")";
-
+        String message = dayService.getDateMessage();
         if (configuration.shouldBroadcastStatus()) {
             Bukkit.broadcastMessage(message);
         } else {
             sender.sendMessage(message);
         }
 
-        int dayCounter = fetchDayCounter();
-        if (dayCounter >= 0) {
-            String counterMessage = "§7SessionLibrary day counter: " + dayCounter;
+        String counterMessage = dayService.getCounterMessage();
+        if (counterMessage != null) {
             if (configuration.shouldBroadcastStatus()) {
                 Bukkit.broadcastMessage(counterMessage);
             } else {
@@ -108,24 +105,23 @@ public class DayUtilsPlugin extends JavaPlugin {
             }
         }
 
+        for (String namedMessage : dayService.getNamedCounterMessages().values()) {
+            if (configuration.shouldBroadcastStatus()) {
+                Bukkit.broadcastMessage(namedMessage);
+            } else {
+                sender.sendMessage(namedMessage);
+            }
+        }
+
         return true;
     }
 
     /**
-     * Attempt to read the day counter from the SessionLibrary plugin.
+     * Access the cached date and day counter service, e.g. for scoreboards or placeholders.
      *
-     * @return day counter value, or -1 if unavailable.
+     * @return service, or null before the plugin is enabled.
      */
-    private int fetchDayCounter() {
-        Plugin dependency = Bukkit.getPluginManager().getPlugin("SessionLibrary");
-        if (dependency == null) {
-            return -1;
-        }
-        try {
-            return SessionManager.getDayCounterValue();
-        } catch (Exception ex) {
-            getLogger().warning("Unable to read SessionLibrary day counter: " + ex.getMessage());
-            return -1;
-        }
+    public DayService getDayService() {
+        return dayService;
     }
 }
@@ -1,12 +1,14 @@
 package me.BaddCamden.SessionLibrary;
 
-import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 
 import org.bukkit.Bukkit;
 import org.bukkit.plugin.Plugin;
-import org.bukkit.plugin.java.JavaPlugin;
-import org.bukkit.scheduler.BukkitRunnable;
 
 import me.BaddCamden.SessionLibrary.events.SessionEndEvent;
 import me.BaddCamden.SessionLibrary.events.SessionEndSequenceEndEvent;
@@ -14,22 +16,57 @@ import me.BaddCamden.SessionLibrary.events.SessionEndSequenceStartEvent;
 import me.BaddCamden.SessionLibrary.events.SessionStartEvent;
 import me.BaddCamden.SessionLibrary.events.SessionTickEvent;
 import me.BaddCamden.SessionLibrary.hooks.SessionEndHook;
-
-
+import me.BaddCamden.SessionLibrary.hooks.SessionStateListener;
+import me.BaddCamden.SessionLibrary.hooks.SessionTickListener;
+import me.BaddCamden.SessionLibrary.participation.ParticipationTracker;
+import me.BaddCamden.SessionLibrary.participation.SessionRecord;
+import me.BaddCamden.SessionLibrary.scheduler.SessionTask;
+import me.BaddCamden.SessionLibrary.shutdown.ShutdownOrchestrator;
+
+
+/**
+ * A single timed session.
+ * <p>
+ * Getters may be called from any thread and always return the latest written value.
+ * Lifecycle transitions are guarded so that, however calls race, a run starts once,
+ * enters its end sequence once, and ends once (firing {@link SessionEndEvent} and
+ * incrementing the session count exactly one time). Events are still fired on the
+ * calling thread, so lifecycle methods should be called from the main thread.
+ */
 public class Session {
 
-    // Static registry of end hooks (library-style API)
-    private static final List<SessionEndHook> END_HOOKS = new ArrayList<>();
+    // Static registry of end hooks (library-style API); safe to modify during dispatch
+    private static final CopyOnWriteArrayList<SessionEndHook> END_HOOKS = new CopyOnWriteArrayList<>();
+    private static final CopyOnWriteArrayList<SessionStateListener> STATE_LISTENERS = new CopyOnWriteArrayList<>();
+    private static final AtomicLong NEXT_ID = new AtomicLong(1);
+    // Copy-on-write array rather than a list so the per-second loop needs no iterator
+    private static volatile SessionTickListener[] tickListeners = new SessionTickListener[0];
 
     // Per-session state
+    private final long id = NEXT_ID.getAndIncrement();
     private final Plugin plugin;
     private final int duration; // in seconds
-    private int timeLeft;
-    private boolean running;
-    private boolean endingSequence;
+    private final AtomicInteger timeLeft;
+    private final AtomicBoolean running = new AtomicBoolean(false);
+    private final AtomicBoolean endingSequence = new AtomicBoolean(false);
+    private volatile boolean ended;
     private final boolean autoStartSession; // reserved metadata if you want it
-
-    private BukkitRunnable task;
+    private final SessionTrigger trigger;
+    // Precompiled messages, milestones, grace period, and audience
+    private final SessionProfile profile;
+    // Participation summary, written when the session ends
+    private volatile SessionRecord record;
+    // Grace-period timer of the default end sequence; cancelled when the run is stopped or replaced
+    private volatile SessionTask graceTask;
+    // Incremented by each start so a grace timer from an earlier run cannot end a later one
+    private final AtomicInteger runNumber = new AtomicInteger();
+
+    // Wall-clock instant the countdown is expected to reach zero
+    private volatile long deadlineMillis;
+    // When true, the countdown is derived from a deadline set by another server
+    private volatile boolean followingDeadline;
+    // Countdown held under server load as of the last tick; only touched by the ticker
+    private boolean frozen;
 
     /**
      * Create a new session that can be started, monitored, and ended.
@@ -39,12 +76,37 @@ public class Session {
      * @param autoStart  whether the session was initiated automatically (metadata only).
      */
     public Session(Plugin plugin, int duration, boolean autoStart) {
+        this(plugin, duration, autoStart, autoStart ? SessionTrigger.AUTOSTART : SessionTrigger.MANUAL);
+    }
+
+    /**
+     * Create a new session and record what caused it.
+     *
+     * @param plugin     plugin context used to schedule tasks and fire events.
+     * @param duration   total session length in seconds.
+     * @param autoStart  whether the session was initiated automatically (metadata only).
+     * @param trigger    source of the session, exposed through {@link SessionSnapshot}.
+     */
+    public Session(Plugin plugin, int duration, boolean autoStart, SessionTrigger trigger) {
+        this(plugin, SessionManager.getDefaultProfile(), duration, autoStart, trigger);
+    }
+
+    /**
+     * Create a new session that follows a named profile.
+     *
+     * @param plugin     plugin context used to schedule tasks and fire events.
+     * @param profile    messages, milestones, grace period, and audience for the session.
+     * @param duration   total session length in seconds.
+     * @param autoStart  whether the session was initiated automatically (metadata only).
+     * @param trigger    source of the session, exposed through {@link SessionSnapshot}.
+     */
+    public Session(Plugin plugin, SessionProfile profile, int duration, boolean autoStart, SessionTrigger trigger) {
         this.plugin = plugin;
+        this.profile = profile;
         this.duration = duration;
-        this.timeLeft = duration;
-        this.running = false;
-        this.endingSequence = false;
+        this.timeLeft = new AtomicInteger(duration);
         this.autoStartSession = autoStart;
+        this.trigger = trigger;
     }
 
     // ------------------------------------------------------------------------
@@ -58,8 +120,8 @@ public class Session {
      * @param hook consumer invoked when the end sequence begins.
      */
     public static void registerEndHook(SessionEndHook hook) {
-        if (hook != null && !END_HOOKS.contains(hook)) {
-            END_HOOKS.add(hook);
+        if (hook != null) {
+            END_HOOKS.addIfAbsent(hook);
         }
     }
 
@@ -79,82 +141,180 @@ public class Session {
         END_HOOKS.clear();
     }
 
+    /**
+     * Register a listener notified whenever any session changes phase or deadline.
+     * Duplicate listeners are ignored.
+     *
+     * @param listener listener to add.
+     */
+    public static void registerStateListener(SessionStateListener listener) {
+        if (listener != null) {
+            STATE_LISTENERS.addIfAbsent(listener);
+        }
+    }
+
+    /**
+     * Remove a previously registered state listener.
+     *
+     * @param listener listener to remove.
+     */
+    public static void unregisterStateListener(SessionStateListener listener) {
+        STATE_LISTENERS.remove(listener);
+    }
+
+    /**
+     * Register a primitive per-second callback for every running session. This is cheaper than
+     * listening to {@link SessionTickEvent} because no event object is created or dispatched.
+     * Duplicate listeners are ignored.
+     *
+     * @param listener listener to add.
+     */
+    public static synchronized void registerTickListener(SessionTickListener listener) {
+        if (listener == null) {
+            return;
+        }
+        SessionTickListener[] current = tickListeners;
+        for (SessionTickListener existing : current) {
+            if (existing == listener) {
+                return;
+            }
+        }
+        SessionTickListener[] next = Arrays.copyOf(current, current.length + 1);
+        next[current.length] = listener;
+        tickListeners = next;
+    }
+
+    /**
+     * Remove a previously registered tick listener.
+     *
+     * @param listener listener to remove.
+     */
+    public static synchronized void unregisterTickListener(SessionTickListener listener) {
+        SessionTickListener[] current = tickListeners;
+        for (int i = 0; i < current.length; i++) {
+            if (current[i] == listener) {
+                SessionTickListener[] next = new SessionTickListener[current.length - 1];
+                System.arraycopy(current, 0, next, 0, i);
+                System.arraycopy(current, i + 1, next, i, current.length - i - 1);
+                tickListeners = next;
+                return;
+            }
+        }
+    }
+
     // ------------------------------------------------------------------------
     // Core session logic
     // ------------------------------------------------------------------------
 
     /**
      * Start the session timer and broadcast a start notification.
-     * Any existing task is cancelled before a new one is scheduled.
+     * The countdown is driven by the shared {@link SessionTicker}.
      */
     public void start() {
-        if (running) return;
-        if (task != null) {
-            task.cancel();
+        if (!running.compareAndSet(false, true)) return;
+        cancelGraceTask();
+        runNumber.incrementAndGet();
+        timeLeft.set(duration);
+        endingSequence.set(false);
+        ended = false;
+        frozen = false;
+        if (!followingDeadline) {
+            deadlineMillis = SessionManager.getClock().millis() + duration * 1000L;
         }
-        timeLeft = duration;
-        running = true;
-        endingSequence = false;
 
-        Bukkit.getPluginManager().callEvent(new SessionStartEvent(this));
+        ParticipationTracker participation = SessionManager.getParticipationTracker();
+        if (participation != null) {
+            participation.open(this);
+        }
 
-        broadcastMessage(SessionManager.config.getString(
-                "messages.session-start", "Session started!"));
+        SessionManager.getProfiler().callEvent(new SessionStartEvent(this));
+        notifyStateListeners();
 
-        task = new BukkitRunnable() {
-            @Override
-            public void run() {
-                tick();
-            }
-        };
-        task.runTaskTimer(plugin, 20L, 20L); // every second
+        broadcastMessage(profile.getStartMessage());
+
+        SessionTicker.get().add(this);
     }
 
     /**
      * Advance the timer by one second, emitting warnings and triggering the end sequence when needed.
+     * Called by {@link SessionTicker}.
+     *
+     * @return false when the session was no longer running and did not tick.
      */
-    private void tick() {
-        if (!running) return;
+    boolean tick() {
+        if (!running.get()) return false;
+        if (!followingDeadline && SessionManager.isCountdownFrozen()) {
+            // Hold the countdown under heavy load; the pushed deadline reaches followers on the
+            // freeze itself and with each sync heartbeat
+            deadlineMillis = SessionManager.getClock().millis() + timeLeft.get() * 1000L;
+            if (!frozen) {
+                frozen = true;
+                notifyStateListeners();
+            }
+            return true;
+        }
+        if (frozen) {
+            // Thawed: publish the deadline the countdown resumes from
+            frozen = false;
+            deadlineMillis = SessionManager.getClock().millis() + timeLeft.get() * 1000L;
+            notifyStateListeners();
+        }
 
-        timeLeft--;
+        if (!followingDeadline && !profile.isAutoEnd() && this.timeLeft.get() <= 0) {
+            // Open-ended profile: hold at zero until the session is ended explicitly
+            return true;
+        }
+        long now = SessionManager.getClock().millis();
+        if (followingDeadline) {
+            // Land on the remote timeline; the decrement below yields the remaining seconds
+            this.timeLeft.set(secondsUntil(deadlineMillis, now) + 1);
+        }
+        int timeLeft = this.timeLeft.decrementAndGet();
+        if (!followingDeadline && Math.abs(now + timeLeft * 1000L - deadlineMillis) > 1000L) {
+            // Lag stretched the countdown; move the published deadline with it
+            deadlineMillis = now + timeLeft * 1000L;
+            notifyStateListeners();
+        }
 
         // Halfway message
-        if (timeLeft == duration / 2) {
-            broadcastMessage(SessionManager.config.getString(
-                    "messages.session-halfway", "Session is halfway!"));
+        if (timeLeft == duration / 2 && profile.getHalfwayMessage() != null) {
+            broadcastMessage(profile.getHalfwayMessage());
         }
 
-        // Last 10 minutes warning
-        if (timeLeft == 600) {
-            broadcastMessage(SessionManager.config.getString(
-                    "messages.session-last-10", "10 minutes left!"));
+        // Profile milestones, e.g. the last 10 minutes, last minute, and last 30 seconds
+        String message = profile.milestoneMessage(timeLeft);
+        if (message != null) {
+            broadcastMessage(message);
         }
 
-        // Last minute warnings
-        if (timeLeft == 60) {
-            broadcastMessage(SessionManager.config.getString(
-                    "messages.session-last-60", "1 minute left!"));
-        }
-        if (timeLeft == 30) {
-            broadcastMessage(SessionManager.config.getString(
-                    "messages.session-last-30", "30 seconds left!"));
+        // Final countdown
+        message = profile.countdownMessage(timeLeft);
+        if (message != null) {
+            broadcastMessage(message);
         }
 
-        // Final 10-second countdown
-        if (timeLeft <= 10 && timeLeft > 0) {
-            String msg = SessionManager.config.getString(
-                    "messages.session-countdown",
-                    "Countdown: %seconds% seconds");
-            broadcastMessage(msg.replace("%seconds%", String.valueOf(timeLeft)));
+        // End session when timer hits zero, once gating lifecycle work for the run has drained
+        if (timeLeft <= 0 && profile.isAutoEnd()) {
+            SessionManager.getLifecycleExecutor().afterDrain(this, SessionPhase.RUNNING, this::beginEndSequence);
         }
 
-        // End session when timer hits zero
-        if (timeLeft <= 0) {
-            beginEndSequence();
+        // Primitive listeners first: no event object, no reflective dispatch
+        SessionTickListener[] listeners = tickListeners;
+        for (int i = 0; i < listeners.length; i++) {
+            try {
+                listeners[i].onTick(id, timeLeft);
+            } catch (Exception ex) {
+                Bukkit.getLogger().warning("[SessionManager] SessionTickListener threw an exception:");
+                ex.printStackTrace();
+            }
         }
 
-        // Tick event for other plugins
-        Bukkit.getPluginManager().callEvent(new SessionTickEvent(this, timeLeft));
+        // Tick event for other plugins; skipped entirely when nobody listens
+        if (SessionTickEvent.getHandlerList().getRegisteredListeners().length == 0) {
+            return true;
+        }
+        SessionManager.getProfiler().callEvent(new SessionTickEvent(this, timeLeft));
+        return true;
     }
 
     /**
@@ -162,21 +322,18 @@ public class Session {
      * Other plugins can invoke this to bypass waiting for the timer to expire.
      */
     public void beginEndSequence() {
-        if (endingSequence) return;
-        endingSequence = true;
+        if (!endingSequence.compareAndSet(false, true)) return;
+        notifyStateListeners();
 
-        int graceSeconds = Math.max(1, SessionManager.config.getInt("end-grace-period-seconds", 60));
-        broadcastMessage(SessionManager.config.getString(
-                "messages.session-ending",
-                "Session has ended. Please log off within %seconds% seconds.")
-                .replace("%seconds%", String.valueOf(graceSeconds)));
+        int graceSeconds = profile.getGraceSeconds();
+        broadcastMessage(profile.getEndingMessage());
 
-        Bukkit.getPluginManager().callEvent(new SessionEndSequenceStartEvent(this));
+        SessionManager.getProfiler().callEvent(new SessionEndSequenceStartEvent(this));
 
         // Let hooks handle custom end behavior first
-        for (SessionEndHook hook : new ArrayList<>(END_HOOKS)) {
+        for (SessionEndHook hook : END_HOOKS) {
             try {
-                boolean handled = hook.handleEndSequence(this);
+                boolean handled = SessionManager.getProfiler().runEndHook(hook, this);
                 if (handled) {
                     // A hook has fully handled logic (including shutdown?)
                     return;
@@ -187,91 +344,197 @@ public class Session {
             }
         }
 
-        // Default logic: countdown grace period then end()
-        new BukkitRunnable() {
-            int endTimer = graceSeconds;
-
-            @Override
-            public void run() {
-                if (endTimer <= 0) {
+        // Default logic: countdown grace period, wait for gating lifecycle work, then end()
+        int run = runNumber.get();
+        graceTask = SessionManager.getScheduler().runTaskLater(() -> SessionManager.getLifecycleExecutor().afterDrain(
+                this, SessionPhase.ENDING, () -> {
+                    if (runNumber.get() != run || !endingSequence.get()) {
+                        // Stopped or restarted while the grace period ran
+                        return;
+                    }
                     end();
-                    Bukkit.getPluginManager().callEvent(
-                            new SessionEndSequenceEndEvent(Session.this));
-                    cancel();
-                    return;
-                }
-                endTimer--;
-            }
-        }.runTaskTimer(plugin, 0L, 20L);
+                    SessionManager.getProfiler().callEvent(new SessionEndSequenceEndEvent(this));
+                }), graceSeconds * 20L);
+    }
+
+    /**
+     * Cancel the pending grace-period timer, if any.
+     */
+    private void cancelGraceTask() {
+        SessionTask task = graceTask;
+        if (task != null) {
+            task.cancel();
+            graceTask = null;
+        }
     }
 
     /**
      * Immediately terminate the session, bypassing the grace period countdown.
      */
     public void forceEndNow() {
-        if (!running) return;
-        if (task != null) task.cancel();
-        timeLeft = 0;
-        endingSequence = false;
+        if (!running.get()) return;
+        SessionTicker.get().remove(this);
+        cancelGraceTask();
+        timeLeft.set(0);
+        endingSequence.set(false);
         end();
     }
 
     /**
      * Finalize the session by stopping timers, emitting the end event, and incrementing the counter.
+     * Only the first call for a running session has any effect.
      */
     public void end() {
-        running = false;
+        if (!running.compareAndSet(true, false)) return;
+        ended = true;
+        SessionTicker.get().remove(this);
+        ParticipationTracker participation = SessionManager.getParticipationTracker();
+        if (participation != null) {
+            record = participation.close(this);
+        }
+        notifyStateListeners();
 
-        Bukkit.getPluginManager().callEvent(new SessionEndEvent(this));
+        SessionManager.getProfiler().callEvent(new SessionEndEvent(this));
 
-        broadcastMessage(SessionManager.config.getString(
-                "messages.session-end", "Session ended!"));
+        broadcastMessage(profile.getEndMessage());
 
         // Increment consecutive session count
-        SessionManager.sessionCount++;
+        SessionManager.incrementSessionCount();
 
-        // Schedule server shutdown (1 second later so messages flush)
-        //Bukkit.getScheduler().runTaskLater(plugin, Bukkit::shutdown, 20L);
+        // Hand over to the staged shutdown pipeline once gating ENDED work has drained
+        ShutdownOrchestrator shutdown = SessionManager.getShutdownOrchestrator();
+        if (shutdown != null) {
+            SessionManager.getLifecycleExecutor().afterDrain(this, SessionPhase.ENDED, () -> shutdown.begin(this));
+        }
     }
 
     /**
      * Cancel any running task and restore the timer to its initial state without firing events.
      */
     public void stopSession() {
-        if (task != null) task.cancel();
-        running = false;
-        endingSequence = false;
-        timeLeft = duration;
+        SessionTicker.get().remove(this);
+        cancelGraceTask();
+        ParticipationTracker participation = SessionManager.getParticipationTracker();
+        if (participation != null) {
+            participation.discard(this);
+        }
+        running.set(false);
+        endingSequence.set(false);
+        ended = false;
+        timeLeft.set(duration);
+        notifyStateListeners();
     }
 
     /**
      * Reset the timer to the full duration while leaving the running state unchanged.
      */
     public void reset() {
-        timeLeft = duration;
+        timeLeft.set(duration);
+        if (!followingDeadline) {
+            deadlineMillis = SessionManager.getClock().millis() + duration * 1000L;
+        }
+        notifyStateListeners();
+    }
+
+    /**
+     * Drive this session's countdown from a deadline published by another server instead of
+     * counting ticks locally. Can be called before or after {@link #start()}.
+     *
+     * @param deadlineMillis epoch millis at which the countdown reaches zero.
+     */
+    public void followDeadline(long deadlineMillis) {
+        this.followingDeadline = true;
+        this.deadlineMillis = deadlineMillis;
+        timeLeft.set(secondsUntil(deadlineMillis, SessionManager.getClock().millis()));
+        notifyStateListeners();
     }
 
     /**
-     * Broadcast a message to all players if the text is present.
+     * Whole seconds remaining until a deadline, rounded up and never negative.
+     *
+     * @param deadline epoch millis deadline.
+     * @param now      current epoch millis.
+     * @return remaining seconds.
+     */
+    private static int secondsUntil(long deadline, long now) {
+        return (int) Math.max(0L, (deadline - now + 999L) / 1000L);
+    }
+
+    /**
+     * Inform registered state listeners that this session changed phase or deadline.
+     */
+    private void notifyStateListeners() {
+        SessionManager.publishSnapshot(this);
+        for (SessionStateListener listener : STATE_LISTENERS) {
+            try {
+                listener.onStateChange(this);
+            } catch (Exception ex) {
+                Bukkit.getLogger().warning("[SessionManager] SessionStateListener threw an exception:");
+                ex.printStackTrace();
+            }
+        }
+    }
+
+    /**
+     * Broadcast a message to the profile's audience if the text is present.
      *
      * @param message text to broadcast; ignored if null or empty.
      */
     private void broadcastMessage(String message) {
         if (message == null || message.isEmpty()) return;
-        Bukkit.getServer().broadcastMessage(message);
+        SessionManager.broadcast(message, profile.getAudience());
     }
 
     // ------------------------------------------------------------------------
     // Getters for other plugins
     // ------------------------------------------------------------------------
 
+    /**
+     * Identifier unique to this session within the running server.
+     *
+     * @return session id.
+     */
+    public long getId() {
+        return id;
+    }
+
+    /**
+     * Determine the current lifecycle phase.
+     *
+     * @return phase derived from the running, ending, and ended flags.
+     */
+    public SessionPhase getPhase() {
+        if (running.get()) {
+            return endingSequence.get() ? SessionPhase.ENDING : SessionPhase.RUNNING;
+        }
+        return ended ? SessionPhase.ENDED : SessionPhase.IDLE;
+    }
+
+    /**
+     * Wall-clock instant at which the countdown is expected to reach zero.
+     *
+     * @return epoch millis deadline, or 0 if the session has never started.
+     */
+    public long getDeadlineMillis() {
+        return deadlineMillis;
+    }
+
+    /**
+     * Check whether this session mirrors a deadline published by another server.
+     *
+     * @return true when the countdown follows a remote deadline.
+     */
+    public boolean isFollowingDeadline() {
+        return followingDeadline;
+    }
+
     /**
      * Retrieve the remaining seconds before the end sequence is triggered.
      *
      * @return seconds left in the session countdown.
      */
     public int getTimeLeft() {
-        return timeLeft;
+        return timeLeft.get();
     }
 
     /**
@@ -289,7 +552,7 @@ public class Session {
      * @return true when the timer is running.
      */
     public boolean isRunning() {
-        return running;
+        return running.get();
     }
 
     /**
@@ -298,7 +561,7 @@ public class Session {
      * @return true when the session is in its shutdown grace period.
      */
     public boolean isEndingSequence() {
-        return endingSequence;
+        return endingSequence.get();
     }
 
     /**
@@ -309,4 +572,32 @@ public class Session {
     public boolean isAutoStartSession() {
         return autoStartSession;
     }
+
+    /**
+     * Identify what created this session.
+     *
+     * @return trigger source.
+     */
+    public SessionTrigger getTrigger() {
+        return trigger;
+    }
+
+    /**
+     * Profile the session follows.
+     *
+     * @return compiled profile.
+     */
+    public SessionProfile getProfile() {
+        return profile;
+    }
+
+    /**
+     * Access who took part in this session and for how long.
+     *
+     * @return record written by {@link #end()}, or null before the session ends or when
+     *         participation tracking is disabled.
+     */
+    public SessionRecord getRecord() {
+        return record;
+    }
 }
\ No newline at end of file
@@ -2,119 +2,242 @@ package me.BaddCamden.SessionLibrary;
 
 import java.io.File;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.time.Clock;
 import java.time.DayOfWeek;
+import java.time.Instant;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
 import java.time.ZoneId;
 import java.time.ZonedDateTime;
 import java.time.format.DateTimeFormatter;
-import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Supplier;
+import java.util.logging.Level;
 import java.util.stream.Collectors;
 
 import org.bukkit.Bukkit;
+import org.bukkit.configuration.ConfigurationSection;
+import org.bukkit.entity.Player;
 import org.bukkit.configuration.file.FileConfiguration;
 import org.bukkit.configuration.file.YamlConfiguration;
+import org.bukkit.plugin.ServicePriority;
 import org.bukkit.plugin.java.JavaPlugin;
-import org.bukkit.scheduler.BukkitRunnable;
 
+import me.BaddCamden.SessionLibrary.calendar.CalendarEngine;
+import me.BaddCamden.SessionLibrary.calendar.DayCalendar;
+import me.BaddCamden.SessionLibrary.calendar.DayCounterRegistry;
+import me.BaddCamden.SessionLibrary.calendar.ForecastEntry;
+import me.BaddCamden.SessionLibrary.calendar.ScheduleForecaster;
 import me.BaddCamden.SessionLibrary.commands.SessionCommand;
+import me.BaddCamden.SessionLibrary.events.DayCounterTargetEvent;
 import me.BaddCamden.SessionLibrary.events.SessionAutostartEvent;
+import me.BaddCamden.SessionLibrary.hooks.DayChangeListener;
+import me.BaddCamden.SessionLibrary.hooks.DayCounterListener;
+import me.BaddCamden.SessionLibrary.lifecycle.LifecycleTaskExecutor;
+import me.BaddCamden.SessionLibrary.load.LoadGovernor;
+import me.BaddCamden.SessionLibrary.participation.ParticipationTracker;
+import me.BaddCamden.SessionLibrary.playtime.PlaytimeQuotaManager;
+import me.BaddCamden.SessionLibrary.playtime.PlaytimeStore;
+import me.BaddCamden.SessionLibrary.profiling.SessionProfiler;
+import me.BaddCamden.SessionLibrary.profiling.StartupTimings;
+import me.BaddCamden.SessionLibrary.scheduler.BukkitSessionScheduler;
+import me.BaddCamden.SessionLibrary.scheduler.FoliaSessionScheduler;
+import me.BaddCamden.SessionLibrary.scheduler.SessionScheduler;
+import me.BaddCamden.SessionLibrary.scheduler.ServerScheduler;
+import me.BaddCamden.SessionLibrary.scheduler.SessionTask;
+import me.BaddCamden.SessionLibrary.service.QueuedSessionService;
+import me.BaddCamden.SessionLibrary.service.SessionService;
+import me.BaddCamden.SessionLibrary.shutdown.ShutdownOrchestrator;
+import me.BaddCamden.SessionLibrary.status.StatusServer;
+import me.BaddCamden.SessionLibrary.sync.BungeeCordTransport;
+import me.BaddCamden.SessionLibrary.sync.FileLeaseElection;
+import me.BaddCamden.SessionLibrary.sync.LoopbackTransport;
+import me.BaddCamden.SessionLibrary.sync.SessionSyncService;
+import me.BaddCamden.SessionLibrary.sync.SessionSyncTransport;
 
 public class SessionManager extends JavaPlugin {
 
     // Singleton instance for easy access from other classes
-    private static SessionManager instance;
+    private static volatile SessionManager instance;
 
-    // Static configuration/data (loaded once, reused)
-    public static FileConfiguration config;
-    public static FileConfiguration data;
-    public static File dataFile;
-    public static FileConfiguration dayCounterData;
-    public static File dayCounterFile;
+    // Listener/hook profiler; dispatches straight to Bukkit until enabled in config
+    private static final SessionProfiler profiler = new SessionProfiler();
+
+    // Runs phase-bound integration work a few steps per tick; idle until work is submitted
+    private static final LifecycleTaskExecutor lifecycleExecutor = new LifecycleTaskExecutor();
+
+    // Static configuration/data (loaded once, reused). All public fields are volatile so
+    // async readers see the latest write; compound updates go through the static helpers.
+    public static volatile FileConfiguration config;
+    public static volatile FileConfiguration data;
+    public static volatile File dataFile;
+    public static volatile FileConfiguration dayCounterData;
+    public static volatile File dayCounterFile;
 
     // Session variables
-    public static Session currentSession;
+    public static volatile Session currentSession;
 
     // Session data in memory
-    public static int sessionCount;
-    public static boolean autostart;
-    public static int autostartBuffer;
-    public static int defaultDuration;
-    public static boolean scheduledStartEnabled;
-    public static LocalDateTime scheduledStartDateTime;
-    public static ZoneId scheduledStartZone;
-    public static boolean calendarAutoSessionEnabled;
-    public static String calendarMode;
-    public static ZoneId calendarZone;
-    public static LocalDateTime calendarSpecificDateTime;
-    public static LocalTime calendarDailyTime;
-    public static Set<DayOfWeek> calendarWeekdays;
-    public static Set<Integer> calendarMonthDays;
-    public static Set<Integer> calendarYearDays;
-    public static int calendarCustomCounterTarget;
-    public static int calendarDurationOverride;
-    public static boolean calendarAutoEnd;
-
-    private BukkitRunnable scheduledStartMonitor;
+    public static volatile int sessionCount;
+    public static volatile boolean autostart;
+    public static volatile int autostartBuffer;
+    public static volatile int defaultDuration;
+    public static volatile boolean scheduledStartEnabled;
+    public static volatile LocalDateTime scheduledStartDateTime;
+    public static volatile ZoneId scheduledStartZone;
+    public static volatile boolean calendarAutoSessionEnabled;
+    public static volatile String calendarMode;
+    public static volatile ZoneId calendarZone;
+    public static volatile LocalDateTime calendarSpecificDateTime;
+    public static volatile LocalTime calendarDailyTime;
+    public static volatile Set<DayOfWeek> calendarWeekdays;
+    public static volatile Set<Integer> calendarMonthDays;
+    public static volatile Set<Integer> calendarYearDays;
+    public static volatile int calendarCustomCounterTarget;
+    public static volatile int calendarDurationOverride;
+    public static volatile boolean calendarAutoEnd;
+    public static volatile String calendarProfile;
+
+    // Session profiles compiled from config; replaced as a whole on load
+    private static volatile SessionProfile defaultProfile = SessionProfile.BUILT_IN;
+    private static volatile Map<String, SessionProfile> profiles = Collections.emptyMap();
+
+    // Time and scheduling sources; replaceable for headless runs
+    private static volatile Clock clock = Clock.systemDefaultZone();
+    private static volatile SessionScheduler scheduler;
+
+    // True when running on Folia's region-threaded server
+    private static volatile boolean folia;
+
+    // Cross-server sync; null unless enabled in config
+    private static volatile SessionSyncService syncService;
+
+    // Leader election among co-hosted servers; null unless enabled in config
+    private static volatile FileLeaseElection leaseElection;
+
+    // Embedded HTTP status endpoint; null unless enabled in config
+    private static volatile StatusServer statusServer;
+
+    // Notified when the day counter crosses a day boundary; safe to modify during dispatch
+    private static final CopyOnWriteArrayList<DayChangeListener> DAY_CHANGE_LISTENERS = new CopyOnWriteArrayList<>();
+
+    // Notified whenever a published snapshot carries a different day counter value
+    private static final CopyOnWriteArrayList<DayCounterListener> DAY_COUNTER_LISTENERS = new CopyOnWriteArrayList<>();
+
+    // Defers triggers and freezes countdowns under load; null unless enabled in config
+    private static volatile LoadGovernor loadGovernor;
+
+    // Announces scheduled and calendar starts ahead of time; null when the lead time is 0
+    private static volatile SessionWarmup warmup;
+
+    // Per-session participation accounting and leaderboards; null unless enabled in config
+    private static volatile ParticipationTracker participationTracker;
+
+    // Staged kick/save/shutdown pipeline run when a session ends; null unless enabled in config
+    private static volatile ShutdownOrchestrator shutdownOrchestrator;
+
+    // Thread-safe control API drained once per tick; null while disabled
+    private static volatile QueuedSessionService sessionService;
+
+    // Per-player daily playtime quotas; null unless enabled in config
+    private static volatile PlaytimeQuotaManager playtimeQuotas;
+
+    // Latest immutable view of session and counters, replaced on every state change
+    private static volatile SessionSnapshot snapshot = new SessionSnapshot(-1L, SessionPhase.IDLE, 0, 0L, 0, null, 0, 0);
+
+    private SessionTask scheduledStartMonitor;
     private boolean scheduledStartTriggered;
-    private BukkitRunnable calendarMonitor;
-    private boolean calendarSpecificTriggered;
-    private LocalDate lastCalendarTriggerDate;
-    private int lastCounterTriggerValue;
-    private LocalDate counterLastUpdatedDate;
-    private int dayCounterValue;
+    private SessionTask calendarMonitor;
+    // Set when the next calendar eligibility should be logged after the monitor's next check
+    private boolean logNextEligibility;
+    private final CalendarEngine calendarEngine = new CalendarEngine(clock);
+    private final DayCounterRegistry dayCounters = new DayCounterRegistry(clock);
+    private final ScheduleForecaster forecaster = new ScheduleForecaster();
+
+    /**
+     * State a schedule forecast is computed from; an equal key means the cached forecast applies.
+     */
+    private record ForecastKey(long calendarRevision, long counterRevision, Instant scheduledStart,
+            int scheduledDuration, int calendarDuration) {
+    }
 
     /**
      * Initialize plugin state, load configuration files, and register commands and tasks.
+     * The data files are parsed in parallel off the main thread while settings, the command, and
+     * the API are set up; enable only waits for them right before the first step that reads them.
      */
     @Override
     public void onEnable() {
+        StartupTimings timings = new StartupTimings();
         instance = this;
-
-        // Load default config (copies from jar if not present)
-        saveDefaultConfig();
-        config = getConfig();
-
-        // Load data file (sessiondata.yml) once
-        dataFile = new File(getDataFolder(), "sessiondata.yml");
-        if (!dataFile.exists()) {
+        folia = FoliaSessionScheduler.isFolia();
+        if (folia) {
             try {
-                dataFile.getParentFile().mkdirs();
-                dataFile.createNewFile();
-            } catch (IOException e) {
-                getLogger().severe("Could not create sessiondata.yml");
-                e.printStackTrace();
+                scheduler = new FoliaSessionScheduler(this);
+            } catch (ReflectiveOperationException e) {
+                throw new IllegalStateException("Folia detected but its scheduler API could not be loaded", e);
             }
+            getLogger().info("Folia detected; using the global region, entity, and async schedulers.");
+        } else {
+            scheduler = new BukkitSessionScheduler(this);
         }
-        data = YamlConfiguration.loadConfiguration(dataFile);
+        calendarEngine.setClock(clock);
+        calendarEngine.setSessionActive(SessionManager::hasActiveSession);
+        calendarEngine.setTrigger(this::triggerCalendarSession);
+        calendarEngine.setPersistCallback(this::saveDayCounter);
+        calendarEngine.setDayChangeCallback(SessionManager::notifyDayChange);
+        dayCounters.setClock(clock);
+        dayCounters.setPersistCallback(this::saveDayCounter);
+        dayCounters.setChangeCallback(SessionManager::notifyNamedCounterChange);
+        dayCounters.setTargetCallback(this::onNamedCounterTarget);
 
-        // Load day counter file (daycounter.yml)
-        dayCounterFile = new File(getDataFolder(), "daycounter.yml");
-        if (!dayCounterFile.exists()) {
-            try {
-                dayCounterFile.getParentFile().mkdirs();
-                dayCounterFile.createNewFile();
-            } catch (IOException e) {
-                getLogger().severe("Could not create daycounter.yml");
-                e.printStackTrace();
-            }
-        }
-        dayCounterData = YamlConfiguration.loadConfiguration(dayCounterFile);
+        // Load default config (copies from jar if not present)
+        saveDefaultConfig();
+        config = getConfig();
+        timings.mark("config");
+
+        // Parse the data files in parallel while the rest of enable runs.
+        // daycounter.yml is shared with the other servers when electing a leader.
+        dataFile = createIfMissing(new File(getDataFolder(), "sessiondata.yml"));
+        dayCounterFile = createIfMissing(new File(getTriggerStateFolder(), "daycounter.yml"));
+        CompletableFuture<YamlConfiguration> dataLoad = parseAsync(dataFile, timings);
+        CompletableFuture<YamlConfiguration> dayCounterLoad = parseAsync(dayCounterFile, timings);
+        File participationFile = new File(getDataFolder(), "participation.yml");
+        CompletableFuture<YamlConfiguration> participationLoad = config.getBoolean("participation.enabled", false)
+                ? CompletableFuture.supplyAsync(() -> timed(timings, participationFile.getName(),
+                        () -> ParticipationTracker.read(participationFile)))
+                : CompletableFuture.completedFuture(null);
 
         // Load static values (in-memory only)
-        sessionCount = data.getInt("session-count", 0);
         defaultDuration = config.getInt("session-duration", 3600);
         autostart = config.getBoolean("autostart", false);
         autostartBuffer = config.getInt("autostart-buffer", 60);
         scheduledStartEnabled = config.getBoolean("scheduled-start.enabled", false);
         scheduledStartDateTime = parseScheduledDate(config.getString("scheduled-start.datetime", ""));
         scheduledStartZone = parseZoneId(config.getString("scheduled-start.timezone", ZoneId.systemDefault().getId()));
+        loadProfiles();
         loadCalendarConfig();
-        loadDayCounter();
+        loadNamedCounters();
+        profiler.configure(
+                config.getBoolean("profiler.enabled", false),
+                config.getDouble("profiler.event-budget-ms", 5.0),
+                config.getInt("profiler.window-size", 200),
+                getLogger());
+        lifecycleExecutor.configure(config.getDouble("lifecycle-tasks.tick-budget-ms", 5.0));
+        Session.registerStateListener(lifecycleExecutor);
+        timings.mark("settings");
 
         // Register command
         if (getCommand("session") != null) {
@@ -125,16 +248,28 @@ public class SessionManager extends JavaPlugin {
             getLogger().severe("Command 'session' not found in plugin.yml!");
         }
 
+        startSessionService();
+        timings.mark("command and API");
+
+        // Everything below reads the data files
+        data = dataLoad.join();
+        dayCounterData = dayCounterLoad.join();
+        timings.mark("waiting for data");
+        sessionCount = data.getInt("session-count", 0);
+        loadDayCounter();
+        publishSnapshot();
+        timings.mark("day counters");
+
         getLogger().info("SessionManager enabled. Current session count: " + sessionCount);
 
+        startLoadGovernor();
+        startParticipationTracker(participationFile, participationLoad.join());
+        startSyncService();
+        startLeaseElection();
+
         // Auto-start session if enabled (with buffer)
         if (autostart) {
-            Bukkit.getScheduler().runTaskLater(this, () -> {
-                currentSession = new Session(this, defaultDuration, true);
-                // Fire autostart event so other plugins can react
-                Bukkit.getPluginManager().callEvent(new SessionAutostartEvent(currentSession));
-                currentSession.start();
-            }, autostartBuffer * 20L); // seconds -> ticks
+            scheduler.runTaskLater(this::runAutostart, autostartBuffer * 20L); // seconds -> ticks
         }
 
         // Schedule specific start date/time if configured
@@ -145,6 +280,60 @@ public class SessionManager extends JavaPlugin {
         }
 
         startCalendarMonitor();
+        startWarmup();
+        startShutdownOrchestrator();
+        startStatusServer();
+        startPlaytimeQuotas();
+        timings.mark("services");
+
+        getLogger().info(timings.summary());
+    }
+
+    /**
+     * Create an empty data file, and its folder, if it does not exist yet.
+     *
+     * @param file data file.
+     * @return the same file.
+     */
+    private File createIfMissing(File file) {
+        if (!file.exists()) {
+            try {
+                file.getParentFile().mkdirs();
+                file.createNewFile();
+            } catch (IOException e) {
+                getLogger().severe("Could not create " + file.getName());
+                e.printStackTrace();
+            }
+        }
+        return file;
+    }
+
+    /**
+     * Parse a YAML data file on a pool thread.
+     *
+     * @param file    file to parse.
+     * @param timings startup timings receiving the parse time.
+     * @return future completed with the parsed file.
+     */
+    private static CompletableFuture<YamlConfiguration> parseAsync(File file, StartupTimings timings) {
+        return CompletableFuture.supplyAsync(() -> timed(timings, file.getName(),
+                () -> YamlConfiguration.loadConfiguration(file)));
+    }
+
+    /**
+     * Run a parse step and record how long it took.
+     *
+     * @param timings startup timings.
+     * @param name    name recorded for the step.
+     * @param parse   parse step.
+     * @return the step's result.
+     */
+    private static YamlConfiguration timed(StartupTimings timings, String name,
+            Supplier<YamlConfiguration> parse) {
+        long start = System.nanoTime();
+        YamlConfiguration result = parse.get();
+        timings.record(name, System.nanoTime() - start);
+        return result;
     }
 
     /**
@@ -152,14 +341,46 @@ public class SessionManager extends JavaPlugin {
      */
     @Override
     public void onDisable() {
-        // Save in-memory session count to data file
-        data.set("session-count", sessionCount);
-        try {
-            data.save(dataFile);
-        } catch (IOException e) {
-            e.printStackTrace();
+        // Refuse remote commands before anything they could touch is torn down
+        if (sessionService != null) {
+            Bukkit.getServicesManager().unregisterAll(this);
+            sessionService.stop();
+            sessionService = null;
+        }
+
+        if (warmup != null) {
+            warmup.stop();
+            warmup = null;
+        }
+
+        if (loadGovernor != null) {
+            loadGovernor.stop();
+            loadGovernor = null;
+        }
+
+        if (playtimeQuotas != null) {
+            playtimeQuotas.stop();
+            playtimeQuotas = null;
+        }
+
+        if (statusServer != null) {
+            statusServer.stop();
+            statusServer = null;
         }
 
+        // Leave the network first so stopping the local session is not broadcast to followers
+        if (syncService != null) {
+            syncService.stop();
+            syncService = null;
+        }
+
+        if (shutdownOrchestrator != null) {
+            shutdownOrchestrator.cancel();
+            shutdownOrchestrator = null;
+        }
+
+        saveSessionData();
+
         // Save config values back to config.yml
         config.set("session-duration", defaultDuration);
         config.set("autostart", autostart);
@@ -189,10 +410,19 @@ public class SessionManager extends JavaPlugin {
         config.set("calendar-auto-session.custom-counter-target", calendarCustomCounterTarget);
         config.set("calendar-auto-session.duration-override", calendarDurationOverride);
         config.set("calendar-auto-session.auto-end", calendarAutoEnd);
+        config.set("calendar-auto-session.profile", calendarProfile);
+        config.set("profiler.enabled", profiler.isEnabled());
         saveConfig();
 
         saveDayCounter();
 
+        // Hand the lease over only after the final trigger state is on disk
+        scheduler.flushIo();
+        if (leaseElection != null) {
+            leaseElection.stop();
+            leaseElection = null;
+        }
+
         // Stop session cleanly if running
         if (currentSession != null && currentSession.isRunning()) {
             currentSession.stopSession();
@@ -208,6 +438,17 @@ public class SessionManager extends JavaPlugin {
             calendarMonitor = null;
         }
 
+        if (participationTracker != null) {
+            participationTracker.stop();
+            participationTracker = null;
+        }
+
+        Session.unregisterStateListener(lifecycleExecutor);
+        lifecycleExecutor.shutdown();
+
+        // Async writes queued above must land before the plugin's schedulers go away
+        scheduler.flushIo();
+
         getLogger().info("SessionManager disabled.");
         instance = null;
     }
@@ -226,260 +467,1245 @@ public class SessionManager extends JavaPlugin {
     }
 
     /**
-     * Get the currently active Session object, if any.
+     * Access the listener and hook profiler used to dispatch session events.
      *
-     * @return current session or null when none exists.
+     * @return shared profiler instance (never null).
      */
-    public static Session getCurrentSession() {
-        return currentSession;
+    public static SessionProfiler getProfiler() {
+        return profiler;
     }
 
     /**
-     * Determine whether a session is currently running.
+     * Access the executor that runs phase-bound lifecycle work within a per-tick budget.
      *
-     * @return true when a session exists and is active.
+     * @return shared executor instance (never null).
      */
-    public static boolean hasActiveSession() {
-        return currentSession != null && currentSession.isRunning();
+    public static LifecycleTaskExecutor getLifecycleExecutor() {
+        return lifecycleExecutor;
     }
 
     /**
-     * Report the number of sessions completed since the last reset.
+     * Access the clock used for all session and calendar time calculations.
      *
-     * @return in-memory session counter.
+     * @return current time source.
      */
-    public static int getSessionCount() {
-        return sessionCount;
+    public static Clock getClock() {
+        return clock;
     }
 
     /**
-     * Override the session completion counter (persisted on disable).
+     * Replace the time source, e.g. with a virtual clock for simulations.
      *
-     * @param count new counter value.
+     * @param newClock clock to use; ignored if null.
      */
-    public static void setSessionCount(int count) {
-        sessionCount = count;
+    public static void setClock(Clock newClock) {
+        if (newClock == null) {
+            return;
+        }
+        clock = newClock;
+        if (instance != null) {
+            instance.calendarEngine.setClock(newClock);
+            instance.dayCounters.setClock(newClock);
+        }
     }
 
     /**
-     * Read the default session duration configured for new sessions.
+     * Access the scheduler used for session timers and trigger monitors.
      *
-     * @return number of seconds a new session should last.
+     * @return scheduler, or null before the plugin is enabled.
      */
-    public static int getDefaultDuration() {
-        return defaultDuration;
+    public static SessionScheduler getScheduler() {
+        return scheduler;
     }
 
     /**
-     * Update the default session length used when no override is provided.
+     * Replace the scheduler, e.g. with a {@link me.BaddCamden.SessionLibrary.scheduler.VirtualScheduler}
+     * for headless runs. Tasks already scheduled stay on the previous scheduler.
      *
-     * @param seconds duration in seconds; ignored if non-positive.
+     * @param newScheduler scheduler to use; ignored if null.
      */
-    public static void setDefaultDuration(int seconds) {
-        if (seconds > 0) {
-            defaultDuration = seconds;
+    public static void setScheduler(SessionScheduler newScheduler) {
+        if (newScheduler != null) {
+            scheduler = newScheduler;
         }
     }
 
     /**
-     * Check if sessions should start automatically on server boot.
+     * Check whether the plugin is running on Folia's region-threaded server.
      *
-     * @return true when autostart is enabled.
+     * @return true on Folia.
      */
-    public static boolean isAutostartEnabled() {
-        return autostart;
+    public static boolean isFolia() {
+        return folia;
     }
 
     /**
-     * Enable or disable automatic session startup after boot.
+     * Run work on the thread that owns session state: immediately on Bukkit's main thread, or on
+     * Folia's global region. Runs inline when no server scheduler is installed.
      *
-     * @param enabled desired autostart flag.
+     * @param task work to run.
      */
-    public static void setAutostartEnabled(boolean enabled) {
-        autostart = enabled;
+    public static void runGlobal(Runnable task) {
+        SessionScheduler current = scheduler;
+        if (current instanceof ServerScheduler) {
+            ((ServerScheduler) current).runGlobal(task);
+        } else {
+            task.run();
+        }
     }
 
     /**
-     * Retrieve the configured buffer (in seconds) before autostart triggers.
+     * Run work on the thread that owns a player, e.g. to kick them. Runs inline when no server
+     * scheduler is installed.
      *
-     * @return autostart delay in seconds.
+     * @param player target player.
+     * @param task   work to run.
      */
-    public static int getAutostartBuffer() {
-        return autostartBuffer;
+    public static void runForPlayer(Player player, Runnable task) {
+        SessionScheduler current = scheduler;
+        if (current instanceof ServerScheduler) {
+            ((ServerScheduler) current).runForPlayer(player, task);
+        } else {
+            task.run();
+        }
     }
 
     /**
-     * Update the autostart buffer while enforcing non-negative values.
+     * Send a message to every online player and the console, on whichever thread owns each.
      *
-     * @param bufferSeconds seconds to wait before auto-starting a session.
+     * @param message message to send.
      */
-    public static void setAutostartBuffer(int bufferSeconds) {
-        if (bufferSeconds >= 0) {
-            autostartBuffer = bufferSeconds;
+    public static void broadcast(String message) {
+        SessionScheduler current = scheduler;
+        if (current instanceof ServerScheduler) {
+            ((ServerScheduler) current).broadcast(message);
+        } else {
+            Bukkit.getServer().broadcastMessage(message);
         }
     }
 
     /**
-     * Check if a scheduled start time should be monitored.
+     * Send a message to the console and every online player holding a permission.
      *
-     * @return true when scheduled start monitoring is enabled.
+     * @param message    message to send.
+     * @param permission permission a player needs, or null to send to everyone.
      */
-    public static boolean isScheduledStartEnabled() {
-        return scheduledStartEnabled;
+    public static void broadcast(String message, String permission) {
+        if (permission == null) {
+            broadcast(message);
+            return;
+        }
+        SessionScheduler current = scheduler;
+        if (current instanceof ServerScheduler) {
+            ((ServerScheduler) current).broadcast(message, permission);
+        } else {
+            Bukkit.getServer().broadcast(message, permission);
+        }
     }
 
     /**
-     * Access the configured scheduled start datetime.
+     * Access the cross-server sync service.
      *
-     * @return local datetime or null when not configured.
+     * @return sync service, or null when sync is disabled.
      */
-    public static LocalDateTime getScheduledStartDateTime() {
-        return scheduledStartDateTime;
+    public static SessionSyncService getSyncService() {
+        return syncService;
     }
 
     /**
-     * Access the time zone used for scheduled start calculations.
+     * Check whether this server may start sessions from autostart, scheduled, or calendar triggers.
+     * Followers in a synced network and servers that lost the leader election leave triggering to others.
      *
-     * @return zone id for scheduled start.
+     * @return true when this server evaluates triggers.
      */
-    public static ZoneId getScheduledStartZone() {
-        return scheduledStartZone;
+    public static boolean isTriggerAuthority() {
+        SessionSyncService sync = syncService;
+        return (sync == null || sync.isAuthority()) && isLeaseHolder();
     }
 
     /**
-     * Start a new session from another plugin.
+     * Access the leader election among co-hosted servers.
      *
-     * @param durationSeconds duration in seconds, or <= 0 to use defaultDuration.
-     * @param autoStartFlag whether this was auto-started (for your own semantics).
-     * @return the started Session instance.
+     * @return lease election, or null when leader election is disabled.
      */
+    public static FileLeaseElection getLeaseElection() {
+        return leaseElection;
+    }
+
     /**
-     * Start a new session or return the existing one if already running.
+     * Check whether this server holds the trigger lease.
      *
-     * @param durationSeconds desired duration, or <=0 to fall back to {@link #defaultDuration}.
-     * @param autoStartFlag   metadata flag indicating whether the start was automatic.
-     * @return active session instance.
+     * @return true when leader election is disabled or this server is the leader.
      */
-    public static Session startNewSession(int durationSeconds, boolean autoStartFlag) {
-        if (instance == null) {
-            throw new IllegalStateException("SessionManager not loaded yet");
-        }
+    private static boolean isLeaseHolder() {
+        FileLeaseElection election = leaseElection;
+        return election == null || election.isLeader();
+    }
 
-        if (currentSession == null || !currentSession.isRunning()) {
-            int dur = (durationSeconds > 0) ? durationSeconds : defaultDuration;
-            currentSession = new Session(instance, dur, autoStartFlag);
-            currentSession.start();
-        }
+    /**
+     * Get the currently active Session object, if any.
+     *
+     * @return current session or null when none exists.
+     */
+    public static Session getCurrentSession() {
         return currentSession;
     }
 
     /**
-     * Begin the end sequence on the current session if one exists.
+     * Determine whether a session is currently running.
+     *
+     * @return true when a session exists and is active.
      */
-    public static void endSession() {
-        if (currentSession != null) {
-            currentSession.beginEndSequence();
-        }
+    public static boolean hasActiveSession() {
+        Session session = currentSession;
+        return session != null && session.isRunning();
     }
 
     /**
-     * Stop and reset the current session without firing end events.
+     * Report the number of sessions completed since the last reset.
+     *
+     * @return in-memory session counter.
      */
-    public static void stopSession() {
-        if (currentSession != null) {
-            currentSession.stopSession();
-        }
+    public static int getSessionCount() {
+        return sessionCount;
     }
 
     /**
-     * Reset the timer on the active session back to its original duration.
+     * Override the session completion counter (persisted on disable).
+     *
+     * @param count new counter value.
      */
-    public static void resetSessionTimer() {
-        if (currentSession != null) {
-            currentSession.reset();
-        }
+    public static synchronized void setSessionCount(int count) {
+        sessionCount = count;
+        publishSnapshot();
+        publishStatus();
     }
 
     /**
-     * Parse an ISO_LOCAL_DATE_TIME string into a {@link LocalDateTime}.
+     * Atomically add one completed session to the counter.
      *
-     * @param dateString raw value from configuration.
-     * @return parsed datetime or null when invalid.
+     * @return counter value after the increment.
      */
-    private LocalDateTime parseScheduledDate(String dateString) {
-        if (dateString == null || dateString.isEmpty()) {
-            return null;
-        }
-
-        try {
-            return LocalDateTime.parse(dateString, DateTimeFormatter.ISO_LOCAL_DATE_TIME);
-        } catch (Exception ex) {
-            getLogger().warning("Unable to parse scheduled-start datetime. Expected ISO_LOCAL_DATE_TIME format.");
-            return null;
-        }
+    public static synchronized int incrementSessionCount() {
+        int count = ++sessionCount;
+        publishSnapshot();
+        publishStatus();
+        return count;
     }
 
     /**
-     * Parse a timezone identifier while falling back to the system default.
+     * Read a consistent view of the current session and counters from any thread.
+     * The returned object is immutable and replaced whenever that state changes.
      *
-     * @param zoneString string ID from configuration.
-     * @return a valid {@link ZoneId}.
+     * @return latest published snapshot; never null.
      */
-    private ZoneId parseZoneId(String zoneString) {
-        try {
-            return ZoneId.of(zoneString);
-        } catch (Exception ex) {
-            getLogger().warning("Invalid timezone provided for scheduled-start. Using system default.");
-            return ZoneId.systemDefault();
-        }
+    public static SessionSnapshot snapshot() {
+        return snapshot;
     }
 
     /**
-     * Parse a daily time (HH:mm) from configuration.
+     * Publish a new snapshot describing the given session, if it is the current one. Other
+     * sessions, such as ones created by other plugins or a stopped local session while a
+     * remote one is followed, change state without touching the global snapshot.
      *
-     * @param timeString raw time string.
-     * @return {@link LocalTime} or null when invalid.
+     * @param session session that just changed; may be null.
      */
-    private LocalTime parseLocalTime(String timeString) {
-        if (timeString == null || timeString.isEmpty()) {
-            return null;
+    static void publishSnapshot(Session session) {
+        if (session != currentSession) {
+            return;
         }
-
-        try {
-            return LocalTime.parse(timeString);
-        } catch (Exception ex) {
-            getLogger().warning("Unable to parse calendar daily-time. Expected HH:mm format.");
-            return null;
+        SessionSnapshot previous = snapshot;
+        snapshot = SessionSnapshot.of(session);
+        if (snapshot.dayCounter() != previous.dayCounter()) {
+            notifyDayCounterChange(snapshot.dayCounter());
         }
     }
 
     /**
-     * Parse a calendar date using ISO-8601 formatting.
+     * Publish a new snapshot describing the current session, e.g. after a counter changed.
+     */
+    private static void publishSnapshot() {
+        publishSnapshot(currentSession);
+    }
+
+    /**
+     * Register a listener notified when the calendar day counter crosses a day boundary.
+     * Duplicate listeners are ignored.
      *
-     * @param dateString raw date string.
-     * @return {@link LocalDate} value or null.
+     * @param listener listener to add.
      */
-    private LocalDate parseLocalDate(String dateString) {
-        if (dateString == null || dateString.isEmpty()) {
-            return null;
+    public static void registerDayChangeListener(DayChangeListener listener) {
+        if (listener != null) {
+            DAY_CHANGE_LISTENERS.addIfAbsent(listener);
         }
+    }
 
-        try {
-            return LocalDate.parse(dateString);
-        } catch (Exception ex) {
-            return null;
+    /**
+     * Remove a previously registered day change listener.
+     *
+     * @param listener listener to remove.
+     */
+    public static void unregisterDayChangeListener(DayChangeListener listener) {
+        DAY_CHANGE_LISTENERS.remove(listener);
+    }
+
+    /**
+     * Register a listener notified whenever the day counter value changes. Duplicate listeners
+     * are ignored.
+     *
+     * @param listener listener to add.
+     */
+    public static void registerDayCounterListener(DayCounterListener listener) {
+        if (listener != null) {
+            DAY_COUNTER_LISTENERS.addIfAbsent(listener);
         }
     }
 
     /**
-     * Load calendar-based scheduling rules from configuration.
+     * Remove a previously registered day counter listener.
+     *
+     * @param listener listener to remove.
      */
-    private void loadCalendarConfig() {
-        calendarAutoSessionEnabled = config.getBoolean("calendar-auto-session.enabled", false);
-        calendarMode = config.getString("calendar-auto-session.mode", "specific").toLowerCase();
-        calendarZone = parseZoneId(config.getString("calendar-auto-session.timezone", ZoneId.systemDefault().getId()));
-        calendarSpecificDateTime = parseScheduledDate(config.getString("calendar-auto-session.specific-datetime", ""));
-        calendarDailyTime = parseLocalTime(config.getString("calendar-auto-session.daily-time", "00:00"));
+    public static void unregisterDayCounterListener(DayCounterListener listener) {
+        DAY_COUNTER_LISTENERS.remove(listener);
+    }
+
+    /**
+     * Inform day counter listeners that the published counter value changed.
+     *
+     * @param dayCounter new day counter value.
+     */
+    private static void notifyDayCounterChange(int dayCounter) {
+        for (DayCounterListener listener : DAY_COUNTER_LISTENERS) {
+            try {
+                listener.onDayCounterChange(dayCounter);
+            } catch (Exception ex) {
+                Bukkit.getLogger().warning("[SessionManager] DayCounterListener threw an exception:");
+                ex.printStackTrace();
+            }
+        }
+    }
+
+    /**
+     * Inform day counter listeners that a named counter changed value.
+     *
+     * @param name  counter name.
+     * @param value new counter value.
+     */
+    private static void notifyNamedCounterChange(String name, int value) {
+        for (DayCounterListener listener : DAY_COUNTER_LISTENERS) {
+            try {
+                listener.onNamedCounterChange(name, value);
+            } catch (Exception ex) {
+                Bukkit.getLogger().warning("[SessionManager] DayCounterListener threw an exception:");
+                ex.printStackTrace();
+            }
+        }
+    }
+
+    /**
+     * Inform day change listeners that a new calendar day has begun.
+     *
+     * @param today new date in the calendar timezone.
+     */
+    private static void notifyDayChange(LocalDate today) {
+        int dayCounter = getDayCounterValue();
+        for (DayChangeListener listener : DAY_CHANGE_LISTENERS) {
+            try {
+                listener.onDayChange(today, dayCounter);
+            } catch (Exception ex) {
+                Bukkit.getLogger().warning("[SessionManager] DayChangeListener threw an exception:");
+                ex.printStackTrace();
+            }
+        }
+    }
+
+    /**
+     * Access the load governor.
+     *
+     * @return governor, or null when load-aware scheduling is disabled.
+     */
+    public static LoadGovernor getLoadGovernor() {
+        return loadGovernor;
+    }
+
+    /**
+     * Check whether session countdowns are paused because the server is overloaded.
+     *
+     * @return true while the load governor freezes countdowns.
+     */
+    public static boolean isCountdownFrozen() {
+        LoadGovernor governor = loadGovernor;
+        return governor != null && governor.isCountdownFrozen();
+    }
+
+    /**
+     * Decide whether a due trigger should wait, either for gating lifecycle work from the previous
+     * session to drain or for the load governor.
+     *
+     * @param trigger trigger about to start a session.
+     * @return true to retry later.
+     */
+    private static boolean deferTrigger(SessionTrigger trigger) {
+        if (lifecycleExecutor.isGating(SessionPhase.ENDED)) {
+            return true;
+        }
+        LoadGovernor governor = loadGovernor;
+        return governor != null && governor.shouldDefer(trigger);
+    }
+
+    /**
+     * Start the autostart session, retrying every second while it is deferred.
+     */
+    private void runAutostart() {
+        if (!isTriggerAuthority() || hasActiveSession()) {
+            return;
+        }
+        if (deferTrigger(SessionTrigger.AUTOSTART)) {
+            scheduler.runTaskLater(this::runAutostart, 20L);
+            return;
+        }
+        currentSession = new Session(this, defaultDuration, true, SessionTrigger.AUTOSTART);
+        // Fire autostart event so other plugins can react
+        profiler.callEvent(new SessionAutostartEvent(currentSession));
+        currentSession.start();
+    }
+
+    /**
+     * Access the per-player daily playtime quotas.
+     *
+     * @return quota manager, or null when quotas are disabled.
+     */
+    public static PlaytimeQuotaManager getPlaytimeQuotas() {
+        return playtimeQuotas;
+    }
+
+    /**
+     * Access the embedded HTTP status endpoint.
+     *
+     * @return status server, or null when it is disabled.
+     */
+    public static StatusServer getStatusServer() {
+        return statusServer;
+    }
+
+    /**
+     * Compute when the calendar rules would next allow an auto-session.
+     *
+     * @return next eligible time in the calendar zone, or null when none is scheduled.
+     */
+    public static ZonedDateTime getNextCalendarEligibleTime() {
+        SessionManager plugin = instance;
+        if (plugin == null || !calendarAutoSessionEnabled) {
+            return null;
+        }
+        return plugin.computeNextEligibleTime(plugin.calendarEngine.now());
+    }
+
+    /**
+     * Days on which calendar sessions never start.
+     *
+     * @return blackout calendar; never null.
+     */
+    public static DayCalendar getCalendarBlackout() {
+        SessionManager plugin = instance;
+        return plugin != null ? plugin.calendarEngine.getBlackout() : DayCalendar.EMPTY;
+    }
+
+    /**
+     * Extra eligible days for the date-based calendar modes.
+     *
+     * @return force-include calendar; never null.
+     */
+    public static DayCalendar getCalendarForceInclude() {
+        SessionManager plugin = instance;
+        return plugin != null ? plugin.calendarEngine.getForceInclude() : DayCalendar.EMPTY;
+    }
+
+    /**
+     * Replace the blackout and force-include calendars at runtime, e.g. from a plugin that reads
+     * holidays from an external source. Not saved to config.
+     *
+     * @param blackout     days on which no calendar session starts; null for none.
+     * @param forceInclude extra eligible days for the date-based modes; null for none.
+     */
+    public static void setCalendarDays(DayCalendar blackout, DayCalendar forceInclude) {
+        SessionManager plugin = instance;
+        if (plugin == null) {
+            return;
+        }
+        plugin.calendarEngine.setDayCalendars(blackout, forceInclude);
+        publishSchedule();
+    }
+
+    /**
+     * Enumerate upcoming triggers of every configured rule: the scheduled start, the calendar
+     * rule, and each named day counter with a target. Rules are evaluated in parallel and the
+     * result is cached until the configuration or a counter changes. Must be called on the main
+     * thread.
+     *
+     * @param from  start of the window; triggers already due are reported at this time.
+     * @param to    end of the window, inclusive.
+     * @param limit maximum number of entries.
+     * @return entries ordered by start, with planned durations and overlapping sessions.
+     */
+    public static List<ForecastEntry> forecast(Instant from, Instant to, int limit) {
+        SessionManager plugin = instance;
+        if (plugin == null) {
+            return Collections.emptyList();
+        }
+        return plugin.computeForecast(from, to, limit);
+    }
+
+    /**
+     * Access the schedule forecaster, e.g. for its cache report.
+     *
+     * @return forecaster, or null when the plugin is not enabled.
+     */
+    public static ScheduleForecaster getForecaster() {
+        SessionManager plugin = instance;
+        return plugin != null ? plugin.forecaster : null;
+    }
+
+    /**
+     * Build the forecast key from current state and answer from the cache or the rules.
+     */
+    private List<ForecastEntry> computeForecast(Instant from, Instant to, int limit) {
+        // Follow runtime edits to the public calendar fields, as the monitor does
+        calendarEngine.updateSettings(calendarAutoSessionEnabled, calendarMode, calendarZone,
+                calendarSpecificDateTime, calendarDailyTime, calendarWeekdays, calendarMonthDays,
+                calendarYearDays, calendarCustomCounterTarget);
+        Instant scheduled = planScheduledStart();
+        int calendarDuration = calendarDurationOverride > 0 ? calendarDurationOverride
+                : resolveDuration(calendarSessionProfile());
+        ForecastKey key = new ForecastKey(calendarEngine.getRevision(), dayCounters.getRevision(), scheduled,
+                defaultDuration, calendarDuration);
+        return forecaster.forecast(key, () -> forecastSources(scheduled, calendarDuration), from, to, limit);
+    }
+
+    /**
+     * Copy each rule's state into a source that can be evaluated off the main thread.
+     *
+     * @param scheduled        planned scheduled start, or null.
+     * @param calendarDuration planned length of calendar sessions.
+     * @return one source per rule.
+     */
+    private List<ScheduleForecaster.Source> forecastSources(Instant scheduled, int calendarDuration) {
+        List<ScheduleForecaster.Source> sources = new ArrayList<>();
+        if (scheduled != null) {
+            sources.add(new ScheduleForecaster.Source("scheduled-start", defaultDuration,
+                    ScheduleForecaster.once(scheduled.atZone(scheduledStartZone))));
+        }
+        if (calendarEngine.isEnabled()) {
+            sources.add(new ScheduleForecaster.Source("calendar " + calendarEngine.getMode(), calendarDuration,
+                    calendarEngine.copy()::computeStartTimes));
+        }
+        for (DayCounterRegistry.Projection projection : dayCounters.projections()) {
+            if (projection.target() > 0) {
+                sources.add(new ScheduleForecaster.Source("counter " + projection.name(), 0,
+                        projection::targetTimes));
+            }
+        }
+        return sources;
+    }
+
+    /**
+     * Refresh the status endpoint's session document, if the endpoint is running.
+     */
+    private static void publishStatus() {
+        StatusServer server = statusServer;
+        if (server != null) {
+            server.publishStatus();
+        }
+    }
+
+    /**
+     * Refresh everything derived from the trigger schedule: the warmup plan and, if the endpoint
+     * is running, the status endpoint's schedule document.
+     */
+    private static void publishSchedule() {
+        SessionWarmup currentWarmup = warmup;
+        if (currentWarmup != null) {
+            currentWarmup.invalidate();
+        }
+        StatusServer server = statusServer;
+        if (server != null) {
+            server.publishSchedule();
+        }
+    }
+
+    /**
+     * Access per-session participation accounting and the attendance and time leaderboards.
+     *
+     * @return tracker, or null when participation tracking is disabled.
+     */
+    public static ParticipationTracker getParticipationTracker() {
+        return participationTracker;
+    }
+
+    /**
+     * Access the staged shutdown pipeline that runs when a session ends.
+     *
+     * @return orchestrator, or null when shutting down at session end is disabled.
+     */
+    public static ShutdownOrchestrator getShutdownOrchestrator() {
+        return shutdownOrchestrator;
+    }
+
+    /**
+     * Write the session count, day counter, playtime quotas, and participation totals to disk now.
+     * Returns once every write has finished, including writes moved off-thread on Folia.
+     *
+     * @return number of stores flushed.
+     */
+    public static int flushPersistence() {
+        SessionManager plugin = instance;
+        if (plugin == null) {
+            return 0;
+        }
+        plugin.saveSessionData();
+        plugin.saveDayCounter();
+        int flushed = 2;
+        PlaytimeQuotaManager quotas = playtimeQuotas;
+        if (quotas != null) {
+            quotas.flush();
+            flushed++;
+        }
+        ParticipationTracker participation = participationTracker;
+        if (participation != null) {
+            participation.flush();
+            flushed++;
+        }
+        scheduler.flushIo();
+        return flushed;
+    }
+
+    /**
+     * Save the in-memory session count to the data file.
+     */
+    private void saveSessionData() {
+        data.set("session-count", sessionCount);
+        String contents = data.saveToString();
+        File file = dataFile;
+        scheduler.runIo(() -> {
+            try {
+                Files.write(file.toPath(), contents.getBytes(StandardCharsets.UTF_8));
+            } catch (IOException e) {
+                e.printStackTrace();
+            }
+        });
+    }
+
+    /**
+     * Access the announcer that fires {@link me.BaddCamden.SessionLibrary.events.SessionPreStartEvent}.
+     *
+     * @return warmup announcer, or null when the lead time is 0.
+     */
+    public static SessionWarmup getWarmup() {
+        return warmup;
+    }
+
+    /**
+     * Read the default session duration configured for new sessions.
+     *
+     * @return number of seconds a new session should last.
+     */
+    public static int getDefaultDuration() {
+        return defaultDuration;
+    }
+
+    /**
+     * Update the default session length used when no override is provided.
+     *
+     * @param seconds duration in seconds; ignored if non-positive.
+     */
+    public static void setDefaultDuration(int seconds) {
+        if (seconds > 0) {
+            defaultDuration = seconds;
+        }
+    }
+
+    /**
+     * Check if sessions should start automatically on server boot.
+     *
+     * @return true when autostart is enabled.
+     */
+    public static boolean isAutostartEnabled() {
+        return autostart;
+    }
+
+    /**
+     * Enable or disable automatic session startup after boot.
+     *
+     * @param enabled desired autostart flag.
+     */
+    public static void setAutostartEnabled(boolean enabled) {
+        autostart = enabled;
+    }
+
+    /**
+     * Retrieve the configured buffer (in seconds) before autostart triggers.
+     *
+     * @return autostart delay in seconds.
+     */
+    public static int getAutostartBuffer() {
+        return autostartBuffer;
+    }
+
+    /**
+     * Update the autostart buffer while enforcing non-negative values.
+     *
+     * @param bufferSeconds seconds to wait before auto-starting a session.
+     */
+    public static void setAutostartBuffer(int bufferSeconds) {
+        if (bufferSeconds >= 0) {
+            autostartBuffer = bufferSeconds;
+        }
+    }
+
+    /**
+     * Check if a scheduled start time should be monitored.
+     *
+     * @return true when scheduled start monitoring is enabled.
+     */
+    public static boolean isScheduledStartEnabled() {
+        return scheduledStartEnabled;
+    }
+
+    /**
+     * Access the configured scheduled start datetime.
+     *
+     * @return local datetime or null when not configured.
+     */
+    public static LocalDateTime getScheduledStartDateTime() {
+        return scheduledStartDateTime;
+    }
+
+    /**
+     * Access the time zone used for scheduled start calculations.
+     *
+     * @return zone id for scheduled start.
+     */
+    public static ZoneId getScheduledStartZone() {
+        return scheduledStartZone;
+    }
+
+    /**
+     * Start a new session from another plugin.
+     *
+     * @param durationSeconds duration in seconds, or <= 0 to use defaultDuration.
+     * @param autoStartFlag whether this was auto-started (for your own semantics).
+     * @return the started Session instance.
+     */
+    /**
+     * Start a new session or return the existing one if already running.
+     *
+     * @param durationSeconds desired duration, or <=0 to fall back to {@link #defaultDuration}.
+     * @param autoStartFlag   metadata flag indicating whether the start was automatic.
+     * @return active session instance.
+     */
+    public static synchronized Session startNewSession(int durationSeconds, boolean autoStartFlag) {
+        if (instance == null) {
+            throw new IllegalStateException("SessionManager not loaded yet");
+        }
+
+        if (currentSession == null || !currentSession.isRunning()) {
+            int dur = (durationSeconds > 0) ? durationSeconds : defaultDuration;
+            currentSession = new Session(instance, dur, autoStartFlag, SessionTrigger.API);
+            currentSession.start();
+        }
+        return currentSession;
+    }
+
+    /**
+     * Start a new session with a named profile, or return the existing one if already running.
+     *
+     * @param profileName profile from {@code session-profiles}, or {@code default}.
+     * @return active session instance.
+     * @throws IllegalArgumentException when no profile has that name.
+     */
+    public static synchronized Session startNewSession(String profileName) {
+        if (instance == null) {
+            throw new IllegalStateException("SessionManager not loaded yet");
+        }
+        SessionProfile profile = getProfile(profileName);
+        if (profile == null) {
+            throw new IllegalArgumentException("Unknown session profile: " + profileName);
+        }
+
+        if (currentSession == null || !currentSession.isRunning()) {
+            currentSession = new Session(instance, profile, resolveDuration(profile), false, SessionTrigger.API);
+            currentSession.start();
+        }
+        return currentSession;
+    }
+
+    /**
+     * Access the profile built from the top-level duration, grace period, and messages.
+     *
+     * @return default profile; never null.
+     */
+    public static SessionProfile getDefaultProfile() {
+        return defaultProfile;
+    }
+
+    /**
+     * Look up a session profile by name, ignoring case.
+     *
+     * @param name profile name; null, empty, or {@code default} select the default profile.
+     * @return profile, or null when none has that name.
+     */
+    public static SessionProfile getProfile(String name) {
+        if (name == null || name.isEmpty() || name.equalsIgnoreCase(SessionProfile.DEFAULT)) {
+            return defaultProfile;
+        }
+        return profiles.get(name.toLowerCase());
+    }
+
+    /**
+     * Names of the configured profiles, not including {@code default}.
+     *
+     * @return unmodifiable names in config order.
+     */
+    public static Set<String> getProfileNames() {
+        return profiles.keySet();
+    }
+
+    /**
+     * Session length a profile starts with.
+     *
+     * @param profile profile to resolve.
+     * @return the profile's duration, or {@link #defaultDuration} when it sets none.
+     */
+    public static int resolveDuration(SessionProfile profile) {
+        return profile.getDuration() > 0 ? profile.getDuration() : defaultDuration;
+    }
+
+    /**
+     * Profile used by calendar-triggered sessions.
+     *
+     * @return configured calendar profile, or the default when unset or unknown.
+     */
+    private static SessionProfile calendarSessionProfile() {
+        SessionProfile profile = getProfile(calendarProfile);
+        return profile != null ? profile : defaultProfile;
+    }
+
+    /**
+     * Begin the end sequence on the current session if one exists.
+     */
+    public static void endSession() {
+        if (currentSession != null) {
+            currentSession.beginEndSequence();
+        }
+    }
+
+    /**
+     * Stop and reset the current session without firing end events.
+     */
+    public static void stopSession() {
+        if (currentSession != null) {
+            currentSession.stopSession();
+        }
+    }
+
+    /**
+     * Reset the timer on the active session back to its original duration.
+     */
+    public static void resetSessionTimer() {
+        if (currentSession != null) {
+            currentSession.reset();
+        }
+    }
+
+    /**
+     * Parse an ISO_LOCAL_DATE_TIME string into a {@link LocalDateTime}.
+     *
+     * @param dateString raw value from configuration.
+     * @return parsed datetime or null when invalid.
+     */
+    private LocalDateTime parseScheduledDate(String dateString) {
+        if (dateString == null || dateString.isEmpty()) {
+            return null;
+        }
+
+        try {
+            return LocalDateTime.parse(dateString, DateTimeFormatter.ISO_LOCAL_DATE_TIME);
+        } catch (Exception ex) {
+            getLogger().warning("Unable to parse scheduled-start datetime. Expected ISO_LOCAL_DATE_TIME format.");
+            return null;
+        }
+    }
+
+    /**
+     * Parse a timezone identifier while falling back to the system default.
+     *
+     * @param zoneString string ID from configuration.
+     * @return a valid {@link ZoneId}.
+     */
+    private ZoneId parseZoneId(String zoneString) {
+        try {
+            return ZoneId.of(zoneString);
+        } catch (Exception ex) {
+            getLogger().warning("Invalid timezone provided for scheduled-start. Using system default.");
+            return ZoneId.systemDefault();
+        }
+    }
+
+    /**
+     * Parse a daily time (HH:mm) from configuration.
+     *
+     * @param timeString raw time string.
+     * @return {@link LocalTime} or null when invalid.
+     */
+    private LocalTime parseLocalTime(String timeString) {
+        if (timeString == null || timeString.isEmpty()) {
+            return null;
+        }
+
+        try {
+            return LocalTime.parse(timeString);
+        } catch (Exception ex) {
+            getLogger().warning("Unable to parse calendar daily-time. Expected HH:mm format.");
+            return null;
+        }
+    }
+
+    /**
+     * Create and start the cross-server sync service when enabled in configuration.
+     */
+    private void startSyncService() {
+        if (!config.getBoolean("sync.enabled", false)) {
+            return;
+        }
+
+        SessionSyncService.Role role;
+        try {
+            role = SessionSyncService.Role.valueOf(config.getString("sync.role", "authority").toUpperCase());
+        } catch (IllegalArgumentException ex) {
+            getLogger().warning("Invalid sync.role in config. Using follower.");
+            role = SessionSyncService.Role.FOLLOWER;
+        }
+
+        SessionSyncTransport transport;
+        String transportName = config.getString("sync.transport", "bungee").toLowerCase();
+        switch (transportName) {
+            case "loopback":
+                transport = LoopbackTransport.onDefaultBus();
+                break;
+            case "bungee":
+                transport = new BungeeCordTransport(this, config.getString("sync.channel", "SessionLibrarySync"));
+                break;
+            default:
+                getLogger().warning("Unknown sync.transport '" + transportName + "'. Sync disabled.");
+                return;
+        }
+
+        syncService = new SessionSyncService(this, transport, role, config.getInt("sync.heartbeat-seconds", 30));
+        syncService.start();
+        getLogger().info("Session sync enabled as " + role + " over " + transportName + ".");
+    }
+
+    /**
+     * Resolve the folder holding trigger state. With leader election enabled this is the shared
+     * lease directory so every co-hosted server reads the state the leader writes.
+     *
+     * @return folder for daycounter.yml and the lease file.
+     */
+    private File getTriggerStateFolder() {
+        String directory = config.getString("leader-election.directory", "");
+        if (!config.getBoolean("leader-election.enabled", false) || directory == null || directory.isEmpty()) {
+            return getDataFolder();
+        }
+        File folder = new File(directory);
+        return folder.isAbsolute() ? folder : new File(getDataFolder(), directory);
+    }
+
+    /**
+     * Join the file-lock leader election when enabled in configuration.
+     */
+    private void startLeaseElection() {
+        if (!config.getBoolean("leader-election.enabled", false)) {
+            return;
+        }
+
+        String nodeId = config.getString("leader-election.node-id", "");
+        if (nodeId == null || nodeId.isEmpty()) {
+            nodeId = getDataFolder().getAbsolutePath();
+        }
+
+        FileLeaseElection election = new FileLeaseElection(new File(getTriggerStateFolder(), "leader.lease"), nodeId,
+                config.getInt("leader-election.heartbeat-seconds", 5), new FileLeaseElection.Listener() {
+                    @Override
+                    public void onLeadershipChange(boolean leader) {
+                        // Pick up whatever the previous leader wrote before evaluating triggers
+                        reloadDayCounter();
+                        SessionSyncService sync = syncService;
+                        if (sync != null) {
+                            sync.setRole(leader ? SessionSyncService.Role.AUTHORITY : SessionSyncService.Role.FOLLOWER);
+                        }
+                        getLogger().info(leader ? "This server is now the session trigger leader."
+                                : "This server is following the session trigger leader.");
+                    }
+
+                    @Override
+                    public void onTriggerStateChanged(long generation) {
+                        reloadDayCounter();
+                    }
+                }, getLogger());
+        leaseElection = election;
+        try {
+            election.start();
+        } catch (IOException e) {
+            leaseElection = null;
+            getLogger().severe("Could not open leader lease file. Leader election disabled.");
+            e.printStackTrace();
+        }
+    }
+
+    /**
+     * Bind the embedded HTTP status endpoint when enabled in configuration.
+     */
+    private void startStatusServer() {
+        if (!config.getBoolean("status-server.enabled", false)) {
+            return;
+        }
+
+        String address = config.getString("status-server.bind-address", "127.0.0.1");
+        int port = config.getInt("status-server.port", 8765);
+        StatusServer server = new StatusServer(address, port, config.getInt("status-server.history-size", 20),
+                getLogger());
+        try {
+            server.start();
+            statusServer = server;
+            getLogger().info("Status endpoint listening on " + address + ":" + port + ".");
+        } catch (IOException e) {
+            getLogger().severe("Could not bind status endpoint on " + address + ":" + port + ": " + e.getMessage());
+        }
+    }
+
+    /**
+     * Start the queued session control API and register it with the services manager.
+     */
+    private void startSessionService() {
+        QueuedSessionService service = new QueuedSessionService(
+                config.getInt("session-service.max-commands-per-tick", 100));
+        service.start(scheduler);
+        sessionService = service;
+        Bukkit.getServicesManager().register(SessionService.class, service, this, ServicePriority.Normal);
+    }
+
+    /**
+     * Access the thread-safe session control API that is also registered with the
+     * {@code ServicesManager} as {@link SessionService}.
+     *
+     * @return service, or null while the plugin is disabled.
+     */
+    public static QueuedSessionService getService() {
+        return sessionService;
+    }
+
+    /**
+     * Start per-session participation tracking when enabled in configuration.
+     *
+     * @param file  participation data file.
+     * @param saved contents of the file parsed during enable, or null if it does not exist.
+     */
+    private void startParticipationTracker(File file, YamlConfiguration saved) {
+        if (!config.getBoolean("participation.enabled", false)) {
+            return;
+        }
+
+        ParticipationTracker tracker = new ParticipationTracker(this, file,
+                config.getInt("participation.leaderboard-size", 10),
+                config.getInt("participation.history-size", 50),
+                config.getInt("participation.min-seconds", 60));
+        tracker.start(saved);
+        participationTracker = tracker;
+    }
+
+    /**
+     * Prepare the staged shutdown pipeline when shutting down at session end is enabled.
+     */
+    private void startShutdownOrchestrator() {
+        if (!config.getBoolean("shutdown-on-end.enabled", false)) {
+            return;
+        }
+
+        ShutdownOrchestrator.Action action;
+        try {
+            action = ShutdownOrchestrator.Action.valueOf(
+                    config.getString("shutdown-on-end.action", "shutdown").toUpperCase());
+        } catch (IllegalArgumentException e) {
+            getLogger().warning("Unknown shutdown-on-end.action; using shutdown.");
+            action = ShutdownOrchestrator.Action.SHUTDOWN;
+        }
+        shutdownOrchestrator = new ShutdownOrchestrator(this, action,
+                config.getInt("shutdown-on-end.kick-batch-size", 10),
+                config.getInt("shutdown-on-end.kick-interval-ticks", 5),
+                config.getInt("shutdown-on-end.world-save-interval-ticks", 2));
+    }
+
+    /**
+     * Start announcing scheduled and calendar starts ahead of time when a lead time is configured.
+     */
+    private void startWarmup() {
+        int leadSeconds = config.getInt("warmup.lead-seconds", 60);
+        if (leadSeconds <= 0) {
+            return;
+        }
+
+        SessionWarmup announcer = new SessionWarmup(leadSeconds, this::planScheduledStart, this::planCalendarStart);
+        announcer.start();
+        warmup = announcer;
+    }
+
+    /**
+     * Work out when the scheduled-start monitor will start its session.
+     *
+     * @return planned start, or null when scheduled start is off or has already fired.
+     */
+    private Instant planScheduledStart() {
+        if (!scheduledStartEnabled || scheduledStartTriggered || scheduledStartMonitor == null
+                || scheduledStartDateTime == null || scheduledStartZone == null) {
+            return null;
+        }
+        return scheduledStartDateTime.atZone(scheduledStartZone).toInstant();
+    }
+
+    /**
+     * Work out when the calendar rules will next start a session.
+     *
+     * @return planned start, or null when calendar sessions are off or none is coming.
+     */
+    private Instant planCalendarStart() {
+        if (!calendarAutoSessionEnabled) {
+            return null;
+        }
+        ZonedDateTime next = calendarEngine.computeNextStartTime(calendarEngine.now());
+        return next != null ? next.toInstant() : null;
+    }
+
+    /**
+     * Start the load governor when enabled in configuration.
+     */
+    private void startLoadGovernor() {
+        if (!config.getBoolean("load-governor.enabled", false)) {
+            return;
+        }
+
+        LoadGovernor governor = new LoadGovernor(
+                config.getDouble("load-governor.max-mspt", 55.0),
+                config.getDouble("load-governor.min-tps", 18.0),
+                config.getInt("load-governor.defer-tolerance-seconds", 300),
+                config.getBoolean("load-governor.freeze-countdown", false),
+                config.getDouble("load-governor.freeze-mspt", 100.0),
+                config.getInt("load-governor.window-ticks", 100));
+        governor.start();
+        loadGovernor = governor;
+    }
+
+    /**
+     * Start per-player daily playtime quotas when enabled in configuration.
+     */
+    private void startPlaytimeQuotas() {
+        if (!config.getBoolean("playtime-quota.enabled", false)) {
+            return;
+        }
+
+        int[] warnings = config.getIntegerList("playtime-quota.warnings").stream()
+                .mapToInt(Integer::intValue).toArray();
+        PlaytimeStore store;
+        try {
+            store = PlaytimeStore.open(new File(getDataFolder(), "playtime.dat"),
+                    config.getInt("playtime-quota.expected-players", 1000));
+        } catch (IOException e) {
+            getLogger().severe("Could not open playtime.dat. Playtime quotas disabled.");
+            e.printStackTrace();
+            return;
+        }
+        PlaytimeQuotaManager quotas = new PlaytimeQuotaManager(this, store,
+                config.getInt("playtime-quota.flush-seconds", 30),
+                config.getInt("playtime-quota.daily-seconds", 7200),
+                config.getInt("playtime-quota.grace-seconds", 60),
+                warnings,
+                config.getString("playtime-quota.bypass-permission", "sessionlibrary.playtime.bypass"));
+        quotas.start(calendarEngine.now().toLocalDate());
+        playtimeQuotas = quotas;
+    }
+
+    /**
+     * Compile the default profile from the top-level keys and each {@code session-profiles}
+     * entry on top of it. Profiles are immutable; reloading swaps in new instances, and
+     * running sessions keep the profile they started with.
+     */
+    private void loadProfiles() {
+        Map<Integer, String> milestones = new HashMap<>();
+        milestones.put(600, config.getString("messages.session-last-10", "10 minutes left!"));
+        milestones.put(60, config.getString("messages.session-last-60", "1 minute left!"));
+        milestones.put(30, config.getString("messages.session-last-30", "30 seconds left!"));
+        SessionProfile base = new SessionProfile(SessionProfile.DEFAULT, 0,
+                config.getInt("end-grace-period-seconds", 60), true, null, milestones,
+                config.getString("messages.session-halfway", "Session is halfway!"), 10,
+                config.getString("messages.session-countdown", "Countdown: %seconds% seconds"),
+                config.getString("messages.session-start", "Session started!"),
+                config.getString("messages.session-ending", "Session has ended. Please log off within %seconds% seconds."),
+                config.getString("messages.session-end", "Session ended!"));
+
+        Map<String, SessionProfile> compiled = new LinkedHashMap<>();
+        ConfigurationSection section = config.getConfigurationSection("session-profiles");
+        if (section != null) {
+            for (String name : section.getKeys(false)) {
+                ConfigurationSection entry = section.getConfigurationSection(name);
+                if (entry == null || name.equalsIgnoreCase(SessionProfile.DEFAULT)) {
+                    getLogger().warning("Ignoring session profile " + name + ".");
+                    continue;
+                }
+                Map<Integer, String> profileMilestones = base.getMilestones();
+                String halfway = base.getHalfwayMessage();
+                ConfigurationSection milestoneSection = entry.getConfigurationSection("milestones");
+                if (milestoneSection != null) {
+                    profileMilestones = new HashMap<>();
+                    halfway = null;
+                    for (String key : milestoneSection.getKeys(false)) {
+                        if (key.equalsIgnoreCase("halfway")) {
+                            halfway = milestoneSection.getString(key);
+                            continue;
+                        }
+                        try {
+                            profileMilestones.put(Integer.parseInt(key), milestoneSection.getString(key));
+                        } catch (NumberFormatException ex) {
+                            getLogger().warning("Invalid milestone in session profile " + name + ": " + key);
+                        }
+                    }
+                }
+                String key = name.toLowerCase();
+                compiled.put(key, new SessionProfile(key, entry.getInt("duration", 0),
+                        entry.getInt("grace-period-seconds", base.getGraceSeconds()),
+                        entry.getBoolean("auto-end", true), entry.getString("audience", ""),
+                        profileMilestones, halfway, entry.getInt("countdown-seconds", base.getCountdownSeconds()),
+                        entry.getString("messages.countdown", base.getCountdownTemplate()),
+                        entry.getString("messages.start", base.getStartMessage()),
+                        entry.getString("messages.ending", base.getEndingTemplate()),
+                        entry.getString("messages.end", base.getEndMessage())));
+            }
+        }
+        defaultProfile = base;
+        profiles = Collections.unmodifiableMap(compiled);
+        if (!compiled.isEmpty()) {
+            getLogger().info("Session profiles loaded: " + String.join(", ", compiled.keySet()));
+        }
+    }
+
+    /**
+     * Load calendar-based scheduling rules from configuration.
+     */
+    private void loadCalendarConfig() {
+        calendarAutoSessionEnabled = config.getBoolean("calendar-auto-session.enabled", false);
+        calendarMode = config.getString("calendar-auto-session.mode", "specific").toLowerCase();
+        calendarZone = parseZoneId(config.getString("calendar-auto-session.timezone", ZoneId.systemDefault().getId()));
+        calendarSpecificDateTime = parseScheduledDate(config.getString("calendar-auto-session.specific-datetime", ""));
+        calendarDailyTime = parseLocalTime(config.getString("calendar-auto-session.daily-time", "00:00"));
 
         calendarWeekdays = new HashSet<>();
         for (String entry : config.getStringList("calendar-auto-session.days-of-week")) {
@@ -496,53 +1722,137 @@ public class SessionManager extends JavaPlugin {
         calendarCustomCounterTarget = config.getInt("calendar-auto-session.custom-counter-target", 0);
         calendarDurationOverride = config.getInt("calendar-auto-session.duration-override", 0);
         calendarAutoEnd = config.getBoolean("calendar-auto-session.auto-end", true);
-        calendarSpecificTriggered = false;
+        calendarProfile = config.getString("calendar-auto-session.profile", "");
+        if (calendarProfile != null && !calendarProfile.isEmpty() && getProfile(calendarProfile) == null) {
+            getLogger().warning("Unknown calendar session profile " + calendarProfile + "; using the default.");
+        }
+        DayCalendar blackout = loadDayCalendar("blackout");
+        DayCalendar forceInclude = loadDayCalendar("force-include");
+        if (!blackout.isEmpty() || !forceInclude.isEmpty()) {
+            getLogger().info("Calendar days loaded: " + blackout.size() + " blackout, " + forceInclude.size()
+                    + " force-include.");
+        }
+        calendarEngine.setDayCalendars(blackout, forceInclude);
+        calendarEngine.configure(calendarAutoSessionEnabled, calendarMode, calendarZone, calendarSpecificDateTime,
+                calendarDailyTime, calendarWeekdays, calendarMonthDays, calendarYearDays, calendarCustomCounterTarget);
+    }
+
+    /**
+     * Compile a day calendar from the {@code <kind>-dates} list and every {@code <kind>-files}
+     * date-list file under {@code calendar-auto-session}. Files are resolved against the plugin
+     * folder and hold one date or range per line.
+     *
+     * @param kind calendar name, {@code blackout} or {@code force-include}.
+     * @return compiled calendar.
+     */
+    private DayCalendar loadDayCalendar(String kind) {
+        List<String> entries = new ArrayList<>(config.getStringList("calendar-auto-session." + kind + "-dates"));
+        for (String path : config.getStringList("calendar-auto-session." + kind + "-files")) {
+            try {
+                entries.addAll(Files.readAllLines(new File(getDataFolder(), path).toPath(), StandardCharsets.UTF_8));
+            } catch (IOException e) {
+                getLogger().warning("Could not read " + kind + " file " + path + ": " + e.getMessage());
+            }
+        }
+        return DayCalendar.parse(entries, entry -> getLogger().warning("Invalid " + kind + " date: " + entry));
     }
 
     /**
      * Load the persisted day counter values from disk.
      */
     private void loadDayCounter() {
-        dayCounterValue = dayCounterData.getInt("day-count", 0);
-        counterLastUpdatedDate = parseLocalDate(dayCounterData.getString("last-updated-date", ""));
-        lastCalendarTriggerDate = parseLocalDate(dayCounterData.getString("last-calendar-trigger-date", ""));
-        lastCounterTriggerValue = dayCounterData.getInt("last-counter-trigger", 0);
+        calendarEngine.restoreState(dayCounterData.getValues(false));
+        dayCounters.restoreState(dayCounterData.getValues(true));
     }
 
     /**
-     * Persist the in-memory day counter values to the YAML file.
+     * Read the named day counters from the {@code day-counters} config section.
      */
-    private void saveDayCounter() {
-        dayCounterData.set("day-count", dayCounterValue);
-        dayCounterData.set("last-updated-date", counterLastUpdatedDate != null ? counterLastUpdatedDate.toString() : "");
-        dayCounterData.set("last-calendar-trigger-date", lastCalendarTriggerDate != null ? lastCalendarTriggerDate.toString() : "");
-        dayCounterData.set("last-counter-trigger", lastCounterTriggerValue);
-        try {
-            dayCounterData.save(dayCounterFile);
-        } catch (IOException e) {
-            getLogger().warning("Could not save daycounter.yml");
+    private void loadNamedCounters() {
+        List<DayCounterRegistry.Definition> definitions = new ArrayList<>();
+        ConfigurationSection section = config.getConfigurationSection("day-counters");
+        if (section != null) {
+            for (String name : section.getKeys(false)) {
+                if (name.contains(".")) {
+                    getLogger().warning("Ignoring day counter with a dot in its name: " + name);
+                    continue;
+                }
+                String startDate = section.getString(name + ".start-date", "");
+                LocalDate start = null;
+                if (startDate != null && !startDate.isEmpty()) {
+                    try {
+                        start = LocalDate.parse(startDate);
+                    } catch (Exception ex) {
+                        getLogger().warning("Invalid start-date for day counter " + name + ": " + startDate);
+                    }
+                }
+                definitions.add(new DayCounterRegistry.Definition(name,
+                        parseZoneId(section.getString(name + ".timezone", ZoneId.systemDefault().getId())), start,
+                        section.getInt(name + ".target", 0), section.getBoolean(name + ".reset-on-target", false)));
+            }
         }
+        dayCounters.configure(definitions);
     }
 
     /**
-     * Increment the day counter when dates change to support calendar triggers.
+     * Announce that a named counter reached its target.
      *
-     * @param now current timestamp in the configured zone.
+     * @param name  counter name.
+     * @param value value that reached the target.
      */
-    private void updateDayCounterIfNeeded(ZonedDateTime now) {
-        LocalDate today = now.toLocalDate();
-        if (counterLastUpdatedDate == null) {
-            counterLastUpdatedDate = today;
-            saveDayCounter();
-            return;
+    private void onNamedCounterTarget(String name, int value) {
+        getLogger().info("Day counter " + name + " reached its target at " + value + ".");
+        profiler.callEvent(new DayCounterTargetEvent(name, value, dayCounters.getTarget(name)));
+    }
+
+    /**
+     * Re-read daycounter.yml from disk, e.g. after the trigger leader has written it.
+     */
+    private void reloadDayCounter() {
+        LocalDate before = calendarEngine.getCounterLastUpdatedDate();
+        dayCounterData = YamlConfiguration.loadConfiguration(dayCounterFile);
+        loadDayCounter();
+        LocalDate after = calendarEngine.getCounterLastUpdatedDate();
+        if (before != null && after != null && after.isAfter(before)) {
+            // The leader crossed a day boundary; followers see it here instead of in check()
+            notifyDayChange(after);
         }
+        publishSnapshot();
+        publishSchedule();
+    }
 
-        if (counterLastUpdatedDate.isBefore(today)) {
-            long daysBetween = ChronoUnit.DAYS.between(counterLastUpdatedDate, today);
-            dayCounterValue += (int) daysBetween;
-            counterLastUpdatedDate = today;
-            saveDayCounter();
+    /**
+     * Persist the in-memory day counter values to the YAML file. The text is rendered here and
+     * written through {@link SessionScheduler#runIo(Runnable)}.
+     */
+    private void saveDayCounter() {
+        if (!isLeaseHolder()) {
+            // Only the trigger leader writes shared trigger state
+            return;
         }
+        for (Map.Entry<String, Object> entry : calendarEngine.persistentState().entrySet()) {
+            dayCounterData.set(entry.getKey(), entry.getValue());
+        }
+        for (Map.Entry<String, Object> entry : dayCounters.persistentState().entrySet()) {
+            dayCounterData.set(entry.getKey(), entry.getValue());
+        }
+        String contents = dayCounterData.saveToString();
+        File file = dayCounterFile;
+        FileLeaseElection election = leaseElection;
+        scheduler.runIo(() -> {
+            try {
+                Files.write(file.toPath(), contents.getBytes(StandardCharsets.UTF_8));
+            } catch (IOException e) {
+                getLogger().warning("Could not save daycounter.yml");
+                return;
+            }
+            // Followers reload when the generation moves, so only bump it once the file is written
+            if (election != null) {
+                election.markTriggerStateChanged();
+            }
+        });
+        publishSnapshot();
+        publishSchedule();
     }
 
     /**
@@ -554,7 +1864,39 @@ public class SessionManager extends JavaPlugin {
         if (instance == null) {
             return 0;
         }
-        return instance.dayCounterValue;
+        return instance.calendarEngine.getDayCounterValue();
+    }
+
+    /**
+     * Access the named day counters. Reads are lock-free and safe from any thread.
+     *
+     * @return registry, or null if the plugin is not yet initialized.
+     */
+    public static DayCounterRegistry getDayCounters() {
+        return instance != null ? instance.dayCounters : null;
+    }
+
+    /**
+     * Get the current value of a named day counter.
+     *
+     * @param name counter name from the {@code day-counters} config section.
+     * @return counter value, or -1 if the counter or the plugin is unavailable.
+     */
+    public static int getNamedCounterValue(String name) {
+        if (instance == null) {
+            return -1;
+        }
+        return instance.dayCounters.get(name);
+    }
+
+    /**
+     * Reset a named day counter to 0 today and immediately persist it.
+     *
+     * @param name counter name.
+     * @return false when no counter has that name.
+     */
+    public static boolean resetNamedCounter(String name) {
+        return instance != null && instance.dayCounters.reset(name);
     }
 
     /**
@@ -562,11 +1904,8 @@ public class SessionManager extends JavaPlugin {
      */
     public static void resetDayCounter() {
         if (instance != null) {
-            instance.dayCounterValue = 0;
-            instance.lastCounterTriggerValue = 0;
-            instance.counterLastUpdatedDate = ZonedDateTime.now(instance.calendarZone != null ? instance.calendarZone : ZoneId.systemDefault())
-                    .toLocalDate();
-            instance.saveDayCounter();
+            instance.calendarEngine.resetDayCounter();
+            publishSnapshot();
         }
     }
 
@@ -578,91 +1917,33 @@ public class SessionManager extends JavaPlugin {
             calendarMonitor.cancel();
         }
 
-        calendarMonitor = new BukkitRunnable() {
-            @Override
-            public void run() {
-                runCalendarCheck();
-            }
-        };
-
-        calendarMonitor.runTaskTimer(this, 0L, 800L);
-
-        if (calendarAutoSessionEnabled) {
-            ZonedDateTime now = ZonedDateTime.now(calendarZone != null ? calendarZone : ZoneId.systemDefault());
-            ZonedDateTime next = computeNextEligibleTime(now);
-            if (next != null) {
-                getLogger().info("Next calendar auto-session eligibility at " + next);
-            }
-        }
+        calendarMonitor = scheduler.runTaskTimer(this::runCalendarCheck, 0L, 800L);
+        // Only needed for the log line, so it is worked out after the first check instead of during enable
+        logNextEligibility = calendarAutoSessionEnabled;
     }
 
     /**
      * Evaluate configured calendar rules and start sessions when eligibility is met.
      */
     private void runCalendarCheck() {
-        ZoneId zone = calendarZone != null ? calendarZone : ZoneId.systemDefault();
-        ZonedDateTime now = ZonedDateTime.now(zone);
-        LocalTime targetTime = calendarDailyTime != null ? calendarDailyTime : LocalTime.MIDNIGHT;
-
-        updateDayCounterIfNeeded(now);
-
-        if (!calendarAutoSessionEnabled) {
-            return;
+        if (logNextEligibility) {
+            logNextEligibility = false;
+            getLogger().log(Level.INFO, () -> {
+                ZonedDateTime next = computeNextEligibleTime(calendarEngine.now());
+                return next != null ? "Next calendar auto-session eligibility at " + next
+                        : "No upcoming calendar auto-session eligibility.";
+            });
         }
-
-        if (currentSession != null && currentSession.isRunning()) {
+        if (!isLeaseHolder()) {
+            // Followers mirror the leader's state from disk instead of evaluating rules
             return;
         }
-
-        switch (calendarMode) {
-            case "specific":
-                if (calendarSpecificTriggered || calendarSpecificDateTime == null) {
-                    return;
-                }
-                ZonedDateTime target = ZonedDateTime.of(calendarSpecificDateTime, zone);
-                if (!now.isBefore(target)) {
-                    calendarSpecificTriggered = true;
-                    triggerCalendarSession(now);
-                }
-                break;
-            case "daily":
-                if (lastCalendarTriggerDate != null && lastCalendarTriggerDate.equals(now.toLocalDate())) return;
-                if (!now.toLocalTime().isBefore(targetTime)) {
-                    triggerCalendarSession(now);
-                }
-                break;
-            case "day-of-week":
-                if (calendarWeekdays.contains(now.getDayOfWeek())
-                        && (lastCalendarTriggerDate == null || !lastCalendarTriggerDate.equals(now.toLocalDate()))
-                        && !now.toLocalTime().isBefore(targetTime)) {
-                    triggerCalendarSession(now);
-                }
-                break;
-            case "day-of-month":
-                if (calendarMonthDays.contains(now.getDayOfMonth())
-                        && (lastCalendarTriggerDate == null || !lastCalendarTriggerDate.equals(now.toLocalDate()))
-                        && !now.toLocalTime().isBefore(targetTime)) {
-                    triggerCalendarSession(now);
-                }
-                break;
-            case "day-of-year":
-                if (calendarYearDays.contains(now.getDayOfYear())
-                        && (lastCalendarTriggerDate == null || !lastCalendarTriggerDate.equals(now.toLocalDate()))
-                        && !now.toLocalTime().isBefore(targetTime)) {
-                    triggerCalendarSession(now);
-                }
-                break;
-            case "custom-counter":
-                if (calendarCustomCounterTarget > 0 && dayCounterValue >= calendarCustomCounterTarget
-                        && lastCounterTriggerValue != dayCounterValue) {
-                    triggerCalendarSession(now);
-                    lastCounterTriggerValue = dayCounterValue;
-                    resetDayCounter();
-                }
-                break;
-            default:
-                break;
-        }
+        // Follow runtime edits to the public calendar fields
+        calendarEngine.updateSettings(calendarAutoSessionEnabled, calendarMode, calendarZone,
+                calendarSpecificDateTime, calendarDailyTime, calendarWeekdays, calendarMonthDays,
+                calendarYearDays, calendarCustomCounterTarget);
+        calendarEngine.check();
+        dayCounters.check();
     }
 
     /**
@@ -672,88 +1953,44 @@ public class SessionManager extends JavaPlugin {
      * @return next eligible timestamp or null if none can be determined.
      */
     private ZonedDateTime computeNextEligibleTime(ZonedDateTime now) {
-        ZoneId zone = calendarZone != null ? calendarZone : ZoneId.systemDefault();
-        LocalTime timeForCandidate = calendarDailyTime != null ? calendarDailyTime : LocalTime.MIDNIGHT;
-        switch (calendarMode) {
-            case "specific":
-                return calendarSpecificDateTime != null ? ZonedDateTime.of(calendarSpecificDateTime, zone) : null;
-            case "daily":
-                LocalDate nextDay = now.toLocalTime().isBefore(timeForCandidate) ? now.toLocalDate()
-                        : now.toLocalDate().plusDays(1);
-                return ZonedDateTime.of(nextDay, timeForCandidate, zone);
-            case "day-of-week":
-                for (int i = 0; i < 7; i++) {
-                    ZonedDateTime candidate = now.plusDays(i);
-                    if (calendarWeekdays.contains(candidate.getDayOfWeek())) {
-                        return ZonedDateTime.of(candidate.toLocalDate(), timeForCandidate, zone);
-                    }
-                }
-                break;
-            case "day-of-month":
-                for (int i = 0; i < 60; i++) {
-                    ZonedDateTime candidate = now.plusDays(i);
-                    if (calendarMonthDays.contains(candidate.getDayOfMonth())) {
-                        return ZonedDateTime.of(candidate.toLocalDate(), timeForCandidate, zone);
-                    }
-                }
-                break;
-            case "day-of-year":
-                for (int i = 0; i < 370; i++) {
-                    ZonedDateTime candidate = now.plusDays(i);
-                    if (calendarYearDays.contains(candidate.getDayOfYear())) {
-                        return ZonedDateTime.of(candidate.toLocalDate(), timeForCandidate, zone);
-                    }
-                }
-                break;
-            case "custom-counter":
-            default:
-                break;
-        }
-        return null;
-    }
-
-    /**
-     * Record the date when an auto-session was triggered to avoid duplicate firings.
-     *
-     * @param date date of the trigger.
-     */
-    private void markTriggerConsumed(LocalDate date) {
-        lastCalendarTriggerDate = date;
-        saveDayCounter();
+        return calendarEngine.computeNextEligibleTime(now);
     }
 
     /**
      * Create and start a new session based on calendar eligibility and broadcast notifications.
      *
      * @param now timestamp of the trigger.
+     * @return false when the session was deferred; the engine retries on its next check.
      */
-    private void triggerCalendarSession(ZonedDateTime now) {
+    private boolean triggerCalendarSession(ZonedDateTime now) {
         if (currentSession != null && currentSession.isRunning()) {
-            return;
+            return true;
+        }
+        if (!isTriggerAuthority()) {
+            return true;
+        }
+        if (deferTrigger(SessionTrigger.CALENDAR)) {
+            return false;
         }
 
-        int duration = calendarDurationOverride > 0 ? calendarDurationOverride : defaultDuration;
-        currentSession = new Session(this, duration, true);
-        Bukkit.getPluginManager().callEvent(new SessionAutostartEvent(currentSession));
+        SessionProfile profile = calendarSessionProfile();
+        int duration = calendarDurationOverride > 0 ? calendarDurationOverride : resolveDuration(profile);
+        currentSession = new Session(this, profile, duration, true, SessionTrigger.CALENDAR);
+        profiler.callEvent(new SessionAutostartEvent(currentSession));
         String startMessage = config.getString("messages.calendar-session-start", "A calendar session has started.");
         if (startMessage != null && !startMessage.isEmpty()) {
-            Bukkit.getServer().broadcastMessage(startMessage.replace("%mode%", calendarMode));
+            broadcast(startMessage.replace("%mode%", calendarMode));
         }
         currentSession.start();
 
-        if (calendarAutoEnd) {
+        // The session's own countdown ends it, so frozen time and open-ended profiles are honoured
+        if (calendarAutoEnd && profile.isAutoEnd()) {
             String autoEndMessage = config.getString("messages.calendar-session-auto-end", "Session will auto-end soon.");
             if (autoEndMessage != null && !autoEndMessage.isEmpty()) {
-                Bukkit.getServer().broadcastMessage(autoEndMessage.replace("%seconds%", String.valueOf(duration)));
+                broadcast(autoEndMessage.replace("%seconds%", String.valueOf(duration)));
             }
-            Bukkit.getScheduler().runTaskLater(this, () -> {
-                if (currentSession != null && currentSession.isRunning()) {
-                    currentSession.beginEndSequence();
-                }
-            }, duration * 20L);
         }
-
-        markTriggerConsumed(now.toLocalDate());
+        return true;
     }
 
     /**
@@ -765,30 +2002,33 @@ public class SessionManager extends JavaPlugin {
         }
 
         scheduledStartTriggered = false;
-        scheduledStartMonitor = new BukkitRunnable() {
-            @Override
-            public void run() {
-                if (scheduledStartTriggered) {
-                    cancel();
-                    return;
-                }
+        // check every 30 seconds
+        scheduledStartMonitor = scheduler.runTaskTimer(() -> {
+            if (scheduledStartTriggered) {
+                scheduledStartMonitor.cancel();
+                return;
+            }
 
-                if (currentSession != null && currentSession.isRunning()) {
-                    return;
-                }
+            if (currentSession != null && currentSession.isRunning()) {
+                return;
+            }
 
-                LocalDateTime now = LocalDateTime.now(scheduledStartZone);
-                if (!now.isBefore(scheduledStartDateTime)) {
-                    scheduledStartTriggered = true;
-                    currentSession = new Session(SessionManager.this, defaultDuration, true);
-                    Bukkit.getPluginManager().callEvent(new SessionAutostartEvent(currentSession));
-                    currentSession.start();
-                    cancel();
-                }
+            if (!isTriggerAuthority()) {
+                return;
             }
-        };
 
-        // check every 30 seconds
-        scheduledStartMonitor.runTaskTimer(this, 0L, 600L);
+            LocalDateTime now = LocalDateTime.now(clock.withZone(scheduledStartZone));
+            if (!now.isBefore(scheduledStartDateTime)) {
+                if (deferTrigger(SessionTrigger.SCHEDULED)) {
+                    return;
+                }
+                scheduledStartTriggered = true;
+                currentSession = new Session(SessionManager.this, defaultDuration, true, SessionTrigger.SCHEDULED);
+                profiler.callEvent(new SessionAutostartEvent(currentSession));
+                currentSession.start();
+                scheduledStartMonitor.cancel();
+                publishSchedule();
+            }
+        }, 0L, 600L);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,15 @@
+package me.BaddCamden.SessionLibrary;
+
+/**
+ * Coarse lifecycle phase of a {@link Session}.
+ */
+public enum SessionPhase {
+    /** Created or stopped; no countdown is running. */
+    IDLE,
+    /** Countdown is running. */
+    RUNNING,
+    /** The end sequence (hooks and grace period) is underway. */
+    ENDING,
+    /** The session has fully ended. */
+    ENDED
+}
@@ -0,0 +1,241 @@
+package me.BaddCamden.SessionLibrary;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Named, immutable set of session settings: duration, milestone broadcasts, messages, grace
+ * period, auto-end, and audience.
+ * <p>
+ * Profiles are compiled once when configuration loads. Milestones are kept as a sorted array
+ * searched with a binary search, the ending message has its grace period substituted already,
+ * and the countdown message is split around its placeholder, so a running session never reads
+ * YAML or parses templates. The {@code default} profile is built from the top-level
+ * {@code session-duration}, {@code end-grace-period-seconds}, and {@code messages.*} keys.
+ */
+public final class SessionProfile {
+
+    /** Name of the profile built from the top-level configuration. */
+    public static final String DEFAULT = "default";
+
+    /** Profile used before configuration has loaded, with the library's built-in messages. */
+    static final SessionProfile BUILT_IN = new SessionProfile(DEFAULT, 0, 60, true, null,
+            Map.of(600, "10 minutes left!", 60, "1 minute left!", 30, "30 seconds left!"),
+            "Session is halfway!", 10, "Countdown: %seconds% seconds", "Session started!",
+            "Session has ended. Please log off within %seconds% seconds.", "Session ended!");
+
+    private final String name;
+    private final int duration;
+    private final int graceSeconds;
+    private final boolean autoEnd;
+    private final String audience;
+    // Ascending seconds-left values with the message broadcast at each
+    private final int[] milestoneSeconds;
+    private final String[] milestoneMessages;
+    private final String halfwayMessage;
+    private final int countdownSeconds;
+    private final String countdownMessage;
+    private final String countdownPrefix;
+    private final String countdownSuffix;
+    private final String startMessage;
+    private final String endingMessage;
+    private final String endingTemplate;
+    private final String endMessage;
+
+    /**
+     * Compile a profile.
+     *
+     * @param name             profile name.
+     * @param duration         session length in seconds, or 0 to follow the default duration.
+     * @param graceSeconds     seconds players get to log off once the end sequence begins; at least 1.
+     * @param autoEnd          whether the end sequence begins when the timer reaches zero; when
+     *                         false the session stays open at zero until ended explicitly.
+     * @param audience         permission a player needs to receive broadcasts, or null/empty for everyone.
+     * @param milestones       seconds left mapped to the message broadcast at that point.
+     * @param halfwayMessage   message at half the session's duration, or null for none.
+     * @param countdownSeconds final seconds broadcast one by one.
+     * @param countdownMessage countdown template with {@code %seconds%}, or null for none.
+     * @param startMessage     message when the session starts, or null for none.
+     * @param endingMessage    end sequence template with {@code %seconds%} for the grace period, or null.
+     * @param endMessage       message when the session ends, or null for none.
+     */
+    public SessionProfile(String name, int duration, int graceSeconds, boolean autoEnd, String audience,
+            Map<Integer, String> milestones, String halfwayMessage, int countdownSeconds, String countdownMessage,
+            String startMessage, String endingMessage, String endMessage) {
+        this.name = name;
+        this.duration = Math.max(0, duration);
+        this.graceSeconds = Math.max(1, graceSeconds);
+        this.autoEnd = autoEnd;
+        this.audience = audience != null && !audience.isEmpty() ? audience : null;
+        TreeMap<Integer, String> sorted = new TreeMap<>();
+        for (Map.Entry<Integer, String> milestone : milestones.entrySet()) {
+            if (milestone.getKey() > 0 && milestone.getValue() != null && !milestone.getValue().isEmpty()) {
+                sorted.put(milestone.getKey(), milestone.getValue());
+            }
+        }
+        this.milestoneSeconds = sorted.keySet().stream().mapToInt(Integer::intValue).toArray();
+        this.milestoneMessages = sorted.values().toArray(new String[0]);
+        this.halfwayMessage = emptyToNull(halfwayMessage);
+        this.countdownSeconds = Math.max(0, countdownSeconds);
+        this.countdownMessage = emptyToNull(countdownMessage);
+        int placeholder = this.countdownMessage != null ? this.countdownMessage.indexOf("%seconds%") : -1;
+        this.countdownPrefix = placeholder >= 0 ? this.countdownMessage.substring(0, placeholder) : this.countdownMessage;
+        this.countdownSuffix = placeholder >= 0 ? this.countdownMessage.substring(placeholder + 9) : null;
+        this.startMessage = emptyToNull(startMessage);
+        this.endingTemplate = emptyToNull(endingMessage);
+        this.endingMessage = endingTemplate != null
+                ? endingTemplate.replace("%seconds%", String.valueOf(this.graceSeconds)) : null;
+        this.endMessage = emptyToNull(endMessage);
+    }
+
+    private static String emptyToNull(String message) {
+        return message != null && !message.isEmpty() ? message : null;
+    }
+
+    /**
+     * Message for a milestone, found with a binary search over the sorted milestones.
+     *
+     * @param secondsLeft remaining seconds.
+     * @return milestone message, or null when no milestone is at that point.
+     */
+    public String milestoneMessage(int secondsLeft) {
+        int index = Arrays.binarySearch(milestoneSeconds, secondsLeft);
+        return index >= 0 ? milestoneMessages[index] : null;
+    }
+
+    /**
+     * Countdown message for one of the final seconds.
+     *
+     * @param secondsLeft remaining seconds.
+     * @return message, or null when outside the countdown or no countdown message is set.
+     */
+    public String countdownMessage(int secondsLeft) {
+        if (countdownPrefix == null || secondsLeft <= 0 || secondsLeft > countdownSeconds) {
+            return null;
+        }
+        return countdownSuffix != null ? countdownPrefix + secondsLeft + countdownSuffix : countdownPrefix;
+    }
+
+    /**
+     * Profile name.
+     *
+     * @return name used in config and commands.
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Configured session length.
+     *
+     * @return seconds, or 0 when the profile follows the default duration.
+     */
+    public int getDuration() {
+        return duration;
+    }
+
+    /**
+     * Grace period of the end sequence.
+     *
+     * @return seconds players get to log off.
+     */
+    public int getGraceSeconds() {
+        return graceSeconds;
+    }
+
+    /**
+     * Check whether sessions end on their own when the timer reaches zero.
+     *
+     * @return true when the end sequence begins at zero.
+     */
+    public boolean isAutoEnd() {
+        return autoEnd;
+    }
+
+    /**
+     * Permission a player needs to receive this profile's broadcasts.
+     *
+     * @return permission, or null when everyone receives them.
+     */
+    public String getAudience() {
+        return audience;
+    }
+
+    /**
+     * Milestones other than halfway and the final countdown.
+     *
+     * @return unmodifiable map of seconds left to message, in ascending order.
+     */
+    public Map<Integer, String> getMilestones() {
+        Map<Integer, String> milestones = new TreeMap<>();
+        for (int i = 0; i < milestoneSeconds.length; i++) {
+            milestones.put(milestoneSeconds[i], milestoneMessages[i]);
+        }
+        return Collections.unmodifiableMap(milestones);
+    }
+
+    /**
+     * Message at half the session's duration.
+     *
+     * @return message, or null for none.
+     */
+    public String getHalfwayMessage() {
+        return halfwayMessage;
+    }
+
+    /**
+     * Number of final seconds broadcast one by one.
+     *
+     * @return countdown length in seconds.
+     */
+    public int getCountdownSeconds() {
+        return countdownSeconds;
+    }
+
+    /**
+     * Countdown template.
+     *
+     * @return template with {@code %seconds%}, or null for none.
+     */
+    public String getCountdownTemplate() {
+        return countdownMessage;
+    }
+
+    /**
+     * Message when a session starts.
+     *
+     * @return message, or null for none.
+     */
+    public String getStartMessage() {
+        return startMessage;
+    }
+
+    /**
+     * Message when the end sequence begins, with the grace period filled in.
+     *
+     * @return message, or null for none.
+     */
+    public String getEndingMessage() {
+        return endingMessage;
+    }
+
+    /**
+     * End sequence template, before the grace period is filled in.
+     *
+     * @return template with {@code %seconds%}, or null for none.
+     */
+    public String getEndingTemplate() {
+        return endingTemplate;
+    }
+
+    /**
+     * Message when a session ends.
+     *
+     * @return message, or null for none.
+     */
+    public String getEndMessage() {
+        return endMessage;
+    }
+}
@@ -0,0 +1,60 @@
+package me.BaddCamden.SessionLibrary;
+
+/**
+ * Immutable, consistent view of the library state at the moment it last changed.
+ * <p>
+ * A new snapshot is published through {@link SessionManager#snapshot()} whenever a session
+ * changes phase or deadline, the session count changes, or the day counter changes. Reading it
+ * is a single volatile read, so any thread may use it without locks. {@code timeLeft} is the
+ * countdown when the snapshot was taken; use {@link #secondsLeft(long)} for a live value.
+ *
+ * @param id             session id, or -1 when no session exists.
+ * @param phase          lifecycle phase of the session.
+ * @param duration       full session length in seconds.
+ * @param deadlineMillis epoch millis at which the countdown reaches zero, or 0 if never started.
+ * @param timeLeft       remaining seconds when the snapshot was published.
+ * @param trigger        what created the session, or null when no session exists.
+ * @param sessionCount   completed sessions counter.
+ * @param dayCounter     calendar day counter.
+ */
+public record SessionSnapshot(long id, SessionPhase phase, int duration, long deadlineMillis, int timeLeft,
+        SessionTrigger trigger, int sessionCount, int dayCounter) {
+
+    /**
+     * Capture the given session together with the current counters.
+     *
+     * @param session session to describe; may be null.
+     * @return new snapshot.
+     */
+    static SessionSnapshot of(Session session) {
+        if (session == null) {
+            return new SessionSnapshot(-1L, SessionPhase.IDLE, 0, 0L, 0, null,
+                    SessionManager.sessionCount, SessionManager.getDayCounterValue());
+        }
+        return new SessionSnapshot(session.getId(), session.getPhase(), session.getDuration(),
+                session.getDeadlineMillis(), session.getTimeLeft(), session.getTrigger(),
+                SessionManager.sessionCount, SessionManager.getDayCounterValue());
+    }
+
+    /**
+     * Check whether the countdown or end sequence was in progress.
+     *
+     * @return true for {@link SessionPhase#RUNNING} and {@link SessionPhase#ENDING}.
+     */
+    public boolean isRunning() {
+        return phase == SessionPhase.RUNNING || phase == SessionPhase.ENDING;
+    }
+
+    /**
+     * Compute the live countdown from the deadline.
+     *
+     * @param nowMillis current epoch millis, e.g. {@code SessionManager.getClock().millis()}.
+     * @return whole seconds left, or 0 when the session is not running or already due.
+     */
+    public int secondsLeft(long nowMillis) {
+        if (phase != SessionPhase.RUNNING || deadlineMillis <= nowMillis) {
+            return 0;
+        }
+        return (int) ((deadlineMillis - nowMillis + 999) / 1000);
+    }
+}
@@ -0,0 +1,177 @@
+package me.BaddCamden.SessionLibrary;
+
+import java.util.Arrays;
+
+import me.BaddCamden.SessionLibrary.events.SessionTickBatchEvent;
+import me.BaddCamden.SessionLibrary.scheduler.SessionTask;
+
+/**
+ * Single once-per-second timer that advances every running {@link Session}.
+ * <p>
+ * Sessions join when they start and leave when they end or stop, so the number of scheduler
+ * tasks stays at one however many sessions run. After each pass the ticked sessions are
+ * published as one {@link SessionTickBatchEvent}, which reuses the same arrays every second and
+ * is skipped entirely when nothing listens. The timer only runs while at least one session is
+ * active, and all methods are expected to be called on the main thread.
+ */
+public final class SessionTicker {
+
+    private static final SessionTicker INSTANCE = new SessionTicker();
+
+    private Session[] active = new Session[8];
+    private int activeCount;
+
+    // Batch for the pulse in progress; reused every second
+    private Session[] batchSessions = new Session[8];
+    private long[] batchIds = new long[8];
+    private int[] batchSecondsLeft = new int[8];
+    private int batchSize;
+    private final SessionTickBatchEvent batchEvent = new SessionTickBatchEvent(this);
+
+    private SessionTask task;
+
+    private SessionTicker() {
+    }
+
+    /**
+     * Access the ticker shared by all sessions.
+     *
+     * @return ticker instance.
+     */
+    public static SessionTicker get() {
+        return INSTANCE;
+    }
+
+    /**
+     * Start ticking a session one second from now. Adding a session twice has no effect.
+     *
+     * @param session session that has just started.
+     */
+    synchronized void add(Session session) {
+        for (int i = 0; i < activeCount; i++) {
+            if (active[i] == session) {
+                return;
+            }
+        }
+        if (activeCount == active.length) {
+            active = Arrays.copyOf(active, activeCount * 2);
+        }
+        active[activeCount++] = session;
+        if (task == null) {
+            task = SessionManager.getScheduler().runTaskTimer(this::pulse, 20L, 20L); // every second
+        }
+    }
+
+    /**
+     * Stop ticking a session. Removing a session that is not ticking has no effect.
+     *
+     * @param session session that ended or stopped.
+     */
+    synchronized void remove(Session session) {
+        for (int i = 0; i < activeCount; i++) {
+            if (active[i] == session) {
+                active[i] = active[--activeCount];
+                active[activeCount] = null;
+                break;
+            }
+        }
+        if (activeCount == 0 && task != null) {
+            task.cancel();
+            task = null;
+        }
+    }
+
+    /**
+     * Number of sessions currently ticking.
+     *
+     * @return active session count.
+     */
+    public synchronized int getActiveCount() {
+        return activeCount;
+    }
+
+    /**
+     * Advance every active session once, then publish the batch.
+     */
+    private void pulse() {
+        // Copy first: a tick may end a session and remove it from the active array
+        synchronized (this) {
+            if (batchSessions.length < activeCount) {
+                int capacity = active.length;
+                batchSessions = new Session[capacity];
+                batchIds = new long[capacity];
+                batchSecondsLeft = new int[capacity];
+            }
+            System.arraycopy(active, 0, batchSessions, 0, activeCount);
+            batchSize = activeCount;
+        }
+
+        int ticked = 0;
+        for (int i = 0; i < batchSize; i++) {
+            Session session = batchSessions[i];
+            if (!session.tick()) {
+                continue;
+            }
+            batchSessions[ticked] = session;
+            batchIds[ticked] = session.getId();
+            batchSecondsLeft[ticked] = session.getTimeLeft();
+            ticked++;
+        }
+        for (int i = ticked; i < batchSize; i++) {
+            batchSessions[i] = null;
+        }
+        batchSize = ticked;
+
+        if (ticked > 0 && SessionTickBatchEvent.getHandlerList().getRegisteredListeners().length > 0) {
+            SessionManager.getProfiler().callEvent(batchEvent);
+        }
+    }
+
+    /**
+     * Size of the batch being dispatched.
+     *
+     * @return number of sessions in the current batch.
+     */
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    /**
+     * Session at a position in the batch being dispatched.
+     *
+     * @param index batch position.
+     * @return ticked session.
+     */
+    public Session getBatchSession(int index) {
+        checkIndex(index);
+        return batchSessions[index];
+    }
+
+    /**
+     * Session id at a position in the batch being dispatched.
+     *
+     * @param index batch position.
+     * @return session id.
+     */
+    public long getBatchSessionId(int index) {
+        checkIndex(index);
+        return batchIds[index];
+    }
+
+    /**
+     * Remaining seconds at a position in the batch being dispatched.
+     *
+     * @param index batch position.
+     * @return seconds left after the tick.
+     */
+    public int getBatchSecondsLeft(int index) {
+        checkIndex(index);
+        return batchSecondsLeft[index];
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index >= batchSize) {
+            throw new IndexOutOfBoundsException("Batch index " + index + " out of range for size " + batchSize);
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package me.BaddCamden.SessionLibrary;
+
+/**
+ * What caused a {@link Session} to be created.
+ */
+public enum SessionTrigger {
+    /** Started by an administrator with {@code /session start}. */
+    MANUAL,
+    /** Started by the {@code autostart} option after the plugin enabled. */
+    AUTOSTART,
+    /** Started by the one-time {@code scheduled-start} datetime. */
+    SCHEDULED,
+    /** Started by a {@code calendar-auto-session} rule. */
+    CALENDAR,
+    /** Started by another plugin through the API. */
+    API,
+    /** Mirrored from another server through cross-server sync. */
+    REMOTE
+}
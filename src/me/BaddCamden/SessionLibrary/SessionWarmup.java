@@ -0,0 +1,129 @@
+package me.BaddCamden.SessionLibrary;
+
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Supplier;
+
+import me.BaddCamden.SessionLibrary.events.SessionPreStartEvent;
+import me.BaddCamden.SessionLibrary.scheduler.SessionTask;
+
+/**
+ * Fires {@link SessionPreStartEvent} a fixed lead time before each planned scheduled or calendar
+ * start.
+ * <p>
+ * Planned start instants are cached as epoch millis and only recomputed when trigger state
+ * changes (see {@link #invalidate()}) or once a minute to follow runtime edits to the public
+ * schedule fields, so the once-per-second check is a couple of long comparisons. Each planned
+ * instant is announced at most once; a plan made inside the warmup window is announced
+ * immediately with the shorter remaining lead time. All methods run on the main thread.
+ */
+public final class SessionWarmup {
+
+    private static final long NONE = Long.MIN_VALUE;
+    private static final int REPLAN_SECONDS = 60;
+    private static final SessionTrigger[] TRIGGERS = { SessionTrigger.SCHEDULED, SessionTrigger.CALENDAR };
+
+    private final long leadMillis;
+    // Parallel to TRIGGERS; entries may be null
+    private final List<Supplier<Instant>> planners;
+
+    private final long[] planned = { NONE, NONE };
+    private final long[] announced = { NONE, NONE };
+    private boolean dirty = true;
+    private int secondsSincePlan;
+
+    private SessionTask task;
+
+    /**
+     * Create a warmup announcer; call {@link #start()} to begin checking.
+     *
+     * @param leadSeconds    seconds before a planned start to fire the event.
+     * @param scheduledStart supplier of the planned scheduled start, or null when none.
+     * @param calendarStart  supplier of the planned calendar start, or null when none.
+     */
+    public SessionWarmup(int leadSeconds, Supplier<Instant> scheduledStart, Supplier<Instant> calendarStart) {
+        this.leadMillis = Math.max(0, leadSeconds) * 1000L;
+        this.planners = Arrays.asList(scheduledStart, calendarStart);
+    }
+
+    /**
+     * Begin checking planned starts once per second.
+     */
+    public void start() {
+        task = SessionManager.getScheduler().runTaskTimer(this::pulse, 20L, 20L);
+    }
+
+    /**
+     * Stop checking planned starts.
+     */
+    public void stop() {
+        if (task != null) {
+            task.cancel();
+            task = null;
+        }
+    }
+
+    /**
+     * Recompute planned starts on the next check, e.g. after a trigger fired or settings changed.
+     */
+    public void invalidate() {
+        dirty = true;
+    }
+
+    /**
+     * Access the cached planned start for a trigger.
+     *
+     * @param trigger {@link SessionTrigger#SCHEDULED} or {@link SessionTrigger#CALENDAR}.
+     * @return planned start, or null when none is planned or the trigger is not scheduled.
+     */
+    public Instant getPlannedStart(SessionTrigger trigger) {
+        for (int i = 0; i < TRIGGERS.length; i++) {
+            if (TRIGGERS[i] == trigger) {
+                return planned[i] != NONE ? Instant.ofEpochMilli(planned[i]) : null;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Configured lead time.
+     *
+     * @return seconds between the event and the planned start.
+     */
+    public int getLeadSeconds() {
+        return (int) (leadMillis / 1000L);
+    }
+
+    /**
+     * Refresh plans when needed and announce any start that entered its warmup window.
+     */
+    private void pulse() {
+        if (dirty || ++secondsSincePlan >= REPLAN_SECONDS) {
+            plan();
+        }
+        long now = SessionManager.getClock().millis();
+        for (int i = 0; i < TRIGGERS.length; i++) {
+            long start = planned[i];
+            if (start == NONE || start == announced[i] || now >= start || now < start - leadMillis) {
+                continue;
+            }
+            announced[i] = start;
+            SessionManager.getProfiler().callEvent(
+                    new SessionPreStartEvent(TRIGGERS[i], Instant.ofEpochMilli(start), start - now));
+        }
+    }
+
+    /**
+     * Ask each planner for its next start.
+     */
+    private void plan() {
+        dirty = false;
+        secondsSincePlan = 0;
+        for (int i = 0; i < TRIGGERS.length; i++) {
+            Supplier<Instant> planner = planners.get(i);
+            Instant next = planner != null ? planner.get() : null;
+            planned[i] = next != null ? next.toEpochMilli() : NONE;
+        }
+    }
+}
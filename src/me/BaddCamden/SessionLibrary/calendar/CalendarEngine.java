@@ -0,0 +1,781 @@
+package me.BaddCamden.SessionLibrary.calendar;
+
+import java.time.Clock;
+import java.time.DayOfWeek;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.BooleanSupplier;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+/**
+ * Platform-neutral evaluation of calendar auto-session rules and the persisted day counter.
+ * Time comes from an injectable {@link Clock}; starting sessions and persisting state are
+ * delegated to callbacks so the same logic runs on a server or in a headless simulation.
+ */
+public class CalendarEngine {
+
+    // Day 366 only recurs in leap years, so eligible-day searches look this far ahead
+    private static final int SEARCH_YEARS = 8;
+    private static final Object[] NO_VALUES = new Object[0];
+
+    // Rule settings
+    private boolean enabled;
+    private String mode = "specific";
+    private ZoneId zone = ZoneId.systemDefault();
+    private LocalDateTime specificDateTime;
+    private LocalTime dailyTime;
+    private Set<DayOfWeek> weekdays = Collections.emptySet();
+    private Set<Integer> monthDays = Collections.emptySet();
+    private Set<Integer> yearDays = Collections.emptySet();
+    // Elements of the day sets, so the caller's sets can be compared without iterating them
+    private Object[] weekdayValues = NO_VALUES;
+    private Object[] monthDayValues = NO_VALUES;
+    private Object[] yearDayValues = NO_VALUES;
+    private int customCounterTarget;
+    private DayCalendar blackout = DayCalendar.EMPTY;
+    private DayCalendar forceInclude = DayCalendar.EMPTY;
+    // Eligible days per year for the date-based modes, compiled on first use
+    private final Map<Integer, BitSet> eligibleYears = new HashMap<>();
+
+    // Trigger and day counter state
+    private boolean specificTriggered;
+    private LocalDate lastCalendarTriggerDate;
+    private int lastCounterTriggerValue;
+    private LocalDate counterLastUpdatedDate;
+    private int dayCounterValue;
+
+    // Epoch millis before which nothing can change; lets check() return without allocating
+    private long quietUntilMillis = Long.MIN_VALUE;
+    // Set when the trigger declined a due rule, so the next check evaluates it again
+    private boolean deferred;
+    // Bumped whenever settings or trigger state change; lets callers cache derived schedules
+    private long revision;
+
+    private Clock clock;
+    private BooleanSupplier sessionActive = () -> false;
+    private Predicate<ZonedDateTime> trigger = now -> true;
+    private Runnable persistCallback = () -> { };
+    private Consumer<LocalDate> dayChangeCallback = today -> { };
+
+    /**
+     * Create an engine reading time from the given clock.
+     *
+     * @param clock time source; its zone is ignored in favour of the configured calendar zone.
+     */
+    public CalendarEngine(Clock clock) {
+        this.clock = clock;
+    }
+
+    // ------------------------------------------------------------------------
+    // Wiring
+    // ------------------------------------------------------------------------
+
+    /**
+     * Replace the time source, e.g. with a virtual clock during simulation.
+     *
+     * @param clock new time source.
+     */
+    public void setClock(Clock clock) {
+        this.clock = clock;
+        invalidate();
+    }
+
+    /**
+     * Supply the check used to skip triggers while a session is already running.
+     *
+     * @param sessionActive returns true while a session is running.
+     */
+    public void setSessionActive(BooleanSupplier sessionActive) {
+        this.sessionActive = sessionActive;
+    }
+
+    /**
+     * Supply the action that starts a calendar session. Returning false defers the trigger:
+     * nothing is recorded as consumed and the rule is evaluated again on the next check.
+     *
+     * @param trigger receives the trigger timestamp in the calendar zone; returns false to defer.
+     */
+    public void setTrigger(Predicate<ZonedDateTime> trigger) {
+        this.trigger = trigger;
+    }
+
+    /**
+     * Supply the action invoked whenever trigger or counter state changes and should be saved.
+     *
+     * @param persistCallback persistence action.
+     */
+    public void setPersistCallback(Runnable persistCallback) {
+        this.persistCallback = persistCallback;
+    }
+
+    /**
+     * Supply the action invoked when the day counter advances past a calendar day boundary.
+     *
+     * @param dayChangeCallback receives the new date in the calendar zone.
+     */
+    public void setDayChangeCallback(Consumer<LocalDate> dayChangeCallback) {
+        this.dayChangeCallback = dayChangeCallback;
+    }
+
+    /**
+     * Apply calendar rule settings. Resets the one-shot specific-date trigger.
+     *
+     * @param enabled             whether calendar sessions are enabled.
+     * @param mode                rule mode (specific, daily, day-of-week, day-of-month, day-of-year, custom-counter).
+     * @param zone                zone used for evaluation; null uses the system default.
+     * @param specificDateTime    target for specific mode.
+     * @param dailyTime           time of day for date-based modes; null means midnight.
+     * @param weekdays            eligible days for day-of-week mode.
+     * @param monthDays           eligible days for day-of-month mode.
+     * @param yearDays            eligible days for day-of-year mode.
+     * @param customCounterTarget day counter value that fires custom-counter mode.
+     */
+    public void configure(boolean enabled, String mode, ZoneId zone, LocalDateTime specificDateTime,
+            LocalTime dailyTime, Set<DayOfWeek> weekdays, Set<Integer> monthDays, Set<Integer> yearDays,
+            int customCounterTarget) {
+        updateSettings(enabled, mode, zone, specificDateTime, dailyTime, weekdays, monthDays, yearDays,
+                customCounterTarget);
+        this.specificTriggered = false;
+        invalidate();
+    }
+
+    /**
+     * Replace the blackout and force-include calendars. No calendar session fires on a blackout
+     * day; a specific or custom-counter trigger that falls on one waits for the next day that is
+     * not blacked out. Force-include days are eligible in the date-based modes whatever the
+     * mode's own day filter says. Blackout wins when a day is in both.
+     *
+     * @param blackout     days on which no calendar session starts; null for none.
+     * @param forceInclude extra eligible days for date-based modes; null for none.
+     */
+    public void setDayCalendars(DayCalendar blackout, DayCalendar forceInclude) {
+        this.blackout = blackout != null ? blackout : DayCalendar.EMPTY;
+        this.forceInclude = forceInclude != null ? forceInclude : DayCalendar.EMPTY;
+        invalidate();
+    }
+
+    /**
+     * Drop the cached quiet period and compiled eligible days so the next {@link #check()}
+     * evaluates rules in full. Call after mutating a rule set in place.
+     */
+    public void invalidate() {
+        quietUntilMillis = Long.MIN_VALUE;
+        eligibleYears.clear();
+        revision++;
+    }
+
+    /**
+     * Update rule settings without resetting trigger state, used to follow runtime edits. The
+     * day sets are compared by content and copied when they change, so a set edited in place
+     * since the last call is picked up as well. Unchanged settings are detected without allocating.
+     *
+     * @see #configure(boolean, String, ZoneId, LocalDateTime, LocalTime, Set, Set, Set, int)
+     */
+    public void updateSettings(boolean enabled, String mode, ZoneId zone, LocalDateTime specificDateTime,
+            LocalTime dailyTime, Set<DayOfWeek> weekdays, Set<Integer> monthDays, Set<Integer> yearDays,
+            int customCounterTarget) {
+        String newMode = mode != null ? mode : "specific";
+        ZoneId newZone = zone != null ? zone : ZoneId.systemDefault();
+        Set<DayOfWeek> newWeekdays = weekdays != null ? weekdays : Collections.emptySet();
+        Set<Integer> newMonthDays = monthDays != null ? monthDays : Collections.emptySet();
+        Set<Integer> newYearDays = yearDays != null ? yearDays : Collections.emptySet();
+        if (enabled != this.enabled || !newMode.equals(this.mode) || !newZone.equals(this.zone)
+                || !Objects.equals(specificDateTime, this.specificDateTime)
+                || !Objects.equals(dailyTime, this.dailyTime)
+                || !containsExactly(newWeekdays, weekdayValues) || !containsExactly(newMonthDays, monthDayValues)
+                || !containsExactly(newYearDays, yearDayValues) || customCounterTarget != this.customCounterTarget) {
+            invalidate();
+            this.weekdays = copyOf(newWeekdays);
+            this.monthDays = copyOf(newMonthDays);
+            this.yearDays = copyOf(newYearDays);
+            this.weekdayValues = this.weekdays.toArray();
+            this.monthDayValues = this.monthDays.toArray();
+            this.yearDayValues = this.yearDays.toArray();
+        }
+        this.enabled = enabled;
+        this.mode = newMode;
+        this.zone = newZone;
+        this.specificDateTime = specificDateTime;
+        this.dailyTime = dailyTime;
+        this.customCounterTarget = customCounterTarget;
+    }
+
+    /**
+     * Check whether a set holds exactly the given elements. Only lookups are made on the set, so
+     * unlike {@link Set#equals(Object)} no iterator is created.
+     *
+     * @param set    caller's set.
+     * @param values distinct elements of the current copy.
+     * @return true when the set has the same elements.
+     */
+    private static boolean containsExactly(Set<?> set, Object[] values) {
+        if (set.size() != values.length) {
+            return false;
+        }
+        for (Object value : values) {
+            if (!set.contains(value)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Private copy of a caller's day set, so later edits to it are seen as changes.
+     *
+     * @param values set to copy.
+     * @return unmodifiable copy.
+     */
+    private static <T> Set<T> copyOf(Set<T> values) {
+        return values.isEmpty() ? Collections.emptySet() : Collections.unmodifiableSet(new HashSet<>(values));
+    }
+
+    // ------------------------------------------------------------------------
+    // Persistence
+    // ------------------------------------------------------------------------
+
+    /**
+     * Restore day counter state using the keys written by {@link #persistentState()}.
+     *
+     * @param values persisted key/value pairs; missing keys fall back to defaults.
+     */
+    public void restoreState(Map<String, ?> values) {
+        dayCounterValue = intValue(values.get("day-count"));
+        counterLastUpdatedDate = parseLocalDate(values.get("last-updated-date"));
+        lastCalendarTriggerDate = parseLocalDate(values.get("last-calendar-trigger-date"));
+        lastCounterTriggerValue = intValue(values.get("last-counter-trigger"));
+        invalidate();
+    }
+
+    /**
+     * Snapshot the state that must survive restarts.
+     *
+     * @return ordered key/value pairs for daycounter.yml.
+     */
+    public Map<String, Object> persistentState() {
+        Map<String, Object> values = new LinkedHashMap<>();
+        values.put("day-count", dayCounterValue);
+        values.put("last-updated-date", counterLastUpdatedDate != null ? counterLastUpdatedDate.toString() : "");
+        values.put("last-calendar-trigger-date", lastCalendarTriggerDate != null ? lastCalendarTriggerDate.toString() : "");
+        values.put("last-counter-trigger", lastCounterTriggerValue);
+        return values;
+    }
+
+    // ------------------------------------------------------------------------
+    // Evaluation
+    // ------------------------------------------------------------------------
+
+    /**
+     * Current time in the calendar zone according to the injected clock.
+     *
+     * @return zoned timestamp.
+     */
+    public ZonedDateTime now() {
+        return ZonedDateTime.now(clock.withZone(zone));
+    }
+
+    /**
+     * Evaluate configured calendar rules and start sessions when eligibility is met.
+     * After a full evaluation that found nothing due, the engine remembers the next instant at
+     * which a rule or the day counter could change, and until then returns without allocating.
+     *
+     * @return true when rules were evaluated; false when the cached quiet period short-circuited.
+     */
+    public boolean check() {
+        if (clock.millis() < quietUntilMillis) {
+            return false;
+        }
+
+        ZonedDateTime now = now();
+        LocalTime targetTime = dailyTime != null ? dailyTime : LocalTime.MIDNIGHT;
+
+        updateDayCounterIfNeeded(now);
+
+        if (!enabled) {
+            quietUntilMillis = nextMidnightMillis(now);
+            return true;
+        }
+
+        if (sessionActive.getAsBoolean()) {
+            return true;
+        }
+
+        deferred = false;
+        boolean fired = evaluateRules(now, targetTime);
+        if (!fired && !deferred) {
+            quietUntilMillis = computeQuietUntil(now);
+        }
+        return true;
+    }
+
+    /**
+     * Apply the configured mode to the current time.
+     *
+     * @param now        current time in the calendar zone.
+     * @param targetTime time of day for date-based modes.
+     * @return true when a session was triggered.
+     */
+    private boolean evaluateRules(ZonedDateTime now, LocalTime targetTime) {
+        if (blackout.contains(now.toLocalDate())) {
+            return false;
+        }
+        switch (mode) {
+            case "specific":
+                if (specificTriggered || specificDateTime == null) {
+                    return false;
+                }
+                ZonedDateTime target = ZonedDateTime.of(specificDateTime, zone);
+                if (!now.isBefore(target) && fire(now)) {
+                    specificTriggered = true;
+                    return true;
+                }
+                return false;
+            case "daily":
+            case "day-of-week":
+            case "day-of-month":
+            case "day-of-year":
+                if (isEligibleDay(now.toLocalDate())
+                        && (lastCalendarTriggerDate == null || !lastCalendarTriggerDate.equals(now.toLocalDate()))
+                        && !now.toLocalTime().isBefore(targetTime)) {
+                    return fire(now);
+                }
+                return false;
+            case "custom-counter":
+                if (customCounterTarget > 0 && dayCounterValue >= customCounterTarget
+                        && lastCounterTriggerValue != dayCounterValue && fire(now)) {
+                    lastCounterTriggerValue = dayCounterValue;
+                    resetDayCounter();
+                    return true;
+                }
+                return false;
+            default:
+                return false;
+        }
+    }
+
+    /**
+     * Work out how long the engine can skip evaluation after a check that fired nothing.
+     * The day counter can only change at local midnight, and date rules only at their next
+     * eligible time; a past eligible time means today's trigger was already consumed.
+     *
+     * @param now time of the completed evaluation.
+     * @return epoch millis of the next instant worth evaluating.
+     */
+    private long computeQuietUntil(ZonedDateTime now) {
+        long midnight = nextMidnightMillis(now);
+        if ("custom-counter".equals(mode)) {
+            return midnight;
+        }
+        if ("specific".equals(mode) && specificTriggered) {
+            return midnight;
+        }
+        ZonedDateTime next = computeNextEligibleTime(now);
+        if (next == null) {
+            return midnight;
+        }
+        long nextMillis = next.toInstant().toEpochMilli();
+        return nextMillis > now.toInstant().toEpochMilli() ? Math.min(midnight, nextMillis) : midnight;
+    }
+
+    /**
+     * Start of the next local day in the calendar zone, honouring DST transitions.
+     *
+     * @param now current time in the calendar zone.
+     * @return epoch millis of the next local midnight.
+     */
+    private long nextMidnightMillis(ZonedDateTime now) {
+        return now.toLocalDate().plusDays(1).atStartOfDay(zone).toInstant().toEpochMilli();
+    }
+
+    /**
+     * Compute the next datetime when an auto-session could start.
+     *
+     * @param now current reference time.
+     * @return next eligible timestamp or null if none can be determined.
+     */
+    public ZonedDateTime computeNextEligibleTime(ZonedDateTime now) {
+        LocalTime timeForCandidate = dailyTime != null ? dailyTime : LocalTime.MIDNIGHT;
+        switch (mode) {
+            case "specific":
+                return specificDateTime != null ? afterBlackout(ZonedDateTime.of(specificDateTime, zone)) : null;
+            case "daily":
+            case "day-of-week":
+            case "day-of-month":
+            case "day-of-year":
+                LocalDate nextDay = nextEligibleDay(now.toLocalTime().isBefore(timeForCandidate) ? now.toLocalDate()
+                        : now.toLocalDate().plusDays(1));
+                return nextDay != null ? ZonedDateTime.of(nextDay, timeForCandidate, zone) : null;
+            case "custom-counter":
+            default:
+                break;
+        }
+        return null;
+    }
+
+    /**
+     * Check whether a date-based mode may fire on a day: the mode's day filter or a
+     * force-include day, and not a blackout day. A single bit test once the year is compiled.
+     *
+     * @param date day in the calendar zone.
+     * @return true when eligible.
+     */
+    public boolean isEligibleDay(LocalDate date) {
+        return eligibleDays(date.getYear()).get(DayCalendar.index(date));
+    }
+
+    /**
+     * Find the first eligible day on or after a date for the date-based modes.
+     *
+     * @param from first day to consider.
+     * @return eligible day, or null when none falls within the next eight years.
+     */
+    public LocalDate nextEligibleDay(LocalDate from) {
+        for (int year = from.getYear(); year <= from.getYear() + SEARCH_YEARS; year++) {
+            int day = eligibleDays(year).nextSetBit(year == from.getYear() ? DayCalendar.index(from) : 0);
+            if (day >= 0) {
+                return LocalDate.ofYearDay(year, 1).plusDays(day);
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Eligible days of one year, compiled from the mode's day filter and the day calendars.
+     *
+     * @param year calendar year.
+     * @return bit per day of the year; must not be modified.
+     */
+    private BitSet eligibleDays(int year) {
+        BitSet days = eligibleYears.get(year);
+        if (days != null) {
+            return days;
+        }
+        LocalDate first = LocalDate.ofYearDay(year, 1);
+        int length = first.lengthOfYear();
+        days = new BitSet(length);
+        boolean dateMode = true;
+        switch (mode) {
+            case "daily":
+                days.set(0, length);
+                break;
+            case "day-of-week":
+                for (DayOfWeek weekday : weekdays) {
+                    for (int day = (weekday.getValue() - first.getDayOfWeek().getValue() + 7) % 7; day < length;
+                            day += 7) {
+                        days.set(day);
+                    }
+                }
+                break;
+            case "day-of-month":
+                for (int month = 1; month <= 12; month++) {
+                    LocalDate monthStart = first.withMonth(month);
+                    for (int dayOfMonth : monthDays) {
+                        if (dayOfMonth >= 1 && dayOfMonth <= monthStart.lengthOfMonth()) {
+                            days.set(DayCalendar.index(monthStart.withDayOfMonth(dayOfMonth)));
+                        }
+                    }
+                }
+                break;
+            case "day-of-year":
+                for (int dayOfYear : yearDays) {
+                    if (dayOfYear >= 1 && dayOfYear <= length) {
+                        days.set(dayOfYear - 1);
+                    }
+                }
+                break;
+            default:
+                // specific and custom-counter have no day filter
+                dateMode = false;
+                break;
+        }
+        BitSet forced = forceInclude.year(year);
+        if (dateMode && forced != null) {
+            days.or(forced);
+        }
+        BitSet blocked = blackout.year(year);
+        if (blocked != null) {
+            days.andNot(blocked);
+        }
+        eligibleYears.put(year, days);
+        return days;
+    }
+
+    /**
+     * Move a trigger time off a blackout day to the start of the next day that is not blacked out.
+     *
+     * @param time trigger time in the calendar zone.
+     * @return the same time, or the next non-blackout midnight.
+     */
+    private ZonedDateTime afterBlackout(ZonedDateTime time) {
+        if (!blackout.contains(time.toLocalDate())) {
+            return time;
+        }
+        return blackout.nextExcluded(time.toLocalDate()).atStartOfDay(zone);
+    }
+
+    /**
+     * Compute when the engine will next start a session, skipping rules already consumed today.
+     * Unlike {@link #computeNextEligibleTime(ZonedDateTime)} this accounts for trigger state, so
+     * it can be used to prepare for the start ahead of time.
+     *
+     * @param now current reference time.
+     * @return planned start, a past time when a due trigger is still pending, or null if none.
+     */
+    public ZonedDateTime computeNextStartTime(ZonedDateTime now) {
+        if (!enabled) {
+            return null;
+        }
+        switch (mode) {
+            case "specific":
+                return specificTriggered ? null : computeNextEligibleTime(now);
+            case "custom-counter":
+                if (customCounterTarget <= 0) {
+                    return null;
+                }
+                int daysLeft = customCounterTarget - dayCounterValue;
+                if (daysLeft <= 0) {
+                    return lastCounterTriggerValue == dayCounterValue ? null : afterBlackout(now);
+                }
+                // The counter advances at local midnight and the rule is evaluated on the next check
+                return afterBlackout(now.toLocalDate().plusDays(daysLeft).atStartOfDay(zone));
+            default:
+                ZonedDateTime next = computeNextEligibleTime(now);
+                if (next != null && next.toLocalDate().equals(lastCalendarTriggerDate)) {
+                    next = computeNextEligibleTime(next.toLocalDate().plusDays(1).atStartOfDay(zone));
+                }
+                return next;
+        }
+    }
+
+    /**
+     * List every time the engine would start a session in a window, assuming each start goes
+     * ahead and ends before the next one is due. Only settings and trigger state are read, so a
+     * {@link #copy()} can evaluate this on another thread.
+     *
+     * @param from  start of the window; a due trigger that is still pending is reported at this time.
+     * @param to    end of the window, inclusive.
+     * @param limit maximum number of start times.
+     * @return start times in the calendar zone, in order.
+     */
+    public List<ZonedDateTime> computeStartTimes(Instant from, Instant to, int limit) {
+        List<ZonedDateTime> times = new ArrayList<>();
+        ZonedDateTime start = from.atZone(zone);
+        ZonedDateTime next = limit > 0 ? computeNextStartTime(start) : null;
+        while (next != null && times.size() < limit && !next.toInstant().isAfter(to)) {
+            ZonedDateTime fired = next.isBefore(start) ? start : next;
+            times.add(fired);
+            switch (mode) {
+                case "specific":
+                    next = null;
+                    break;
+                case "custom-counter":
+                    // Firing resets the counter, so it counts up to the target again from that day
+                    next = afterBlackout(fired.toLocalDate().plusDays(customCounterTarget).atStartOfDay(zone));
+                    break;
+                default:
+                    next = computeNextEligibleTime(fired.toLocalDate().plusDays(1).atStartOfDay(zone));
+                    break;
+            }
+        }
+        return times;
+    }
+
+    /**
+     * Detached copy of the rule settings and trigger state with no callbacks, for evaluating the
+     * schedule away from the thread that owns this engine.
+     *
+     * @return new engine sharing only the clock.
+     */
+    public CalendarEngine copy() {
+        CalendarEngine copy = new CalendarEngine(clock);
+        copy.updateSettings(enabled, mode, zone, specificDateTime, dailyTime, weekdays, monthDays, yearDays,
+                customCounterTarget);
+        copy.setDayCalendars(blackout, forceInclude);
+        copy.specificTriggered = specificTriggered;
+        copy.lastCalendarTriggerDate = lastCalendarTriggerDate;
+        copy.lastCounterTriggerValue = lastCounterTriggerValue;
+        copy.counterLastUpdatedDate = counterLastUpdatedDate;
+        copy.dayCounterValue = dayCounterValue;
+        return copy;
+    }
+
+    /**
+     * Increment the day counter when dates change to support calendar triggers.
+     *
+     * @param now current timestamp in the configured zone.
+     */
+    public void updateDayCounterIfNeeded(ZonedDateTime now) {
+        LocalDate today = now.toLocalDate();
+        if (counterLastUpdatedDate == null) {
+            counterLastUpdatedDate = today;
+            revision++;
+            persistCallback.run();
+            return;
+        }
+
+        if (counterLastUpdatedDate.isBefore(today)) {
+            long daysBetween = ChronoUnit.DAYS.between(counterLastUpdatedDate, today);
+            dayCounterValue += (int) daysBetween;
+            counterLastUpdatedDate = today;
+            revision++;
+            persistCallback.run();
+            dayChangeCallback.accept(today);
+        }
+    }
+
+    /**
+     * Reset the day counter metrics to today and persist them.
+     */
+    public void resetDayCounter() {
+        invalidate();
+        dayCounterValue = 0;
+        lastCounterTriggerValue = 0;
+        counterLastUpdatedDate = now().toLocalDate();
+        persistCallback.run();
+    }
+
+    /**
+     * Start a calendar session and record the date so it does not fire twice.
+     *
+     * @param now timestamp of the trigger.
+     * @return false when the trigger deferred; nothing is recorded in that case.
+     */
+    private boolean fire(ZonedDateTime now) {
+        if (!trigger.test(now)) {
+            deferred = true;
+            return false;
+        }
+        lastCalendarTriggerDate = now.toLocalDate();
+        revision++;
+        persistCallback.run();
+        return true;
+    }
+
+    // ------------------------------------------------------------------------
+    // Accessors
+    // ------------------------------------------------------------------------
+
+    /**
+     * Get the current value of the day counter.
+     *
+     * @return days counted since the last reset.
+     */
+    public int getDayCounterValue() {
+        return dayCounterValue;
+    }
+
+    /**
+     * Date of the most recent calendar trigger.
+     *
+     * @return trigger date or null if none has fired.
+     */
+    public LocalDate getLastCalendarTriggerDate() {
+        return lastCalendarTriggerDate;
+    }
+
+    /**
+     * Date the day counter was last advanced to.
+     *
+     * @return date in the calendar zone, or null before the first check.
+     */
+    public LocalDate getCounterLastUpdatedDate() {
+        return counterLastUpdatedDate;
+    }
+
+    /**
+     * Revision of the settings and trigger state, increased on every change that can move a
+     * future start.
+     *
+     * @return current revision.
+     */
+    public long getRevision() {
+        return revision;
+    }
+
+    /**
+     * Check whether calendar sessions are enabled.
+     *
+     * @return true when rules are evaluated.
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Active calendar mode.
+     *
+     * @return mode name.
+     */
+    public String getMode() {
+        return mode;
+    }
+
+    /**
+     * Days on which no calendar session starts.
+     *
+     * @return blackout calendar; never null.
+     */
+    public DayCalendar getBlackout() {
+        return blackout;
+    }
+
+    /**
+     * Extra eligible days for the date-based modes.
+     *
+     * @return force-include calendar; never null.
+     */
+    public DayCalendar getForceInclude() {
+        return forceInclude;
+    }
+
+    /**
+     * Zone used for calendar evaluation.
+     *
+     * @return calendar zone.
+     */
+    public ZoneId getZone() {
+        return zone;
+    }
+
+    private static int intValue(Object value) {
+        if (value instanceof Number) {
+            return ((Number) value).intValue();
+        }
+        if (value instanceof String) {
+            try {
+                return Integer.parseInt((String) value);
+            } catch (NumberFormatException ignored) {
+                return 0;
+            }
+        }
+        return 0;
+    }
+
+    private static LocalDate parseLocalDate(Object value) {
+        if (value == null || value.toString().isEmpty()) {
+            return null;
+        }
+
+        try {
+            return LocalDate.parse(value.toString());
+        } catch (Exception ex) {
+            return null;
+        }
+    }
+}
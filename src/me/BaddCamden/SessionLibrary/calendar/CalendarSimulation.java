@@ -0,0 +1,184 @@
+package me.BaddCamden.SessionLibrary.calendar;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import me.BaddCamden.SessionLibrary.scheduler.SessionTask;
+import me.BaddCamden.SessionLibrary.scheduler.VirtualClock;
+import me.BaddCamden.SessionLibrary.scheduler.VirtualScheduler;
+
+/**
+ * Headless driver that fast-forwards a {@link CalendarEngine} through virtual time.
+ * The engine is checked on the same 800-tick cadence as the plugin's calendar monitor,
+ * simulated sessions block further triggers for their duration, and every persisted
+ * state is captured so expectations can be verified without a server.
+ */
+public class CalendarSimulation {
+
+    /** Matches the calendar monitor period used by the plugin. */
+    public static final long CHECK_PERIOD_TICKS = 800L;
+
+    private final VirtualClock clock;
+    private final VirtualScheduler scheduler;
+    private final CalendarEngine engine;
+    private final List<ZonedDateTime> triggers = new ArrayList<>();
+    private Map<String, Object> lastPersisted = Collections.emptyMap();
+    private int persistCount;
+    private long sessionDurationTicks;
+    private boolean sessionRunning;
+
+    /**
+     * Create a simulation starting at the given instant. The engine's clock, trigger,
+     * session check and persistence callbacks are replaced with simulated ones.
+     *
+     * @param engine engine to drive, already configured with rules and any restored state.
+     * @param start  virtual start instant.
+     */
+    public CalendarSimulation(CalendarEngine engine, Instant start) {
+        this.engine = engine;
+        this.clock = new VirtualClock(start, ZoneId.of("UTC"));
+        this.scheduler = new VirtualScheduler(clock);
+
+        engine.setClock(clock);
+        engine.setSessionActive(() -> sessionRunning);
+        engine.setTrigger(this::onTrigger);
+        engine.setPersistCallback(() -> {
+            persistCount++;
+            lastPersisted = engine.persistentState();
+        });
+    }
+
+    /**
+     * Make each simulated session run for a duration, blocking triggers while it runs.
+     *
+     * @param seconds session length; 0 ends sessions immediately.
+     * @return this simulation for chaining.
+     */
+    public CalendarSimulation withSessionDuration(int seconds) {
+        this.sessionDurationTicks = Math.max(0, seconds) * 20L;
+        return this;
+    }
+
+    /**
+     * Advance virtual time, running calendar checks on the monitor cadence.
+     *
+     * @param length amount of virtual time to simulate.
+     * @return summary of what happened during this run.
+     */
+    public Result run(Duration length) {
+        int triggersBefore = triggers.size();
+        SessionTask monitor = scheduler.runTaskTimer(engine::check, 0L, CHECK_PERIOD_TICKS);
+        scheduler.advance(length);
+        monitor.cancel();
+        return new Result(new ArrayList<>(triggers.subList(triggersBefore, triggers.size())),
+                engine.getDayCounterValue(), persistCount, lastPersisted);
+    }
+
+    /**
+     * Access the virtual clock, e.g. to read the simulated end time.
+     *
+     * @return simulation clock.
+     */
+    public VirtualClock getClock() {
+        return clock;
+    }
+
+    private boolean onTrigger(ZonedDateTime now) {
+        triggers.add(now);
+        if (sessionDurationTicks > 0) {
+            sessionRunning = true;
+            scheduler.runTaskLater(() -> sessionRunning = false, sessionDurationTicks);
+        }
+        return true;
+    }
+
+    /**
+     * Outcome of a simulation run, with helpers for checking expectations.
+     */
+    public static final class Result {
+        private final List<ZonedDateTime> triggers;
+        private final int dayCounterValue;
+        private final int persistCount;
+        private final Map<String, Object> persistedState;
+
+        private Result(List<ZonedDateTime> triggers, int dayCounterValue, int persistCount,
+                Map<String, Object> persistedState) {
+            this.triggers = Collections.unmodifiableList(triggers);
+            this.dayCounterValue = dayCounterValue;
+            this.persistCount = persistCount;
+            this.persistedState = Collections.unmodifiableMap(new LinkedHashMap<>(persistedState));
+        }
+
+        /**
+         * Timestamps of every calendar trigger during the run.
+         *
+         * @return trigger times in the calendar zone.
+         */
+        public List<ZonedDateTime> getTriggers() {
+            return triggers;
+        }
+
+        /**
+         * Day counter value at the end of the run.
+         *
+         * @return day counter.
+         */
+        public int getDayCounterValue() {
+            return dayCounterValue;
+        }
+
+        /**
+         * Total number of persistence writes since the simulation was created.
+         *
+         * @return save count.
+         */
+        public int getPersistCount() {
+            return persistCount;
+        }
+
+        /**
+         * The most recently persisted daycounter.yml contents.
+         *
+         * @return key/value pairs as they would be written to disk.
+         */
+        public Map<String, Object> getPersistedState() {
+            return persistedState;
+        }
+
+        /**
+         * Compare the run against expected values.
+         *
+         * @param expectedTriggers   expected trigger count, or -1 to skip.
+         * @param expectedDayCounter expected final day counter, or -1 to skip.
+         * @param expectedPersisted  expected persisted entries; only listed keys are compared.
+         * @return human-readable mismatches; empty when every expectation holds.
+         */
+        public List<String> verify(int expectedTriggers, int expectedDayCounter, Map<String, ?> expectedPersisted) {
+            List<String> failures = new ArrayList<>();
+            if (expectedTriggers >= 0 && triggers.size() != expectedTriggers) {
+                failures.add("Expected " + expectedTriggers + " triggers but saw " + triggers.size());
+            }
+            if (expectedDayCounter >= 0 && dayCounterValue != expectedDayCounter) {
+                failures.add("Expected day counter " + expectedDayCounter + " but was " + dayCounterValue);
+            }
+            if (expectedPersisted != null) {
+                for (Map.Entry<String, ?> entry : expectedPersisted.entrySet()) {
+                    Object actual = persistedState.get(entry.getKey());
+                    if (!Objects.equals(String.valueOf(entry.getValue()), String.valueOf(actual))) {
+                        failures.add("Expected persisted " + entry.getKey() + "=" + entry.getValue()
+                                + " but was " + actual);
+                    }
+                }
+            }
+            return failures;
+        }
+    }
+}
@@ -0,0 +1,183 @@
+package me.BaddCamden.SessionLibrary.calendar;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.function.Consumer;
+
+/**
+ * Immutable set of calendar days, such as maintenance blackouts or event days, compiled into
+ * one {@link BitSet} per year. Bit {@code i} of a year's set is the day whose epoch day is
+ * {@code i} days after the year's first epoch day, so membership is a single bit test and
+ * searches run on {@link BitSet#nextSetBit(int)} and {@link BitSet#nextClearBit(int)}.
+ * Safe to share between threads.
+ */
+public final class DayCalendar {
+
+    /** Calendar containing no days. */
+    public static final DayCalendar EMPTY = new DayCalendar(new TreeMap<>());
+
+    private final NavigableMap<Integer, BitSet> years;
+    private final int size;
+
+    private DayCalendar(TreeMap<Integer, BitSet> years) {
+        this.years = Collections.unmodifiableNavigableMap(years);
+        int days = 0;
+        for (BitSet year : years.values()) {
+            days += year.cardinality();
+        }
+        this.size = days;
+    }
+
+    /**
+     * Compile a calendar from individual dates.
+     *
+     * @param dates days to include; duplicates are ignored.
+     * @return compiled calendar.
+     */
+    public static DayCalendar of(Collection<LocalDate> dates) {
+        if (dates.isEmpty()) {
+            return EMPTY;
+        }
+        TreeMap<Integer, BitSet> years = new TreeMap<>();
+        for (LocalDate date : dates) {
+            years.computeIfAbsent(date.getYear(), year -> new BitSet(366)).set(index(date));
+        }
+        return new DayCalendar(years);
+    }
+
+    /**
+     * Compile a calendar from text entries, as found in config lists and date-list files. Each
+     * entry is an ISO date ({@code 2026-12-25}) or an inclusive range
+     * ({@code 2026-12-24..2027-01-02}); blank entries and {@code #} comments are skipped.
+     *
+     * @param entries   entries to parse.
+     * @param onInvalid receives each entry that cannot be parsed.
+     * @return compiled calendar.
+     */
+    public static DayCalendar parse(Iterable<String> entries, Consumer<String> onInvalid) {
+        TreeMap<Integer, BitSet> years = new TreeMap<>();
+        for (String raw : entries) {
+            String entry = raw != null ? raw.trim() : "";
+            int comment = entry.indexOf('#');
+            if (comment >= 0) {
+                entry = entry.substring(0, comment).trim();
+            }
+            if (entry.isEmpty()) {
+                continue;
+            }
+            try {
+                int range = entry.indexOf("..");
+                LocalDate first = LocalDate.parse(range >= 0 ? entry.substring(0, range).trim() : entry);
+                LocalDate last = range >= 0 ? LocalDate.parse(entry.substring(range + 2).trim()) : first;
+                if (last.isBefore(first)) {
+                    onInvalid.accept(raw);
+                    continue;
+                }
+                for (int year = first.getYear(); year <= last.getYear(); year++) {
+                    int from = year == first.getYear() ? index(first) : 0;
+                    int to = year == last.getYear() ? index(last) : LocalDate.ofYearDay(year, 1).lengthOfYear() - 1;
+                    years.computeIfAbsent(year, y -> new BitSet(366)).set(from, to + 1);
+                }
+            } catch (DateTimeParseException ex) {
+                onInvalid.accept(raw);
+            }
+        }
+        if (years.isEmpty()) {
+            return EMPTY;
+        }
+        return new DayCalendar(years);
+    }
+
+    /**
+     * Check whether a day is in the calendar.
+     *
+     * @param date day to test.
+     * @return true when included.
+     */
+    public boolean contains(LocalDate date) {
+        BitSet days = years.get(date.getYear());
+        return days != null && days.get(index(date));
+    }
+
+    /**
+     * Find the first included day on or after a date.
+     *
+     * @param from first day to consider.
+     * @return included day, or null when none follows.
+     */
+    public LocalDate nextIncluded(LocalDate from) {
+        for (Map.Entry<Integer, BitSet> year : years.tailMap(from.getYear(), true).entrySet()) {
+            int start = year.getKey() == from.getYear() ? index(from) : 0;
+            int day = year.getValue().nextSetBit(start);
+            if (day >= 0) {
+                return LocalDate.ofYearDay(year.getKey(), 1).plusDays(day);
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Find the first day on or after a date that is not in the calendar.
+     *
+     * @param from first day to consider.
+     * @return excluded day; never null.
+     */
+    public LocalDate nextExcluded(LocalDate from) {
+        LocalDate day = from;
+        while (true) {
+            BitSet days = years.get(day.getYear());
+            if (days == null) {
+                return day;
+            }
+            int clear = days.nextClearBit(index(day));
+            if (clear < day.lengthOfYear()) {
+                return LocalDate.ofYearDay(day.getYear(), 1).plusDays(clear);
+            }
+            day = LocalDate.of(day.getYear() + 1, 1, 1);
+        }
+    }
+
+    /**
+     * Number of days in the calendar.
+     *
+     * @return day count.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Check whether the calendar has no days.
+     *
+     * @return true when empty.
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Days of one year, for combining with other per-year sets. Callers must not modify it.
+     *
+     * @param year calendar year.
+     * @return the year's bits, or null when the calendar has no day in that year.
+     */
+    BitSet year(int year) {
+        return years.get(year);
+    }
+
+    /**
+     * Bit index of a day within its year: its epoch day minus the year's first epoch day.
+     *
+     * @param date day.
+     * @return index from 0 to 365.
+     */
+    static int index(LocalDate date) {
+        return date.getDayOfYear() - 1;
+    }
+}
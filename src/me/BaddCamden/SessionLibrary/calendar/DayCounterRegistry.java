@@ -0,0 +1,529 @@
+package me.BaddCamden.SessionLibrary.calendar;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.ObjIntConsumer;
+
+/**
+ * Named day counters, each counting days since its own start date in its own zone.
+ * <p>
+ * Counters are stored in parallel arrays grouped by zone, so at a zone's midnight every counter
+ * in that zone is advanced in one pass and the whole registry is persisted once. Values are
+ * published as an immutable view behind a single volatile field, so reads from any thread never
+ * lock and always see one consistent set of values. Mutations happen on one thread, like
+ * {@link CalendarEngine}.
+ */
+public class DayCounterRegistry {
+
+    // Start day not yet known; fixed to the first day the counter is evaluated
+    private static final long UNSET = Long.MIN_VALUE;
+
+    /**
+     * Configured counter.
+     *
+     * @param name          unique counter name; must not contain dots.
+     * @param zone          zone whose midnight advances the counter.
+     * @param startDate     day the counter reads 0, or null to start on the first evaluated day.
+     * @param target        value that fires the target callback; 0 disables.
+     * @param resetOnTarget whether the counter starts over from 0 when it reaches the target.
+     */
+    public record Definition(String name, ZoneId zone, LocalDate startDate, int target, boolean resetOnTarget) {
+    }
+
+    /**
+     * Immutable copy of one counter's target state, safe to evaluate on any thread.
+     *
+     * @param name          counter name.
+     * @param zone          zone whose midnight advances the counter.
+     * @param startEpochDay epoch day the counter reads 0, or {@link Long#MIN_VALUE} if not started yet.
+     * @param target        target value; 0 when disabled.
+     * @param resetOnTarget whether the counter starts over when it reaches the target.
+     * @param pending       whether the current cycle's target has not fired yet.
+     */
+    public record Projection(String name, ZoneId zone, long startEpochDay, int target, boolean resetOnTarget,
+            boolean pending) {
+
+        /**
+         * List the midnights at which the counter reaches its target in a window. Counters that
+         * reset repeat every {@code target} days; the others reach it once.
+         *
+         * @param from  start of the window; a target already due is reported at this time.
+         * @param to    end of the window, inclusive.
+         * @param limit maximum number of times.
+         * @return times in the counter's zone, in order.
+         */
+        public List<ZonedDateTime> targetTimes(Instant from, Instant to, int limit) {
+            List<ZonedDateTime> times = new ArrayList<>();
+            if (target <= 0 || !pending) {
+                return times;
+            }
+            ZonedDateTime start = from.atZone(zone);
+            long today = start.toLocalDate().toEpochDay();
+            // A counter that has not started yet starts on the first day it is evaluated
+            long day = Math.max((startEpochDay != UNSET ? startEpochDay : today) + target, today);
+            while (times.size() < limit) {
+                ZonedDateTime reached = LocalDate.ofEpochDay(day).atStartOfDay(zone);
+                if (reached.toInstant().isAfter(to)) {
+                    break;
+                }
+                times.add(reached.isBefore(start) ? start : reached);
+                if (!resetOnTarget) {
+                    break;
+                }
+                day += target;
+            }
+            return times;
+        }
+    }
+
+    /**
+     * Immutable counter layout, grouped by zone.
+     */
+    private static final class Layout {
+        final String[] names;
+        final List<String> nameList;
+        final Map<String, Integer> index;
+        final ZoneId[] zones;
+        // Counters of zone z occupy indexes zoneFirst[z] until zoneFirst[z + 1]
+        final int[] zoneFirst;
+        final long[] configuredStart;
+        final int[] targets;
+        final boolean[] resetOnTarget;
+
+        Layout(List<Definition> definitions) {
+            int count = definitions.size();
+            names = new String[count];
+            index = new HashMap<>();
+            configuredStart = new long[count];
+            targets = new int[count];
+            resetOnTarget = new boolean[count];
+            List<ZoneId> zoneList = new ArrayList<>();
+            List<Integer> firsts = new ArrayList<>();
+            for (int i = 0; i < count; i++) {
+                Definition definition = definitions.get(i);
+                names[i] = definition.name();
+                index.put(definition.name(), i);
+                configuredStart[i] = definition.startDate() != null ? definition.startDate().toEpochDay() : UNSET;
+                targets[i] = Math.max(0, definition.target());
+                resetOnTarget[i] = definition.resetOnTarget();
+                if (zoneList.isEmpty() || !zoneList.get(zoneList.size() - 1).equals(definition.zone())) {
+                    zoneList.add(definition.zone());
+                    firsts.add(i);
+                }
+            }
+            firsts.add(count);
+            nameList = Collections.unmodifiableList(Arrays.asList(names.clone()));
+            zones = zoneList.toArray(new ZoneId[0]);
+            zoneFirst = firsts.stream().mapToInt(Integer::intValue).toArray();
+        }
+    }
+
+    /**
+     * Published layout and values; replaced as a whole, never mutated.
+     */
+    private record View(Layout layout, int[] values) {
+    }
+
+    private volatile View view = new View(new Layout(Collections.emptyList()), new int[0]);
+
+    // Writer state, indexed like the current layout
+    private long[] startDay = new long[0];
+    private int[] lastTarget = new int[0];
+    private long[] zoneDay = new long[0];
+    private long[] zoneBoundaryMillis = new long[0];
+    // Earliest zone midnight; check() returns immediately before it
+    private long nextBoundaryMillis = Long.MAX_VALUE;
+    // Bumped whenever the layout or published values change
+    private long revision;
+
+    private Clock clock;
+    private Runnable persistCallback = () -> { };
+    private ObjIntConsumer<String> changeCallback = (name, value) -> { };
+    private ObjIntConsumer<String> targetCallback = (name, value) -> { };
+
+    /**
+     * Create an empty registry reading time from the given clock.
+     *
+     * @param clock time source; its zone is ignored in favour of each counter's zone.
+     */
+    public DayCounterRegistry(Clock clock) {
+        this.clock = clock;
+    }
+
+    // ------------------------------------------------------------------------
+    // Wiring
+    // ------------------------------------------------------------------------
+
+    /**
+     * Replace the time source, e.g. with a virtual clock during simulation.
+     *
+     * @param clock new time source.
+     */
+    public void setClock(Clock clock) {
+        this.clock = clock;
+        invalidate();
+    }
+
+    /**
+     * Supply the action invoked once per pass whenever counter state changed and should be saved.
+     *
+     * @param persistCallback persistence action.
+     */
+    public void setPersistCallback(Runnable persistCallback) {
+        this.persistCallback = persistCallback;
+    }
+
+    /**
+     * Supply the action invoked for each counter whose published value changed.
+     *
+     * @param changeCallback receives the counter name and its new value.
+     */
+    public void setChangeCallback(ObjIntConsumer<String> changeCallback) {
+        this.changeCallback = changeCallback;
+    }
+
+    /**
+     * Supply the action invoked when a counter reaches its target.
+     *
+     * @param targetCallback receives the counter name and the value that reached the target.
+     */
+    public void setTargetCallback(ObjIntConsumer<String> targetCallback) {
+        this.targetCallback = targetCallback;
+    }
+
+    /**
+     * Replace the configured counters. Counters that keep their name keep their start day and
+     * target state; new counters start at their configured start date.
+     *
+     * @param definitions counters to track; names must be unique.
+     */
+    public void configure(List<Definition> definitions) {
+        List<Definition> sorted = new ArrayList<>(definitions);
+        sorted.sort(Comparator.comparing((Definition definition) -> definition.zone().getId()));
+        Layout previous = view.layout();
+        Layout layout = new Layout(sorted);
+        int count = layout.names.length;
+        long[] newStart = new long[count];
+        int[] newLastTarget = new int[count];
+        int[] values = new int[count];
+        for (int i = 0; i < count; i++) {
+            Integer old = previous.index.get(layout.names[i]);
+            if (old != null) {
+                newStart[i] = Math.max(startDay[old], layout.configuredStart[i]);
+                newLastTarget[i] = lastTarget[old];
+                values[i] = view.values()[old];
+            } else {
+                newStart[i] = layout.configuredStart[i];
+            }
+        }
+        startDay = newStart;
+        lastTarget = newLastTarget;
+        zoneDay = new long[layout.zones.length];
+        zoneBoundaryMillis = new long[layout.zones.length];
+        view = new View(layout, values);
+        revision++;
+        invalidate();
+    }
+
+    /**
+     * Force the next {@link #check()} to re-evaluate every zone.
+     */
+    public void invalidate() {
+        Arrays.fill(zoneDay, UNSET);
+        Arrays.fill(zoneBoundaryMillis, Long.MIN_VALUE);
+        nextBoundaryMillis = zoneDay.length == 0 ? Long.MAX_VALUE : Long.MIN_VALUE;
+    }
+
+    // ------------------------------------------------------------------------
+    // Persistence
+    // ------------------------------------------------------------------------
+
+    /**
+     * Restore counter state using the keys written by {@link #persistentState()}. A persisted
+     * start day earlier than the configured start date is ignored, so moving the configured
+     * date forward takes effect while a later reset is kept.
+     *
+     * @param values persisted key/value pairs with full paths; missing keys fall back to defaults.
+     */
+    public void restoreState(Map<String, ?> values) {
+        View current = view;
+        Layout layout = current.layout();
+        int[] restored = current.values().clone();
+        for (int i = 0; i < layout.names.length; i++) {
+            String prefix = "counters." + layout.names[i] + ".";
+            LocalDate start = parseLocalDate(values.get(prefix + "start-date"));
+            startDay[i] = start != null ? Math.max(start.toEpochDay(), layout.configuredStart[i])
+                    : layout.configuredStart[i];
+            lastTarget[i] = intValue(values.get(prefix + "last-target"));
+            restored[i] = intValue(values.get(prefix + "day-count"));
+        }
+        publish(current, restored);
+        invalidate();
+    }
+
+    /**
+     * Snapshot the state that must survive restarts.
+     *
+     * @return ordered key/value pairs with full paths for daycounter.yml.
+     */
+    public Map<String, Object> persistentState() {
+        View current = view;
+        String[] names = current.layout().names;
+        Map<String, Object> values = new LinkedHashMap<>();
+        for (int i = 0; i < names.length; i++) {
+            String prefix = "counters." + names[i] + ".";
+            values.put(prefix + "start-date", startDay[i] != UNSET ? LocalDate.ofEpochDay(startDay[i]).toString() : "");
+            values.put(prefix + "day-count", current.values()[i]);
+            values.put(prefix + "last-target", lastTarget[i]);
+        }
+        return values;
+    }
+
+    // ------------------------------------------------------------------------
+    // Evaluation
+    // ------------------------------------------------------------------------
+
+    /**
+     * Advance counters in every zone that has passed midnight since the last check. Before the
+     * earliest pending midnight this returns without allocating.
+     *
+     * @return true when at least one counter changed.
+     */
+    public boolean check() {
+        long millis = clock.millis();
+        if (millis < nextBoundaryMillis) {
+            return false;
+        }
+
+        View current = view;
+        Layout layout = current.layout();
+        int[] values = null;
+        int[] reached = null;
+        boolean dirty = false;
+        long next = Long.MAX_VALUE;
+        for (int z = 0; z < layout.zones.length; z++) {
+            if (millis >= zoneBoundaryMillis[z]) {
+                LocalDate today = LocalDate.now(clock.withZone(layout.zones[z]));
+                long epochDay = today.toEpochDay();
+                if (epochDay != zoneDay[z]) {
+                    zoneDay[z] = epochDay;
+                    for (int i = layout.zoneFirst[z]; i < layout.zoneFirst[z + 1]; i++) {
+                        if (startDay[i] == UNSET) {
+                            startDay[i] = epochDay;
+                            dirty = true;
+                        }
+                        int value = (int) Math.max(0L, epochDay - startDay[i]);
+                        int target = layout.targets[i];
+                        int hit = 0;
+                        if (target > 0 && value >= target && lastTarget[i] < target) {
+                            hit = value;
+                            lastTarget[i] = value;
+                            if (layout.resetOnTarget[i]) {
+                                startDay[i] = epochDay;
+                                lastTarget[i] = 0;
+                                value = 0;
+                            }
+                        }
+                        if (value == current.values()[i] && hit == 0) {
+                            continue;
+                        }
+                        if (values == null) {
+                            values = current.values().clone();
+                            reached = new int[values.length];
+                        }
+                        values[i] = value;
+                        reached[i] = hit;
+                    }
+                }
+                zoneBoundaryMillis[z] = today.plusDays(1).atStartOfDay(layout.zones[z]).toInstant().toEpochMilli();
+            }
+            next = Math.min(next, zoneBoundaryMillis[z]);
+        }
+        nextBoundaryMillis = next;
+
+        if (values == null) {
+            if (dirty) {
+                persistCallback.run();
+            }
+            return false;
+        }
+        publish(current, values);
+        persistCallback.run();
+        for (int i = 0; i < reached.length; i++) {
+            if (reached[i] > 0) {
+                targetCallback.accept(layout.names[i], reached[i]);
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Start a counter over from 0 today and persist the change.
+     *
+     * @param name counter name.
+     * @return false when no counter has that name.
+     */
+    public boolean reset(String name) {
+        View current = view;
+        Integer i = current.layout().index.get(name);
+        if (i == null) {
+            return false;
+        }
+        ZoneId zone = current.layout().zones[zoneOf(current.layout(), i)];
+        startDay[i] = LocalDate.now(clock.withZone(zone)).toEpochDay();
+        lastTarget[i] = 0;
+        int[] values = current.values().clone();
+        values[i] = 0;
+        publish(current, values);
+        persistCallback.run();
+        return true;
+    }
+
+    /**
+     * Publish new values and report every counter whose value changed.
+     */
+    private void publish(View current, int[] values) {
+        view = new View(current.layout(), values);
+        revision++;
+        int[] old = current.values();
+        for (int i = 0; i < values.length; i++) {
+            if (values[i] != old[i]) {
+                changeCallback.accept(current.layout().names[i], values[i]);
+            }
+        }
+    }
+
+    /**
+     * Copy every counter's target state for forecasting. Must be called on the thread that
+     * mutates the registry.
+     *
+     * @return one projection per counter, in layout order.
+     */
+    public List<Projection> projections() {
+        Layout layout = view.layout();
+        List<Projection> projections = new ArrayList<>(layout.names.length);
+        for (int i = 0; i < layout.names.length; i++) {
+            projections.add(new Projection(layout.names[i], layout.zones[zoneOf(layout, i)], startDay[i],
+                    layout.targets[i], layout.resetOnTarget[i], lastTarget[i] < layout.targets[i]));
+        }
+        return projections;
+    }
+
+    /**
+     * Revision of the layout and values, increased whenever either changes. Must be called on
+     * the thread that mutates the registry.
+     *
+     * @return current revision.
+     */
+    public long getRevision() {
+        return revision;
+    }
+
+    private static int zoneOf(Layout layout, int counter) {
+        int z = 0;
+        while (layout.zoneFirst[z + 1] <= counter) {
+            z++;
+        }
+        return z;
+    }
+
+    // ------------------------------------------------------------------------
+    // Lock-free reads, safe from any thread
+    // ------------------------------------------------------------------------
+
+    /**
+     * Current value of a counter.
+     *
+     * @param name counter name.
+     * @return days since the counter's start or last reset, or -1 if no counter has that name.
+     */
+    public int get(String name) {
+        View current = view;
+        Integer i = current.layout().index.get(name);
+        return i != null ? current.values()[i] : -1;
+    }
+
+    /**
+     * Target of a counter.
+     *
+     * @param name counter name.
+     * @return configured target, 0 when disabled, or -1 if no counter has that name.
+     */
+    public int getTarget(String name) {
+        Layout layout = view.layout();
+        Integer i = layout.index.get(name);
+        return i != null ? layout.targets[i] : -1;
+    }
+
+    /**
+     * Zone whose midnight advances a counter.
+     *
+     * @param name counter name.
+     * @return zone, or null if no counter has that name.
+     */
+    public ZoneId getZone(String name) {
+        Layout layout = view.layout();
+        Integer i = layout.index.get(name);
+        return i != null ? layout.zones[zoneOf(layout, i)] : null;
+    }
+
+    /**
+     * Names of all configured counters, grouped by zone.
+     *
+     * @return unmodifiable list of names.
+     */
+    public List<String> getNames() {
+        return view.layout().nameList;
+    }
+
+    /**
+     * Copy of every counter's current value, taken from one consistent view.
+     *
+     * @return ordered map of counter name to value.
+     */
+    public Map<String, Integer> getValues() {
+        View current = view;
+        Map<String, Integer> values = new LinkedHashMap<>();
+        for (int i = 0; i < current.values().length; i++) {
+            values.put(current.layout().names[i], current.values()[i]);
+        }
+        return values;
+    }
+
+    private static int intValue(Object value) {
+        if (value instanceof Number) {
+            return ((Number) value).intValue();
+        }
+        if (value instanceof String) {
+            try {
+                return Integer.parseInt((String) value);
+            } catch (NumberFormatException ignored) {
+                return 0;
+            }
+        }
+        return 0;
+    }
+
+    private static LocalDate parseLocalDate(Object value) {
+        if (value == null || value.toString().isEmpty()) {
+            return null;
+        }
+
+        try {
+            return LocalDate.parse(value.toString());
+        } catch (Exception ex) {
+            return null;
+        }
+    }
+}
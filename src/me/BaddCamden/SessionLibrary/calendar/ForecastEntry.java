@@ -0,0 +1,25 @@
+package me.BaddCamden.SessionLibrary.calendar;
+
+import java.time.ZonedDateTime;
+
+/**
+ * One upcoming trigger in a schedule forecast.
+ *
+ * @param source          trigger that fires, e.g. {@code scheduled-start}, {@code calendar daily},
+ *                        or {@code counter <name>}.
+ * @param start           when it fires, in the trigger's zone.
+ * @param durationSeconds planned session length; 0 for day counter targets, which start no session.
+ * @param overlaps        source of an earlier forecast session still running at {@code start},
+ *                        or null when nothing overlaps.
+ */
+public record ForecastEntry(String source, ZonedDateTime start, int durationSeconds, String overlaps) {
+
+    /**
+     * When the planned session would end.
+     *
+     * @return start plus the planned duration.
+     */
+    public ZonedDateTime end() {
+        return start.plusSeconds(durationSeconds);
+    }
+}
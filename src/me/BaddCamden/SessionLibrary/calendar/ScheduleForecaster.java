@@ -0,0 +1,178 @@
+package me.BaddCamden.SessionLibrary.calendar;
+
+import java.time.Instant;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Enumerates upcoming trigger times across every configured rule and caches the result.
+ * <p>
+ * Each rule is evaluated independently from an immutable copy of its state, so rules are split
+ * across the common fork-join pool and merged afterwards. The last forecast is kept together
+ * with a key describing the configuration and counter state it was computed from; a later
+ * request with an equal key is answered from the cache as long as its window is covered by the
+ * cached one. Not thread-safe; call from one thread.
+ */
+public final class ScheduleForecaster {
+
+    /**
+     * Computes the start times of one rule in a window. Must be safe to call on any thread.
+     */
+    @FunctionalInterface
+    public interface StartTimes {
+
+        /**
+         * List start times in a window.
+         *
+         * @param from  start of the window.
+         * @param to    end of the window, inclusive.
+         * @param limit maximum number of times.
+         * @return times in order.
+         */
+        List<ZonedDateTime> between(Instant from, Instant to, int limit);
+    }
+
+    /**
+     * A rule to forecast.
+     *
+     * @param name            source reported in each entry.
+     * @param durationSeconds planned session length; 0 when the rule starts no session.
+     * @param startTimes      evaluation of the rule.
+     */
+    public record Source(String name, int durationSeconds, StartTimes startTimes) {
+    }
+
+    private static final Comparator<ForecastEntry> ORDER = Comparator
+            .comparing((ForecastEntry entry) -> entry.start().toInstant())
+            .thenComparing(ForecastEntry::source);
+
+    private Object cachedKey;
+    private Instant cachedFrom;
+    private Instant cachedTo;
+    private int cachedLimit;
+    private List<ForecastEntry> cached = Collections.emptyList();
+    private long hits;
+    private long misses;
+
+    /**
+     * Source for a trigger that fires once.
+     *
+     * @param at trigger time; reported at the window start if already due.
+     * @return start times of the trigger.
+     */
+    public static StartTimes once(ZonedDateTime at) {
+        return (from, to, limit) -> {
+            if (limit <= 0 || at.toInstant().isAfter(to)) {
+                return Collections.emptyList();
+            }
+            return Collections.singletonList(at.toInstant().isBefore(from) ? from.atZone(at.getZone()) : at);
+        };
+    }
+
+    /**
+     * Forecast the first triggers in a window.
+     *
+     * @param key     configuration and counter state the sources are built from; compared with
+     *                {@link Object#equals(Object)} to decide whether the cache still applies.
+     * @param sources builds the rules; only called when the cache cannot answer.
+     * @param from    start of the window.
+     * @param to      end of the window, inclusive.
+     * @param limit   maximum number of entries.
+     * @return unmodifiable entries ordered by start time.
+     */
+    public List<ForecastEntry> forecast(Object key, Supplier<List<Source>> sources, Instant from, Instant to,
+            int limit) {
+        if (limit <= 0 || to.isBefore(from)) {
+            return Collections.emptyList();
+        }
+        List<ForecastEntry> reused = fromCache(key, from, to, limit);
+        if (reused != null) {
+            hits++;
+            return reused;
+        }
+        misses++;
+
+        List<Source> rules = sources.get();
+        Stream<Source> stream = rules.size() > 1 ? rules.parallelStream() : rules.stream();
+        List<ForecastEntry> entries = stream
+                .flatMap(source -> source.startTimes().between(from, to, limit).stream()
+                        .map(start -> new ForecastEntry(source.name(), start, source.durationSeconds(), null)))
+                .sorted(ORDER)
+                .limit(limit)
+                .collect(Collectors.toList());
+
+        cached = Collections.unmodifiableList(markOverlaps(entries));
+        cachedKey = key;
+        cachedFrom = from;
+        cachedTo = to;
+        cachedLimit = limit;
+        return cached;
+    }
+
+    /**
+     * Answer from the cached forecast when it is known to match a full evaluation: the key and
+     * limit are unchanged, nothing was forecast between the cached start and the new one, and
+     * the new window either ends inside the cached one or the cached one was already full.
+     *
+     * @return entries, or null when the forecast must be recomputed.
+     */
+    private List<ForecastEntry> fromCache(Object key, Instant from, Instant to, int limit) {
+        if (cachedKey == null || !cachedKey.equals(key) || limit != cachedLimit || from.isBefore(cachedFrom)) {
+            return null;
+        }
+        if (to.isAfter(cachedTo) && cached.size() < limit) {
+            return null;
+        }
+        if (!cached.isEmpty() && cached.get(0).start().toInstant().isBefore(from)) {
+            return null;
+        }
+        if (!to.isBefore(cachedTo)) {
+            return cached;
+        }
+        List<ForecastEntry> entries = new ArrayList<>(cached.size());
+        for (ForecastEntry entry : cached) {
+            if (entry.start().toInstant().isAfter(to)) {
+                break;
+            }
+            entries.add(entry);
+        }
+        return Collections.unmodifiableList(entries);
+    }
+
+    /**
+     * Record, for each entry, the forecast session that is still running when it fires.
+     *
+     * @param entries entries ordered by start time.
+     * @return the same entries with overlaps filled in.
+     */
+    private static List<ForecastEntry> markOverlaps(List<ForecastEntry> entries) {
+        List<ForecastEntry> marked = new ArrayList<>(entries.size());
+        ForecastEntry running = null;
+        for (ForecastEntry entry : entries) {
+            if (running != null && running.end().isAfter(entry.start())) {
+                entry = new ForecastEntry(entry.source(), entry.start(), entry.durationSeconds(), running.source());
+            }
+            marked.add(entry);
+            if (entry.durationSeconds() > 0 && (running == null || entry.end().isAfter(running.end()))) {
+                running = entry;
+            }
+        }
+        return marked;
+    }
+
+    /**
+     * Summarize cache use for diagnostics.
+     *
+     * @return report lines.
+     */
+    public List<String> report() {
+        return Collections.singletonList("Schedule forecast: " + hits + " cached, " + misses + " computed, "
+                + cached.size() + " entries cached");
+    }
+}
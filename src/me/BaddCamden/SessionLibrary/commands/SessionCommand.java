@@ -1,6 +1,9 @@
 package me.BaddCamden.SessionLibrary.commands;
 
 
+import java.time.Duration;
+import java.time.Instant;
+import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
@@ -13,9 +16,20 @@ import org.bukkit.command.TabCompleter;
 
 import me.BaddCamden.SessionLibrary.Session;
 import me.BaddCamden.SessionLibrary.SessionManager;
+import me.BaddCamden.SessionLibrary.SessionProfile;
+import me.BaddCamden.SessionLibrary.SessionTrigger;
+import me.BaddCamden.SessionLibrary.calendar.ForecastEntry;
+import me.BaddCamden.SessionLibrary.calendar.ScheduleForecaster;
+import me.BaddCamden.SessionLibrary.load.LoadGovernor;
+import me.BaddCamden.SessionLibrary.service.QueuedSessionService;
+import me.BaddCamden.SessionLibrary.participation.LeaderboardEntry;
+import me.BaddCamden.SessionLibrary.participation.ParticipationTracker;
+import me.BaddCamden.SessionLibrary.profiling.SessionProfiler;
 
 public class SessionCommand implements CommandExecutor, TabCompleter {
 
+    private static final DateTimeFormatter SCHEDULE_TIME = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm z");
+
     private final SessionManager plugin;
 
     /**
@@ -49,17 +63,42 @@ public class SessionCommand implements CommandExecutor, TabCompleter {
         if (args.length == 0) {
             sender.sendMessage(SessionManager.config.getString(
                     "messages.usage",
-                    "Usage: /session <start|end|reset|stop|duration|autostart|autostartbuffer>"));
+                    "Usage: /session <start|end|reset|stop|duration|autostart|autostartbuffer|profile|top|schedule>"));
             return true;
         }
 
+        // On Folia the sender may be on a region thread; session state belongs to the global region
+        SessionManager.runGlobal(() -> execute(sender, args));
+        return true;
+    }
+
+    /**
+     * Run a subcommand on the thread that owns session state.
+     *
+     * @param sender originator of the command.
+     * @param args   arguments supplied by the sender; at least one.
+     */
+    private void execute(CommandSender sender, String[] args) {
         String sub = args[0].toLowerCase();
 
         switch (sub) {
             case "start":
-                int duration = SessionManager.defaultDuration;
-                if (SessionManager.currentSession == null) {
-                    SessionManager.currentSession = new Session(plugin, duration, false);
+                if (args.length > 1) {
+                    SessionProfile profile = SessionManager.getProfile(args[1]);
+                    if (profile == null) {
+                        sender.sendMessage(SessionManager.config.getString(
+                                "messages.profile-unknown",
+                                "Unknown session profile: %profile%").replace("%profile%", args[1]));
+                        return;
+                    }
+                    if (SessionManager.currentSession == null || !SessionManager.currentSession.isRunning()) {
+                        SessionManager.currentSession = new Session(plugin, profile,
+                                SessionManager.resolveDuration(profile), false, SessionTrigger.MANUAL);
+                    }
+                } else if (SessionManager.currentSession == null || !SessionManager.currentSession.isRunning()) {
+                    // A finished session may have used another profile; start fresh on the default
+                    SessionManager.currentSession = new Session(plugin, SessionManager.defaultDuration, false,
+                            SessionTrigger.MANUAL);
                 }
                 SessionManager.currentSession.start();
                 sender.sendMessage(SessionManager.config.getString(
@@ -90,7 +129,7 @@ public class SessionCommand implements CommandExecutor, TabCompleter {
                 if (SessionManager.currentSession != null) {
                     SessionManager.currentSession.stopSession();
                 }
-                SessionManager.sessionCount = 0;
+                SessionManager.setSessionCount(0);
                 sender.sendMessage(SessionManager.config.getString(
                         "messages.session-stop-admin",
                         "Session stopped and count reset."));
@@ -149,14 +188,176 @@ public class SessionCommand implements CommandExecutor, TabCompleter {
                 }
                 break;
 
+            case "profile":
+                handleProfile(sender, args);
+                break;
+
+            case "top":
+                handleTop(sender, args);
+                break;
+
+            case "schedule":
+                handleSchedule(sender, args);
+                break;
+
             default:
                 sender.sendMessage(SessionManager.config.getString(
                         "messages.usage",
-                        "Usage: /session <start|end|reset|stop|duration|autostart|autostartbuffer>"));
+                        "Usage: /session <start|end|reset|stop|duration|autostart|autostartbuffer|profile|top|schedule>"));
                 break;
         }
+    }
 
-        return true;
+    /**
+     * Show, reset, or toggle the listener and hook profiler.
+     *
+     * @param sender originator of the command.
+     * @param args   arguments supplied by the sender; {@code args[1]} may be on, off, or reset.
+     */
+    private void handleProfile(CommandSender sender, String[] args) {
+        SessionProfiler profiler = SessionManager.getProfiler();
+        String action = args.length > 1 ? args[1].toLowerCase() : "";
+
+        switch (action) {
+            case "on":
+            case "off":
+                profiler.setEnabled(action.equals("on"));
+                sender.sendMessage(SessionManager.config
+                        .getString("messages.profile-toggled", "Profiler set to %value%.")
+                        .replace("%value%", String.valueOf(profiler.isEnabled())));
+                return;
+            case "reset":
+                profiler.reset();
+                sender.sendMessage(SessionManager.config.getString(
+                        "messages.profile-reset",
+                        "Profiler samples cleared."));
+                return;
+            default:
+                break;
+        }
+
+        if (!profiler.isEnabled()) {
+            sender.sendMessage(SessionManager.config.getString(
+                    "messages.profile-disabled",
+                    "Profiler is disabled. Use /session profile on."));
+        }
+        List<String> lines = new ArrayList<>(profiler.report());
+        LoadGovernor governor = SessionManager.getLoadGovernor();
+        if (governor != null) {
+            lines.addAll(governor.report());
+        }
+        lines.addAll(SessionManager.getLifecycleExecutor().report());
+        QueuedSessionService service = SessionManager.getService();
+        if (service != null) {
+            lines.addAll(service.report());
+        }
+        ScheduleForecaster forecaster = SessionManager.getForecaster();
+        if (forecaster != null) {
+            lines.addAll(forecaster.report());
+        }
+        if (lines.isEmpty()) {
+            sender.sendMessage(SessionManager.config.getString(
+                    "messages.profile-empty",
+                    "No listener timings recorded yet."));
+            return;
+        }
+        for (String line : lines) {
+            sender.sendMessage(line);
+        }
+    }
+
+    /**
+     * Show the attendance or time-in-sessions leaderboard.
+     *
+     * @param sender originator of the command.
+     * @param args   arguments supplied by the sender; {@code args[1]} may be sessions or time.
+     */
+    private void handleTop(CommandSender sender, String[] args) {
+        ParticipationTracker tracker = SessionManager.getParticipationTracker();
+        if (tracker == null) {
+            sender.sendMessage(SessionManager.config.getString(
+                    "messages.top-disabled",
+                    "Participation tracking is disabled."));
+            return;
+        }
+
+        boolean byTime = args.length > 1 && args[1].equalsIgnoreCase("time");
+        List<LeaderboardEntry> entries = byTime ? tracker.getTopPlaytime() : tracker.getTopAttendance();
+        if (entries.isEmpty()) {
+            sender.sendMessage(SessionManager.config.getString(
+                    "messages.top-empty",
+                    "No sessions have been recorded yet."));
+            return;
+        }
+        sender.sendMessage(SessionManager.config
+                .getString("messages.top-header", "Top players by %board%:")
+                .replace("%board%", byTime ? "time in sessions" : "sessions attended"));
+        String format = SessionManager.config.getString("messages.top-entry", "%rank%. %name% - %value%");
+        for (int i = 0; i < entries.size(); i++) {
+            LeaderboardEntry entry = entries.get(i);
+            String value;
+            if (byTime) {
+                long minutes = entry.value() / 60_000L;
+                value = (minutes / 60) + "h " + (minutes % 60) + "m";
+            } else {
+                value = String.valueOf(entry.value());
+            }
+            sender.sendMessage(format
+                    .replace("%rank%", String.valueOf(i + 1))
+                    .replace("%name%", entry.name())
+                    .replace("%value%", value));
+        }
+    }
+
+    /**
+     * List upcoming session starts and day counter targets.
+     *
+     * @param sender originator of the command.
+     * @param args   arguments supplied by the sender; {@code args[1]} may be the horizon in days.
+     */
+    private void handleSchedule(CommandSender sender, String[] args) {
+        int days = SessionManager.config.getInt("schedule.horizon-days", 30);
+        if (args.length > 1) {
+            try {
+                days = Integer.parseInt(args[1]);
+            } catch (NumberFormatException e) {
+                days = -1;
+            }
+            if (days <= 0) {
+                sender.sendMessage(SessionManager.config.getString(
+                        "messages.schedule-invalid",
+                        "Invalid number of days."));
+                return;
+            }
+        }
+
+        Instant now = SessionManager.getClock().instant();
+        List<ForecastEntry> entries = SessionManager.forecast(now, now.plus(Duration.ofDays(days)),
+                SessionManager.config.getInt("schedule.max-entries", 10));
+        if (entries.isEmpty()) {
+            sender.sendMessage(SessionManager.config
+                    .getString("messages.schedule-empty", "Nothing is scheduled in the next %days% days.")
+                    .replace("%days%", String.valueOf(days)));
+            return;
+        }
+        sender.sendMessage(SessionManager.config
+                .getString("messages.schedule-header", "Upcoming in the next %days% days:")
+                .replace("%days%", String.valueOf(days)));
+        String format = SessionManager.config.getString("messages.schedule-entry", "%time% - %source%%duration%%overlap%");
+        String overlapFormat = SessionManager.config.getString("messages.schedule-overlap", " (overlaps %source%)");
+        for (ForecastEntry entry : entries) {
+            String duration = "";
+            if (entry.durationSeconds() > 0) {
+                long minutes = entry.durationSeconds() / 60L;
+                duration = " for " + (minutes / 60) + "h " + (minutes % 60) + "m";
+            }
+            sender.sendMessage(format
+                    .replace("%time%", entry.start().format(SCHEDULE_TIME))
+                    .replace("%source%", entry.source())
+                    .replace("%duration%", duration)
+                    .replace("%overlap%", entry.overlaps() != null
+                            ? overlapFormat.replace("%source%", entry.overlaps()) : ""));
+        }
     }
 
     /**
@@ -175,7 +376,8 @@ public class SessionCommand implements CommandExecutor, TabCompleter {
         }
 
         List<String> subcommands = Arrays.asList(
-                "start", "end", "reset", "stop", "duration", "autostart", "autostartbuffer");
+                "start", "end", "reset", "stop", "duration", "autostart", "autostartbuffer", "profile", "top",
+                "schedule");
 
         if (args.length == 1) {
             List<String> completions = new ArrayList<>();
@@ -190,10 +392,37 @@ public class SessionCommand implements CommandExecutor, TabCompleter {
         if (args.length == 2) {
             String sub = args[0].toLowerCase();
             switch (sub) {
+                case "start":
+                    List<String> profiles = new ArrayList<>();
+                    for (String option : SessionManager.getProfileNames()) {
+                        if (option.startsWith(args[1].toLowerCase())) {
+                            profiles.add(option);
+                        }
+                    }
+                    return profiles;
                 case "duration":
                     return Collections.singletonList(String.valueOf(SessionManager.defaultDuration));
                 case "autostartbuffer":
                     return Collections.singletonList(String.valueOf(SessionManager.autostartBuffer));
+                case "schedule":
+                    return Collections.singletonList(String.valueOf(
+                            SessionManager.config.getInt("schedule.horizon-days", 30)));
+                case "profile":
+                    List<String> actions = new ArrayList<>();
+                    for (String option : Arrays.asList("on", "off", "reset")) {
+                        if (option.startsWith(args[1].toLowerCase())) {
+                            actions.add(option);
+                        }
+                    }
+                    return actions;
+                case "top":
+                    List<String> boards = new ArrayList<>();
+                    for (String option : Arrays.asList("sessions", "time")) {
+                        if (option.startsWith(args[1].toLowerCase())) {
+                            boards.add(option);
+                        }
+                    }
+                    return boards;
                 default:
                     break;
             }
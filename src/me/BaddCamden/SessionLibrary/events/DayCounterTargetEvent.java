@@ -0,0 +1,77 @@
+package me.BaddCamden.SessionLibrary.events;
+
+import org.bukkit.event.Event;
+import org.bukkit.event.HandlerList;
+
+/**
+ * Fired on the trigger leader when a named day counter reaches its configured target, e.g. to
+ * reset a map or end a season. Counters configured to reset on target already read 0 again.
+ */
+public class DayCounterTargetEvent extends Event {
+
+    private static final HandlerList handlers = new HandlerList();
+    private final String counter;
+    private final int value;
+    private final int target;
+
+    /**
+     * Create an event announcing that a counter reached its target.
+     *
+     * @param counter counter name.
+     * @param value   value that reached the target.
+     * @param target  configured target.
+     */
+    public DayCounterTargetEvent(String counter, int value, int target) {
+        super(false); // not async
+        this.counter = counter;
+        this.value = value;
+        this.target = target;
+    }
+
+    /**
+     * Access the name of the counter that reached its target.
+     *
+     * @return counter name.
+     */
+    public String getCounter() {
+        return counter;
+    }
+
+    /**
+     * Access the value that reached the target. Larger than the target when the server was
+     * offline across the day the target was due.
+     *
+     * @return counter value.
+     */
+    public int getValue() {
+        return value;
+    }
+
+    /**
+     * Access the configured target.
+     *
+     * @return target value.
+     */
+    public int getTarget() {
+        return target;
+    }
+
+    @Override
+    /**
+     * Required Bukkit handler list accessor.
+     *
+     * @return handler registry for this event.
+     */
+    public HandlerList getHandlers() {
+        return handlers;
+    }
+
+    /**
+     * Static accessor used for Bukkit registration.
+     *
+     * @return handler registry for this event type.
+     */
+    public static HandlerList getHandlerList() {
+        return handlers;
+    }
+}
@@ -0,0 +1,91 @@
+package me.BaddCamden.SessionLibrary.events;
+
+import org.bukkit.event.Event;
+import org.bukkit.event.HandlerList;
+
+import me.BaddCamden.SessionLibrary.Session;
+import me.BaddCamden.SessionLibrary.SessionPhase;
+
+/**
+ * Fired when every lifecycle task submitted for a session phase has finished, failed, or been
+ * cancelled.
+ */
+public class LifecyclePhaseDrainedEvent extends Event {
+
+    private static final HandlerList handlers = new HandlerList();
+    private final Session session;
+    private final SessionPhase phase;
+    private final int taskCount;
+    private final long elapsedMillis;
+
+    /**
+     * Create an event reporting that a phase's lifecycle work has drained.
+     *
+     * @param session       session the work belonged to.
+     * @param phase         phase the work ran in.
+     * @param taskCount     number of tasks that ran in the phase.
+     * @param elapsedMillis wall-clock time from the first step to the last.
+     */
+    public LifecyclePhaseDrainedEvent(Session session, SessionPhase phase, int taskCount, long elapsedMillis) {
+        super(false); // not async
+        this.session = session;
+        this.phase = phase;
+        this.taskCount = taskCount;
+        this.elapsedMillis = elapsedMillis;
+    }
+
+    /**
+     * Access the session the work belonged to.
+     *
+     * @return session instance.
+     */
+    public Session getSession() {
+        return session;
+    }
+
+    /**
+     * Access the phase the work ran in.
+     *
+     * @return phase.
+     */
+    public SessionPhase getPhase() {
+        return phase;
+    }
+
+    /**
+     * Number of tasks that ran in the phase.
+     *
+     * @return task count.
+     */
+    public int getTaskCount() {
+        return taskCount;
+    }
+
+    /**
+     * Wall-clock time from the phase's first step to its last, spread over as many ticks as needed.
+     *
+     * @return elapsed milliseconds.
+     */
+    public long getElapsedMillis() {
+        return elapsedMillis;
+    }
+
+    @Override
+    /**
+     * Required Bukkit handler list accessor.
+     *
+     * @return handler registry for this event.
+     */
+    public HandlerList getHandlers() {
+        return handlers;
+    }
+
+    /**
+     * Static accessor used for Bukkit registration.
+     *
+     * @return handler registry for this event type.
+     */
+    public static HandlerList getHandlerList() {
+        return handlers;
+    }
+}
@@ -0,0 +1,72 @@
+package me.BaddCamden.SessionLibrary.events;
+
+import org.bukkit.event.Event;
+import org.bukkit.event.HandlerList;
+import me.BaddCamden.SessionLibrary.SessionTrigger;
+import me.BaddCamden.SessionLibrary.load.LoadGovernor;
+
+public class LoadGovernorEvent extends Event {
+
+    private static final HandlerList handlers = new HandlerList();
+    private final LoadGovernor.Decision decision;
+    private final SessionTrigger trigger;
+    private final double mspt;
+    private final double tps;
+
+    /**
+     * Create an event describing a load governor decision.
+     *
+     * @param decision what the governor decided.
+     * @param trigger  trigger affected by a deferral decision, or null for countdown freezes.
+     * @param mspt     average milliseconds per tick when the decision was made.
+     * @param tps      average ticks per second when the decision was made.
+     */
+    public LoadGovernorEvent(LoadGovernor.Decision decision, SessionTrigger trigger, double mspt, double tps) {
+        this.decision = decision;
+        this.trigger = trigger;
+        this.mspt = mspt;
+        this.tps = tps;
+    }
+
+    /**
+     * Retrieve the decision.
+     *
+     * @return governor decision.
+     */
+    public LoadGovernor.Decision getDecision() { return decision; }
+
+    /**
+     * Retrieve the trigger affected by a deferral decision.
+     *
+     * @return trigger, or null for freeze and thaw decisions.
+     */
+    public SessionTrigger getTrigger() { return trigger; }
+
+    /**
+     * Average milliseconds per tick when the decision was made.
+     *
+     * @return MSPT.
+     */
+    public double getMspt() { return mspt; }
+
+    /**
+     * Average ticks per second when the decision was made.
+     *
+     * @return TPS.
+     */
+    public double getTps() { return tps; }
+
+    /**
+     * Required Bukkit handler list accessor.
+     *
+     * @return handler registry for this event.
+     */
+    public HandlerList getHandlers() { return handlers; }
+
+    /**
+     * Static accessor for Bukkit event registration.
+     *
+     * @return handler registry for this event type.
+     */
+    public static HandlerList getHandlerList() { return handlers; }
+}
@@ -0,0 +1,51 @@
+package me.BaddCamden.SessionLibrary.events;
+
+import org.bukkit.entity.Player;
+import org.bukkit.event.Event;
+import org.bukkit.event.HandlerList;
+
+public class PlayerQuotaExhaustedEvent extends Event {
+
+    private static final HandlerList handlers = new HandlerList();
+    private final Player player;
+    private final int graceSeconds;
+
+    /**
+     * Create an event fired when a player's daily playtime quota reaches zero.
+     *
+     * @param player       player whose quota ran out.
+     * @param graceSeconds seconds before the player is removed.
+     */
+    public PlayerQuotaExhaustedEvent(Player player, int graceSeconds) {
+        this.player = player;
+        this.graceSeconds = graceSeconds;
+    }
+
+    /**
+     * Access the player whose quota ran out.
+     *
+     * @return online player.
+     */
+    public Player getPlayer() { return player; }
+
+    /**
+     * Retrieve the grace period granted before the player is removed.
+     *
+     * @return grace seconds.
+     */
+    public int getGraceSeconds() { return graceSeconds; }
+
+    /**
+     * Required Bukkit handler list accessor.
+     *
+     * @return handler registry for this event.
+     */
+    public HandlerList getHandlers() { return handlers; }
+
+    /**
+     * Static accessor for Bukkit event registration.
+     *
+     * @return handler registry for this event type.
+     */
+    public static HandlerList getHandlerList() { return handlers; }
+}
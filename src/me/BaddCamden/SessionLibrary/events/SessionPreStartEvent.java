@@ -0,0 +1,83 @@
+package me.BaddCamden.SessionLibrary.events;
+
+import java.time.Instant;
+
+import org.bukkit.event.Event;
+import org.bukkit.event.HandlerList;
+
+import me.BaddCamden.SessionLibrary.SessionTrigger;
+
+/**
+ * Fired once per planned scheduled or calendar start, a configurable lead time before it is due,
+ * so integrations can spread heavy preparation across the warmup window instead of doing it all
+ * at the start instant. The start may still be delayed, e.g. by the load governor or a running
+ * session.
+ */
+public class SessionPreStartEvent extends Event {
+
+    private static final HandlerList handlers = new HandlerList();
+    private final SessionTrigger trigger;
+    private final Instant plannedStart;
+    private final long leadMillis;
+
+    /**
+     * Create an event announcing an upcoming session start.
+     *
+     * @param trigger      trigger that will start the session.
+     * @param plannedStart instant the session is planned to start.
+     * @param leadMillis   milliseconds between firing this event and the planned start.
+     */
+    public SessionPreStartEvent(SessionTrigger trigger, Instant plannedStart, long leadMillis) {
+        super(false); // not async
+        this.trigger = trigger;
+        this.plannedStart = plannedStart;
+        this.leadMillis = leadMillis;
+    }
+
+    /**
+     * Access the trigger that will start the session.
+     *
+     * @return {@link SessionTrigger#SCHEDULED} or {@link SessionTrigger#CALENDAR}.
+     */
+    public SessionTrigger getTrigger() {
+        return trigger;
+    }
+
+    /**
+     * Access the instant the session is planned to start.
+     *
+     * @return planned start.
+     */
+    public Instant getPlannedStart() {
+        return plannedStart;
+    }
+
+    /**
+     * Time left until the planned start when this event fired. Shorter than the configured lead
+     * time when the plan was made inside the warmup window, e.g. right after startup.
+     *
+     * @return lead time in milliseconds.
+     */
+    public long getLeadMillis() {
+        return leadMillis;
+    }
+
+    @Override
+    /**
+     * Required Bukkit handler list accessor.
+     *
+     * @return handler registry for this event.
+     */
+    public HandlerList getHandlers() {
+        return handlers;
+    }
+
+    /**
+     * Static accessor used for Bukkit registration.
+     *
+     * @return handler registry for this event type.
+     */
+    public static HandlerList getHandlerList() {
+        return handlers;
+    }
+}
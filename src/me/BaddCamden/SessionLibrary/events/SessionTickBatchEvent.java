@@ -0,0 +1,72 @@
+package me.BaddCamden.SessionLibrary.events;
+
+import org.bukkit.event.Event;
+import org.bukkit.event.HandlerList;
+import me.BaddCamden.SessionLibrary.Session;
+import me.BaddCamden.SessionLibrary.SessionTicker;
+
+/**
+ * Fired once per second with every session that ticked during that second.
+ * <p>
+ * The event is a reused view over the ticker's internal arrays: it is only valid while
+ * it is being dispatched, and handlers must not keep a reference to it.
+ */
+public class SessionTickBatchEvent extends Event {
+
+    private static final HandlerList handlers = new HandlerList();
+    private final SessionTicker ticker;
+
+    /**
+     * Create a view over the ticker's current batch.
+     *
+     * @param ticker ticker that owns the batch arrays.
+     */
+    public SessionTickBatchEvent(SessionTicker ticker) {
+        this.ticker = ticker;
+    }
+
+    /**
+     * Number of sessions in this batch.
+     *
+     * @return batch size.
+     */
+    public int size() { return ticker.getBatchSize(); }
+
+    /**
+     * Access a ticked session.
+     *
+     * @param index position in the batch, from 0 to {@link #size()} - 1.
+     * @return session at that position.
+     */
+    public Session getSession(int index) { return ticker.getBatchSession(index); }
+
+    /**
+     * Read a ticked session's id without touching the session object.
+     *
+     * @param index position in the batch.
+     * @return session id.
+     */
+    public long getSessionId(int index) { return ticker.getBatchSessionId(index); }
+
+    /**
+     * Read the remaining seconds of a ticked session.
+     *
+     * @param index position in the batch.
+     * @return seconds left after this tick.
+     */
+    public int getSecondsLeft(int index) { return ticker.getBatchSecondsLeft(index); }
+
+    /**
+     * Required Bukkit handler list accessor.
+     *
+     * @return handler registry for this event.
+     */
+    public HandlerList getHandlers() { return handlers; }
+
+    /**
+     * Static accessor for Bukkit event registration.
+     *
+     * @return handler registry for this event type.
+     */
+    public static HandlerList getHandlerList() { return handlers; }
+}
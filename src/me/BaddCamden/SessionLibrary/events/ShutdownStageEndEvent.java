@@ -0,0 +1,91 @@
+package me.BaddCamden.SessionLibrary.events;
+
+import org.bukkit.event.Event;
+import org.bukkit.event.HandlerList;
+
+import me.BaddCamden.SessionLibrary.Session;
+import me.BaddCamden.SessionLibrary.shutdown.ShutdownStage;
+
+/**
+ * Fired when a stage of the staged shutdown pipeline finishes, with its timing. Not fired for
+ * {@link ShutdownStage#SHUTDOWN} when the server stops, since nothing runs after it.
+ */
+public class ShutdownStageEndEvent extends Event {
+
+    private static final HandlerList handlers = new HandlerList();
+    private final Session session;
+    private final ShutdownStage stage;
+    private final long elapsedMillis;
+    private final int units;
+
+    /**
+     * Create an event fired when a shutdown stage finishes.
+     *
+     * @param session       session whose end started the shutdown, or null when started directly.
+     * @param stage         stage that finished.
+     * @param elapsedMillis wall-clock time the stage took, across all of its ticks.
+     * @param units         players kicked, worlds saved, or stores flushed by the stage.
+     */
+    public ShutdownStageEndEvent(Session session, ShutdownStage stage, long elapsedMillis, int units) {
+        super(false); // not async
+        this.session = session;
+        this.stage = stage;
+        this.elapsedMillis = elapsedMillis;
+        this.units = units;
+    }
+
+    /**
+     * Access the session whose end started the shutdown.
+     *
+     * @return session, or null when the shutdown was started directly.
+     */
+    public Session getSession() {
+        return session;
+    }
+
+    /**
+     * Access the stage that finished.
+     *
+     * @return stage.
+     */
+    public ShutdownStage getStage() {
+        return stage;
+    }
+
+    /**
+     * Wall-clock time the stage took, across all of its ticks.
+     *
+     * @return elapsed milliseconds.
+     */
+    public long getElapsedMillis() {
+        return elapsedMillis;
+    }
+
+    /**
+     * Amount of work the stage did: players kicked, worlds saved, or stores flushed.
+     *
+     * @return unit count.
+     */
+    public int getUnits() {
+        return units;
+    }
+
+    @Override
+    /**
+     * Required Bukkit handler list accessor.
+     *
+     * @return handler registry for this event.
+     */
+    public HandlerList getHandlers() {
+        return handlers;
+    }
+
+    /**
+     * Static accessor used for Bukkit registration.
+     *
+     * @return handler registry for this event type.
+     */
+    public static HandlerList getHandlerList() {
+        return handlers;
+    }
+}
@@ -0,0 +1,66 @@
+package me.BaddCamden.SessionLibrary.events;
+
+import org.bukkit.event.Event;
+import org.bukkit.event.HandlerList;
+
+import me.BaddCamden.SessionLibrary.Session;
+import me.BaddCamden.SessionLibrary.shutdown.ShutdownStage;
+
+/**
+ * Fired when a stage of the staged shutdown pipeline begins.
+ */
+public class ShutdownStageStartEvent extends Event {
+
+    private static final HandlerList handlers = new HandlerList();
+    private final Session session;
+    private final ShutdownStage stage;
+
+    /**
+     * Create an event fired when a shutdown stage begins.
+     *
+     * @param session session whose end started the shutdown, or null when started directly.
+     * @param stage   stage that is beginning.
+     */
+    public ShutdownStageStartEvent(Session session, ShutdownStage stage) {
+        super(false); // not async
+        this.session = session;
+        this.stage = stage;
+    }
+
+    /**
+     * Access the session whose end started the shutdown.
+     *
+     * @return session, or null when the shutdown was started directly.
+     */
+    public Session getSession() {
+        return session;
+    }
+
+    /**
+     * Access the stage that is beginning.
+     *
+     * @return stage.
+     */
+    public ShutdownStage getStage() {
+        return stage;
+    }
+
+    @Override
+    /**
+     * Required Bukkit handler list accessor.
+     *
+     * @return handler registry for this event.
+     */
+    public HandlerList getHandlers() {
+        return handlers;
+    }
+
+    /**
+     * Static accessor used for Bukkit registration.
+     *
+     * @return handler registry for this event type.
+     */
+    public static HandlerList getHandlerList() {
+        return handlers;
+    }
+}
@@ -0,0 +1,17 @@
+package me.BaddCamden.SessionLibrary.hooks;
+
+import java.time.LocalDate;
+
+@FunctionalInterface
+public interface DayChangeListener {
+
+    /**
+     * Invoked on the main thread when the calendar day counter crosses a day boundary in the
+     * calendar timezone. Servers following an elected leader are notified when they load the
+     * leader's updated counter.
+     *
+     * @param today      new date in the calendar timezone.
+     * @param dayCounter day counter value after the change.
+     */
+    void onDayChange(LocalDate today, int dayCounter);
+}
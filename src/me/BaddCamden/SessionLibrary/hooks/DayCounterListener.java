@@ -0,0 +1,23 @@
+package me.BaddCamden.SessionLibrary.hooks;
+
+@FunctionalInterface
+public interface DayCounterListener {
+
+    /**
+     * Invoked on the main thread whenever the published day counter value changes, whether it
+     * advanced at a day boundary, was reset, or was loaded from the elected leader.
+     *
+     * @param dayCounter new day counter value.
+     */
+    void onDayCounterChange(int dayCounter);
+
+    /**
+     * Invoked on the main thread whenever a named day counter changes value, for the same
+     * reasons as {@link #onDayCounterChange(int)}. Does nothing unless overridden.
+     *
+     * @param name  counter name.
+     * @param value new counter value.
+     */
+    default void onNamedCounterChange(String name, int value) {
+    }
+}
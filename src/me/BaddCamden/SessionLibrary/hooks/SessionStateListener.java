@@ -0,0 +1,17 @@
+package me.BaddCamden.SessionLibrary.hooks;
+
+
+import me.BaddCamden.SessionLibrary.Session;
+
+@FunctionalInterface
+public interface SessionStateListener {
+
+    /**
+     * Invoked whenever a session changes phase or its deadline moves (start, reset, end sequence,
+     * end, stop, or a deadline correction). Not invoked on ordinary ticks.
+     *
+     * @param session The Session whose state changed; read {@link Session#getPhase()} and
+     *                {@link Session#getDeadlineMillis()} for the new state.
+     */
+    void onStateChange(Session session);
+}
@@ -0,0 +1,15 @@
+package me.BaddCamden.SessionLibrary.hooks;
+
+
+@FunctionalInterface
+public interface SessionTickListener {
+
+    /**
+     * Invoked once per second for every running session, on the main thread, without
+     * creating an event object. Keep implementations cheap; they run inside the tick loop.
+     *
+     * @param sessionId   id of the ticking session, see {@code Session.getId()}.
+     * @param secondsLeft seconds remaining until the end sequence starts.
+     */
+    void onTick(long sessionId, int secondsLeft);
+}
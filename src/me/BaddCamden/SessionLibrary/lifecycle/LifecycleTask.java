@@ -0,0 +1,30 @@
+package me.BaddCamden.SessionLibrary.lifecycle;
+
+import me.BaddCamden.SessionLibrary.Session;
+
+/**
+ * Resumable unit of work tied to a session phase, run by {@link LifecycleTaskExecutor} a few
+ * steps per tick instead of all at once inside an event handler or end hook.
+ */
+@FunctionalInterface
+public interface LifecycleTask {
+
+    /**
+     * Perform one small piece of work, e.g. reset one region or kick one batch of players.
+     * Called repeatedly on the main thread until it returns true; each call should take well
+     * under the per-tick budget.
+     *
+     * @param session session the work belongs to.
+     * @return true when the task has finished.
+     */
+    boolean step(Session session);
+
+    /**
+     * Report how much of the work is done, for progress output.
+     *
+     * @return fraction between 0 and 1, or -1 when unknown.
+     */
+    default double progress() {
+        return -1.0;
+    }
+}
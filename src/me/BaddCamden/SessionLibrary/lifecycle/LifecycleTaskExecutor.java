@@ -0,0 +1,392 @@
+package me.BaddCamden.SessionLibrary.lifecycle;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.bukkit.Bukkit;
+
+import me.BaddCamden.SessionLibrary.Session;
+import me.BaddCamden.SessionLibrary.SessionManager;
+import me.BaddCamden.SessionLibrary.SessionPhase;
+import me.BaddCamden.SessionLibrary.events.LifecyclePhaseDrainedEvent;
+import me.BaddCamden.SessionLibrary.hooks.SessionStateListener;
+import me.BaddCamden.SessionLibrary.scheduler.SessionTask;
+
+/**
+ * Cooperative main-thread executor for work tied to session phases.
+ * <p>
+ * Integrations submit {@link LifecycleTask}s for a session's {@link SessionPhase#RUNNING},
+ * {@link SessionPhase#ENDING} or {@link SessionPhase#ENDED} phase. A task waits until the session
+ * reaches its phase, then runs step by step, round-robin with other tasks, until the per-tick
+ * budget is spent; at least one step runs every tick so work always progresses. A gating task
+ * holds back the session's next phase until it finishes: RUNNING work delays the end sequence
+ * when the countdown reaches zero, ENDING work delays the end after the grace period, and ENDED
+ * work delays the next autostart, scheduled, or calendar session. The per-tick timer only runs
+ * while work is pending. All methods must be called on the main thread.
+ */
+public class LifecycleTaskExecutor implements SessionStateListener {
+
+    /**
+     * Tasks and continuation for one session phase.
+     */
+    private static final class PhaseGroup {
+        final Session session;
+        final SessionPhase phase;
+        int total;
+        int pending;
+        int gatingPending;
+        long firstStepMillis;
+        Runnable continuation;
+
+        PhaseGroup(Session session, SessionPhase phase) {
+            this.session = session;
+            this.phase = phase;
+        }
+    }
+
+    private long budgetNanos = 5_000_000L;
+
+    private final List<LifecycleTaskHandle> waiting = new ArrayList<>();
+    private final List<LifecycleTaskHandle> active = new ArrayList<>();
+    private final List<PhaseGroup> groups = new ArrayList<>();
+    private int cursor;
+
+    private SessionTask timer;
+    private long busyTicks;
+    // Ticks that spent the whole budget with work still pending
+    private long saturatedTicks;
+    private long completedTasks;
+    private long failedTasks;
+
+    /**
+     * Set the main-thread time spent on lifecycle work per tick.
+     *
+     * @param budgetMillis milliseconds per tick; values below 0.1 are raised to 0.1.
+     */
+    public void configure(double budgetMillis) {
+        budgetNanos = (long) (Math.max(0.1, budgetMillis) * 1_000_000L);
+    }
+
+    /**
+     * Submit work for a session phase. It starts on the next tick once the session has reached
+     * the phase, or immediately when it already has.
+     *
+     * @param session session the work belongs to.
+     * @param phase   RUNNING, ENDING, or ENDED.
+     * @param name    name shown in progress reports.
+     * @param task    resumable work.
+     * @param gating  true to hold back the session's next phase until the task finishes.
+     * @return handle for progress and cancellation.
+     * @throws IllegalArgumentException when the phase is IDLE.
+     */
+    public LifecycleTaskHandle submit(Session session, SessionPhase phase, String name, LifecycleTask task,
+            boolean gating) {
+        if (phase == SessionPhase.IDLE) {
+            throw new IllegalArgumentException("Lifecycle tasks cannot run in the IDLE phase");
+        }
+        LifecycleTaskHandle handle = new LifecycleTaskHandle(this, session, phase, name, task, gating);
+        PhaseGroup group = group(session, phase, true);
+        group.total++;
+        group.pending++;
+        if (gating) {
+            group.gatingPending++;
+        }
+        if (reached(session, phase)) {
+            activate(handle);
+        } else {
+            waiting.add(handle);
+        }
+        return handle;
+    }
+
+    /**
+     * Run an action once the gating work for a session phase has drained, or immediately when
+     * there is none. A later call for the same session phase replaces a pending action.
+     *
+     * @param session session whose phase should drain.
+     * @param phase   phase to wait for.
+     * @param next    action that moves the session on.
+     */
+    public void afterDrain(Session session, SessionPhase phase, Runnable next) {
+        PhaseGroup group = group(session, phase, false);
+        if (group == null || group.gatingPending == 0) {
+            next.run();
+            return;
+        }
+        group.continuation = next;
+    }
+
+    /**
+     * Check whether gating work for a session phase is still pending.
+     *
+     * @param session session to check.
+     * @param phase   phase to check.
+     * @return true while the session's next phase is held back.
+     */
+    public boolean isGating(Session session, SessionPhase phase) {
+        PhaseGroup group = group(session, phase, false);
+        return group != null && group.gatingPending > 0;
+    }
+
+    /**
+     * Check whether any session has gating work pending in a phase.
+     *
+     * @param phase phase to check.
+     * @return true while some session's next phase is held back.
+     */
+    public boolean isGating(SessionPhase phase) {
+        for (PhaseGroup group : groups) {
+            if (group.phase == phase && group.gatingPending > 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * List the tasks that have not finished yet, running ones first.
+     *
+     * @return snapshot of pending handles.
+     */
+    public List<LifecycleTaskHandle> getPendingTasks() {
+        List<LifecycleTaskHandle> pending = new ArrayList<>(active.size() + waiting.size());
+        pending.addAll(active);
+        pending.addAll(waiting);
+        return pending;
+    }
+
+    /**
+     * Summarise pending work and budget use for the profile command.
+     *
+     * @return human-readable lines; empty when the executor has never run.
+     */
+    public List<String> report() {
+        List<String> lines = new ArrayList<>();
+        if (busyTicks == 0 && waiting.isEmpty() && active.isEmpty()) {
+            return lines;
+        }
+        lines.add(String.format("Lifecycle tasks: %d running, %d waiting, budget %.1f ms/tick",
+                active.size(), waiting.size(), budgetNanos / 1_000_000.0));
+        lines.add(String.format("  %d completed, %d failed, %d busy ticks, %d saturated",
+                completedTasks, failedTasks, busyTicks, saturatedTicks));
+        for (LifecycleTaskHandle handle : getPendingTasks()) {
+            double progress = handle.getProgress();
+            lines.add(String.format("  %s [%s%s] %d steps, %.1f ms%s", handle.name, handle.phase.name(),
+                    handle.gating ? ", gating" : "", handle.steps, handle.getElapsedMillis(),
+                    progress >= 0 ? String.format(", %.0f%%", progress * 100) : ""));
+        }
+        return lines;
+    }
+
+    /**
+     * Start tasks whose phase the session has now reached; drop work for a stopped session.
+     *
+     * @param session session whose state changed.
+     */
+    @Override
+    public void onStateChange(Session session) {
+        if (session.getPhase() == SessionPhase.IDLE) {
+            discard(session);
+            return;
+        }
+        for (int i = 0; i < waiting.size(); i++) {
+            LifecycleTaskHandle handle = waiting.get(i);
+            if (handle.session == session && reached(session, handle.phase)) {
+                waiting.remove(i--);
+                activate(handle);
+            }
+        }
+    }
+
+    /**
+     * Cancel every task and pending action, e.g. when the plugin disables.
+     */
+    public void shutdown() {
+        for (LifecycleTaskHandle handle : getPendingTasks()) {
+            handle.done = true;
+            handle.cancelled = true;
+        }
+        waiting.clear();
+        active.clear();
+        groups.clear();
+        stopTimer();
+    }
+
+    /**
+     * Stop a task before it finishes.
+     *
+     * @param handle task to cancel.
+     */
+    void cancel(LifecycleTaskHandle handle) {
+        if (!waiting.remove(handle)) {
+            int index = active.indexOf(handle);
+            if (index < 0) {
+                return;
+            }
+            active.remove(index);
+            if (index < cursor) {
+                cursor--;
+            }
+        }
+        handle.cancelled = true;
+        finish(handle);
+    }
+
+    /**
+     * Run task steps round-robin until the tick budget is spent.
+     */
+    private void pulse() {
+        long now = System.nanoTime();
+        long deadline = now + budgetNanos;
+        while (!active.isEmpty()) {
+            if (cursor >= active.size()) {
+                cursor = 0;
+            }
+            LifecycleTaskHandle handle = active.get(cursor);
+            if (!handle.started) {
+                handle.started = true;
+                PhaseGroup group = group(handle.session, handle.phase, false);
+                if (group != null && group.firstStepMillis == 0L) {
+                    group.firstStepMillis = SessionManager.getClock().millis();
+                }
+            }
+
+            boolean finished;
+            try {
+                finished = handle.task.step(handle.session);
+            } catch (Exception ex) {
+                Bukkit.getLogger().warning("[SessionManager] LifecycleTask " + handle.name + " threw an exception:");
+                ex.printStackTrace();
+                handle.failed = true;
+                finished = true;
+            }
+            long after = System.nanoTime();
+            handle.steps++;
+            handle.nanos += after - now;
+            now = after;
+
+            if (finished) {
+                // The handle may already be gone if its step cancelled it
+                int index = active.indexOf(handle);
+                if (index >= 0) {
+                    active.remove(index);
+                    if (index < cursor) {
+                        cursor--;
+                    }
+                    finish(handle);
+                }
+            } else {
+                cursor++;
+            }
+            if (now >= deadline) {
+                if (!active.isEmpty()) {
+                    saturatedTicks++;
+                }
+                break;
+            }
+        }
+
+        busyTicks++;
+        if (active.isEmpty()) {
+            stopTimer();
+        }
+    }
+
+    /**
+     * Account for a task that will not run again, releasing its phase when it was the last.
+     *
+     * @param handle finished, failed, or cancelled task.
+     */
+    private void finish(LifecycleTaskHandle handle) {
+        handle.done = true;
+        if (handle.failed) {
+            failedTasks++;
+        } else if (!handle.cancelled) {
+            completedTasks++;
+        }
+
+        PhaseGroup group = group(handle.session, handle.phase, false);
+        if (group == null) {
+            return;
+        }
+        group.pending--;
+        if (handle.gating) {
+            group.gatingPending--;
+        }
+        if (group.pending == 0) {
+            groups.remove(group);
+            long elapsed = group.firstStepMillis == 0L ? 0L
+                    : SessionManager.getClock().millis() - group.firstStepMillis;
+            SessionManager.getProfiler().callEvent(
+                    new LifecyclePhaseDrainedEvent(group.session, group.phase, group.total, elapsed));
+        }
+        if (group.gatingPending == 0 && group.continuation != null) {
+            Runnable next = group.continuation;
+            group.continuation = null;
+            next.run();
+        }
+    }
+
+    /**
+     * Cancel all work for a session that was stopped without ending.
+     *
+     * @param session stopped session.
+     */
+    private void discard(Session session) {
+        // Stopping abandons the pending transitions, so drop the groups before cancelling
+        groups.removeIf(group -> group.session == session);
+        for (int i = active.size() - 1; i >= 0; i--) {
+            if (active.get(i).session == session) {
+                cancel(active.get(i));
+            }
+        }
+        for (int i = waiting.size() - 1; i >= 0; i--) {
+            if (waiting.get(i).session == session) {
+                LifecycleTaskHandle handle = waiting.remove(i);
+                handle.done = true;
+                handle.cancelled = true;
+            }
+        }
+    }
+
+    private void activate(LifecycleTaskHandle handle) {
+        active.add(handle);
+        if (timer == null) {
+            timer = SessionManager.getScheduler().runTaskTimer(this::pulse, 1L, 1L);
+        }
+    }
+
+    private void stopTimer() {
+        if (timer != null) {
+            timer.cancel();
+            timer = null;
+        }
+        cursor = 0;
+    }
+
+    private PhaseGroup group(Session session, SessionPhase phase, boolean create) {
+        for (PhaseGroup group : groups) {
+            if (group.session == session && group.phase == phase) {
+                return group;
+            }
+        }
+        if (!create) {
+            return null;
+        }
+        PhaseGroup group = new PhaseGroup(session, phase);
+        groups.add(group);
+        return group;
+    }
+
+    /**
+     * Check whether a session has entered a phase; phases are ordered RUNNING, ENDING, ENDED.
+     *
+     * @param session session to check.
+     * @param phase   phase the work runs in.
+     * @return true once the session is in or past the phase.
+     */
+    private static boolean reached(Session session, SessionPhase phase) {
+        SessionPhase current = session.getPhase();
+        return current != SessionPhase.IDLE && current.ordinal() >= phase.ordinal();
+    }
+}
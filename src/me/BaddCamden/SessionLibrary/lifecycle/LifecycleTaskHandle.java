@@ -0,0 +1,143 @@
+package me.BaddCamden.SessionLibrary.lifecycle;
+
+import me.BaddCamden.SessionLibrary.Session;
+import me.BaddCamden.SessionLibrary.SessionPhase;
+
+/**
+ * Progress and control for a task submitted to {@link LifecycleTaskExecutor}.
+ * Read and cancel from the main thread.
+ */
+public final class LifecycleTaskHandle {
+
+    private final LifecycleTaskExecutor executor;
+    final Session session;
+    final SessionPhase phase;
+    final String name;
+    final LifecycleTask task;
+    final boolean gating;
+
+    int steps;
+    long nanos;
+    boolean started;
+    boolean done;
+    boolean failed;
+    boolean cancelled;
+
+    LifecycleTaskHandle(LifecycleTaskExecutor executor, Session session, SessionPhase phase, String name,
+            LifecycleTask task, boolean gating) {
+        this.executor = executor;
+        this.session = session;
+        this.phase = phase;
+        this.name = name;
+        this.task = task;
+        this.gating = gating;
+    }
+
+    /**
+     * Access the session the task belongs to.
+     *
+     * @return session.
+     */
+    public Session getSession() {
+        return session;
+    }
+
+    /**
+     * Access the phase the task runs in.
+     *
+     * @return phase the session must reach before the task starts.
+     */
+    public SessionPhase getPhase() {
+        return phase;
+    }
+
+    /**
+     * Access the name used in progress reports.
+     *
+     * @return task name.
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Check whether the task holds back the session's next phase until it finishes.
+     *
+     * @return true for gating tasks.
+     */
+    public boolean isGating() {
+        return gating;
+    }
+
+    /**
+     * Number of steps run so far.
+     *
+     * @return step count.
+     */
+    public int getSteps() {
+        return steps;
+    }
+
+    /**
+     * Main-thread time spent inside the task's steps.
+     *
+     * @return elapsed milliseconds.
+     */
+    public double getElapsedMillis() {
+        return nanos / 1_000_000.0;
+    }
+
+    /**
+     * Fraction of work done as reported by the task.
+     *
+     * @return 1 once finished, otherwise the task's own estimate or -1 when unknown.
+     */
+    public double getProgress() {
+        return done ? 1.0 : task.progress();
+    }
+
+    /**
+     * Check whether the session has reached the task's phase and the task has begun running.
+     *
+     * @return true once the first step ran.
+     */
+    public boolean isStarted() {
+        return started;
+    }
+
+    /**
+     * Check whether the task has finished, failed, or been cancelled.
+     *
+     * @return true when no further steps will run.
+     */
+    public boolean isDone() {
+        return done;
+    }
+
+    /**
+     * Check whether the task stopped because a step threw an exception.
+     *
+     * @return true for failed tasks.
+     */
+    public boolean isFailed() {
+        return failed;
+    }
+
+    /**
+     * Check whether the task was cancelled before it finished.
+     *
+     * @return true for cancelled tasks.
+     */
+    public boolean isCancelled() {
+        return cancelled;
+    }
+
+    /**
+     * Stop running the task; a gating task no longer holds back the next phase.
+     */
+    public void cancel() {
+        if (!done) {
+            executor.cancel(this);
+        }
+    }
+}
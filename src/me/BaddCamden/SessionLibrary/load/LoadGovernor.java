@@ -0,0 +1,294 @@
+package me.BaddCamden.SessionLibrary.load;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.bukkit.Bukkit;
+
+import me.BaddCamden.SessionLibrary.SessionManager;
+import me.BaddCamden.SessionLibrary.SessionTrigger;
+import me.BaddCamden.SessionLibrary.events.LoadGovernorEvent;
+import me.BaddCamden.SessionLibrary.scheduler.SessionTask;
+
+/**
+ * Opt-in governor that holds back session starts and pauses countdowns while the server lags.
+ * <p>
+ * Load is sampled from Paper's {@code getAverageTickTime()} and {@code getTPS()} when the server
+ * provides them. On plain Spigot there is no MSPT API, so a one-tick task measures the interval
+ * between consecutive ticks instead; that value never drops below 50 ms, so thresholds under 50 ms
+ * only take effect on Paper. Averages are re-evaluated once per second.
+ * <p>
+ * While overloaded, autostart, scheduled, and calendar triggers are deferred until load recovers
+ * or the tolerance window runs out, whichever comes first. With countdown freezing enabled,
+ * running sessions stop counting down while MSPT stays above the freeze threshold. Every
+ * decision fires a {@link LoadGovernorEvent} and is counted in {@link #report()}.
+ */
+public class LoadGovernor {
+
+    /**
+     * Decisions reported through {@link LoadGovernorEvent}.
+     */
+    public enum Decision {
+        /** A due trigger was held back because the server is overloaded. */
+        DEFERRED,
+        /** A deferred trigger was allowed after load recovered. */
+        RELEASED,
+        /** A deferred trigger was allowed because the tolerance window ran out. */
+        FORCED,
+        /** Countdowns were paused because MSPT passed the freeze threshold. */
+        FROZEN,
+        /** Countdowns resumed after MSPT fell below the freeze threshold. */
+        THAWED
+    }
+
+    private static final double NANOS_PER_MILLI = 1_000_000.0;
+
+    private final double maxMspt;
+    private final double minTps;
+    private final long toleranceMillis;
+    private final boolean freezeCountdown;
+    private final double freezeMspt;
+
+    // Tick interval ring buffer for servers without an MSPT API
+    private final long[] intervals;
+    private int intervalIndex;
+    private int intervalCount;
+    private long intervalSum;
+    private long lastTickNanos;
+
+    private final Method averageTickTime;
+    private final Method tpsMethod;
+
+    private volatile double mspt = 50.0;
+    private volatile double tps = 20.0;
+    private volatile boolean overloaded;
+    private volatile boolean frozen;
+
+    // Start of the current deferral episode per trigger, or 0 when not deferring
+    private final long[] deferredSince = new long[SessionTrigger.values().length];
+    private long deferredCount;
+    private long releasedCount;
+    private long forcedCount;
+    private long freezeCount;
+    private long frozenSeconds;
+
+    private SessionTask sampler;
+    private SessionTask evaluator;
+
+    /**
+     * Create a governor; call {@link #start()} to begin sampling.
+     *
+     * @param maxMspt          average MSPT above which triggers are deferred.
+     * @param minTps           average TPS below which triggers are deferred.
+     * @param toleranceSeconds longest a trigger may be deferred before it fires anyway.
+     * @param freezeCountdown  whether to pause countdowns under heavy load.
+     * @param freezeMspt       average MSPT above which countdowns pause.
+     * @param windowTicks      number of ticks averaged when measuring tick intervals.
+     */
+    public LoadGovernor(double maxMspt, double minTps, int toleranceSeconds, boolean freezeCountdown,
+            double freezeMspt, int windowTicks) {
+        this.maxMspt = maxMspt;
+        this.minTps = minTps;
+        this.toleranceMillis = Math.max(0, toleranceSeconds) * 1000L;
+        this.freezeCountdown = freezeCountdown;
+        this.freezeMspt = freezeMspt;
+        this.intervals = new long[Math.max(1, windowTicks)];
+        this.averageTickTime = findServerMethod("getAverageTickTime");
+        this.tpsMethod = findServerMethod("getTPS");
+    }
+
+    /**
+     * Begin sampling tick times and re-evaluating load once per second.
+     */
+    public void start() {
+        if (averageTickTime == null) {
+            lastTickNanos = System.nanoTime();
+            sampler = SessionManager.getScheduler().runTaskTimer(this::sampleTick, 1L, 1L);
+        }
+        evaluator = SessionManager.getScheduler().runTaskTimer(this::evaluate, 20L, 20L);
+    }
+
+    /**
+     * Stop sampling and resume any frozen countdowns.
+     */
+    public void stop() {
+        if (sampler != null) {
+            sampler.cancel();
+            sampler = null;
+        }
+        if (evaluator != null) {
+            evaluator.cancel();
+            evaluator = null;
+        }
+        frozen = false;
+    }
+
+    /**
+     * Decide whether a due trigger should wait for load to recover. Call each time the trigger
+     * is due; the first call while overloaded starts the tolerance window for that trigger.
+     *
+     * @param trigger trigger about to start a session.
+     * @return true to hold the trigger back and ask again later.
+     */
+    public boolean shouldDefer(SessionTrigger trigger) {
+        int index = trigger.ordinal();
+        long since = deferredSince[index];
+        if (!overloaded) {
+            if (since != 0L) {
+                deferredSince[index] = 0L;
+                releasedCount++;
+                publish(Decision.RELEASED, trigger);
+            }
+            return false;
+        }
+
+        if (toleranceMillis == 0L) {
+            return false;
+        }
+        long now = SessionManager.getClock().millis();
+        if (since == 0L) {
+            deferredSince[index] = now;
+            deferredCount++;
+            publish(Decision.DEFERRED, trigger);
+            return true;
+        }
+        if (now - since >= toleranceMillis) {
+            deferredSince[index] = 0L;
+            forcedCount++;
+            publish(Decision.FORCED, trigger);
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Check whether session countdowns are paused.
+     *
+     * @return true while the freeze threshold is exceeded and freezing is enabled.
+     */
+    public boolean isCountdownFrozen() {
+        return frozen;
+    }
+
+    /**
+     * Check whether triggers are currently being deferred.
+     *
+     * @return true when MSPT or TPS is past its threshold.
+     */
+    public boolean isOverloaded() {
+        return overloaded;
+    }
+
+    /**
+     * Average milliseconds per tick over the sampling window.
+     *
+     * @return MSPT.
+     */
+    public double getMspt() {
+        return mspt;
+    }
+
+    /**
+     * Average ticks per second over the sampling window.
+     *
+     * @return TPS, at most 20.
+     */
+    public double getTps() {
+        return tps;
+    }
+
+    /**
+     * Summarise load and decision counters for the profile command.
+     *
+     * @return human-readable lines.
+     */
+    public List<String> report() {
+        List<String> lines = new ArrayList<>();
+        lines.add(String.format("Load governor: %.1f mspt, %.1f tps%s%s (%s)", mspt, tps,
+                overloaded ? ", overloaded" : "", frozen ? ", countdown frozen" : "",
+                averageTickTime != null ? "server MSPT" : "tick interval"));
+        lines.add(String.format("  deferred %d, released %d, forced %d, freezes %d, frozen %ds",
+                deferredCount, releasedCount, forcedCount, freezeCount, frozenSeconds));
+        return lines;
+    }
+
+    /**
+     * Record the interval since the previous tick.
+     */
+    private void sampleTick() {
+        long now = System.nanoTime();
+        long interval = now - lastTickNanos;
+        lastTickNanos = now;
+        intervalSum += interval - intervals[intervalIndex];
+        intervals[intervalIndex] = interval;
+        intervalIndex = (intervalIndex + 1) % intervals.length;
+        if (intervalCount < intervals.length) {
+            intervalCount++;
+        }
+    }
+
+    /**
+     * Refresh the averages and apply freeze transitions.
+     */
+    private void evaluate() {
+        if (averageTickTime != null) {
+            mspt = readDouble(averageTickTime, mspt);
+            tps = Math.min(20.0, readTps());
+        } else if (intervalCount > 0) {
+            mspt = intervalSum / (double) intervalCount / NANOS_PER_MILLI;
+            tps = Math.min(20.0, 1000.0 / mspt);
+        }
+
+        overloaded = mspt > maxMspt || tps < minTps;
+
+        boolean shouldFreeze = freezeCountdown && mspt > freezeMspt;
+        if (shouldFreeze != frozen) {
+            frozen = shouldFreeze;
+            if (shouldFreeze) {
+                freezeCount++;
+            }
+            publish(shouldFreeze ? Decision.FROZEN : Decision.THAWED, null);
+        }
+        if (frozen) {
+            frozenSeconds++;
+        }
+    }
+
+    private void publish(Decision decision, SessionTrigger trigger) {
+        SessionManager.getProfiler().callEvent(new LoadGovernorEvent(decision, trigger, mspt, tps));
+    }
+
+    private double readTps() {
+        try {
+            double[] values = (double[]) tpsMethod.invoke(Bukkit.getServer());
+            return values.length > 0 ? values[0] : tps;
+        } catch (ReflectiveOperationException | RuntimeException ex) {
+            return tps;
+        }
+    }
+
+    private static double readDouble(Method method, double fallback) {
+        try {
+            return ((Number) method.invoke(Bukkit.getServer())).doubleValue();
+        } catch (ReflectiveOperationException | RuntimeException ex) {
+            return fallback;
+        }
+    }
+
+    /**
+     * Look up an optional, Paper-only method on the server.
+     *
+     * @param name method name.
+     * @return method, or null when the server does not provide both load methods.
+     */
+    private static Method findServerMethod(String name) {
+        try {
+            Method method = Bukkit.getServer().getClass().getMethod(name);
+            Bukkit.getServer().getClass().getMethod("getTPS");
+            return method;
+        } catch (NoSuchMethodException | RuntimeException ex) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package me.BaddCamden.SessionLibrary.participation;
+
+/**
+ * Fixed-size top-K table of player slots ordered by a value that only ever grows.
+ * <p>
+ * Because values never decrease, an update only has to move the slot towards the front, so each
+ * update costs at most K comparisons and reading the board costs nothing beyond a copy. Ties keep
+ * the player who reached the value first ahead.
+ */
+final class Leaderboard {
+
+    private final int[] slots;
+    private final long[] values;
+    private int size;
+
+    /**
+     * Create an empty board.
+     *
+     * @param capacity number of places kept.
+     */
+    Leaderboard(int capacity) {
+        this.slots = new int[Math.max(1, capacity)];
+        this.values = new long[slots.length];
+    }
+
+    /**
+     * Record a new, higher value for a slot.
+     *
+     * @param slot  player slot.
+     * @param value slot's new total; must not be lower than any value previously given for it.
+     */
+    void update(int slot, long value) {
+        int position = indexOf(slot);
+        if (position < 0) {
+            if (size < slots.length) {
+                position = size++;
+            } else if (value > values[size - 1]) {
+                position = size - 1;
+            } else {
+                return;
+            }
+            slots[position] = slot;
+        }
+        values[position] = value;
+        while (position > 0 && values[position - 1] < value) {
+            slots[position] = slots[position - 1];
+            values[position] = values[position - 1];
+            position--;
+            slots[position] = slot;
+            values[position] = value;
+        }
+    }
+
+    /**
+     * Number of places filled.
+     *
+     * @return size, at most the capacity.
+     */
+    int size() {
+        return size;
+    }
+
+    /**
+     * Slot in a place.
+     *
+     * @param rank zero-based place.
+     * @return player slot.
+     */
+    int slotAt(int rank) {
+        return slots[rank];
+    }
+
+    /**
+     * Value in a place.
+     *
+     * @param rank zero-based place.
+     * @return value.
+     */
+    long valueAt(int rank) {
+        return values[rank];
+    }
+
+    private int indexOf(int slot) {
+        for (int i = 0; i < size; i++) {
+            if (slots[i] == slot) {
+                return i;
+            }
+        }
+        return -1;
+    }
+}
@@ -0,0 +1,13 @@
+package me.BaddCamden.SessionLibrary.participation;
+
+import java.util.UUID;
+
+/**
+ * One place on a participation leaderboard.
+ *
+ * @param playerId player UUID.
+ * @param name     last known player name.
+ * @param value    sessions attended or milliseconds spent in sessions, depending on the board.
+ */
+public record LeaderboardEntry(UUID playerId, String name, long value) {
+}
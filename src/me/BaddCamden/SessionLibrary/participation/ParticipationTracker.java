@@ -0,0 +1,507 @@
+package me.BaddCamden.SessionLibrary.participation;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import org.bukkit.Bukkit;
+import org.bukkit.configuration.ConfigurationSection;
+import org.bukkit.configuration.file.YamlConfiguration;
+import org.bukkit.entity.Player;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.Listener;
+import org.bukkit.event.player.PlayerJoinEvent;
+import org.bukkit.event.player.PlayerQuitEvent;
+import org.bukkit.plugin.Plugin;
+
+import me.BaddCamden.SessionLibrary.Session;
+import me.BaddCamden.SessionLibrary.SessionManager;
+import me.BaddCamden.SessionLibrary.SessionTrigger;
+
+/**
+ * Join/quit-driven accounting of which players took part in each session and for how long.
+ * <p>
+ * Every player ever seen gets a slot index. All-time totals (sessions attended, milliseconds in
+ * sessions) live in primitive arrays indexed by slot, and each running session keeps its own
+ * join timestamps and accumulators in the same layout, so a join or quit is a few array writes.
+ * Two {@link Leaderboard}s are updated as totals grow when a session ends, which makes the
+ * leaderboard queries a copy of K entries. When a session ends its {@link SessionRecord} is built,
+ * attached to the session, added to the history, and saved with the totals. Main thread only.
+ */
+public class ParticipationTracker implements Listener {
+
+    private static final long NEVER_JOINED = -1L;
+    private static final long LEFT = -2L;
+
+    /**
+     * Per-session accumulators, indexed by player slot.
+     */
+    private static final class Tracking {
+        final Session session;
+        final long startedMillis;
+        // Epoch millis the player's current stint began, or NEVER_JOINED / LEFT while offline
+        long[] joinedAt;
+        long[] millis;
+        // Slots that were online at any point during the session
+        int[] participants = new int[16];
+        int participantCount;
+
+        Tracking(Session session, long startedMillis, int capacity) {
+            this.session = session;
+            this.startedMillis = startedMillis;
+            this.joinedAt = new long[capacity];
+            this.millis = new long[capacity];
+            Arrays.fill(joinedAt, NEVER_JOINED);
+        }
+    }
+
+    private final Plugin plugin;
+    private final File file;
+    private final int historySize;
+    private final long minMillis;
+
+    private final Map<UUID, Integer> slots = new HashMap<>();
+    private UUID[] slotPlayer = new UUID[64];
+    private String[] names = new String[64];
+    private int[] sessionsAttended = new int[64];
+    private long[] totalMillis = new long[64];
+    private int slotCount;
+
+    private final Leaderboard attendanceBoard;
+    private final Leaderboard timeBoard;
+    private final List<Tracking> open = new ArrayList<>(2);
+    // Finished sessions, newest first
+    private final Deque<SessionRecord> history = new ArrayDeque<>();
+
+    /**
+     * Create a tracker; call {@link #start()} to load saved totals and begin listening.
+     *
+     * @param plugin      plugin registering the listeners.
+     * @param file        file holding totals and recent session records.
+     * @param topSize     number of places on each leaderboard.
+     * @param historySize number of session records kept.
+     * @param minSeconds  least time in a session that counts as attending it.
+     */
+    public ParticipationTracker(Plugin plugin, File file, int topSize, int historySize, int minSeconds) {
+        this.plugin = plugin;
+        this.file = file;
+        this.historySize = Math.max(0, historySize);
+        this.minMillis = Math.max(0, minSeconds) * 1000L;
+        this.attendanceBoard = new Leaderboard(topSize);
+        this.timeBoard = new Leaderboard(topSize);
+    }
+
+    /**
+     * Load saved totals and history, rebuild the leaderboards, and register join/quit listeners.
+     */
+    public void start() {
+        start(read(file));
+    }
+
+    /**
+     * Rebuild the leaderboards from an already parsed file and register join/quit listeners.
+     *
+     * @param saved contents of the participation file read with {@link #read(File)}, or null if none.
+     */
+    public void start(YamlConfiguration saved) {
+        load(saved);
+        Bukkit.getPluginManager().registerEvents(this, plugin);
+    }
+
+    /**
+     * Parse a participation file. Touches no tracker state, so it can run off the main thread
+     * while the plugin enables.
+     *
+     * @param file participation file.
+     * @return parsed contents, or null if the file does not exist.
+     */
+    public static YamlConfiguration read(File file) {
+        return file.exists() ? YamlConfiguration.loadConfiguration(file) : null;
+    }
+
+    /**
+     * Save totals and history.
+     */
+    public void stop() {
+        save();
+    }
+
+    /**
+     * Write totals and history to disk now; they are also saved whenever a session ends.
+     */
+    public void flush() {
+        save();
+    }
+
+    /**
+     * Begin accounting for a session that just started, counting players already online.
+     *
+     * @param session started session.
+     */
+    public void open(Session session) {
+        if (find(session) != null) {
+            return;
+        }
+        long now = SessionManager.getClock().millis();
+        Tracking tracking = new Tracking(session, now, slotPlayer.length);
+        open.add(tracking);
+        for (Player player : Bukkit.getOnlinePlayers()) {
+            enter(tracking, slotFor(player), now);
+        }
+    }
+
+    /**
+     * Finish accounting for a session, update totals and leaderboards, and save.
+     *
+     * @param session ending session.
+     * @return record of the session, or null when it was not being tracked.
+     */
+    public SessionRecord close(Session session) {
+        Tracking tracking = find(session);
+        if (tracking == null) {
+            return null;
+        }
+        open.remove(tracking);
+        long now = SessionManager.getClock().millis();
+
+        List<SessionRecord.Participant> participants = new ArrayList<>(tracking.participantCount);
+        for (int i = 0; i < tracking.participantCount; i++) {
+            int slot = tracking.participants[i];
+            leave(tracking, slot, now);
+            long millis = tracking.millis[slot];
+            participants.add(new SessionRecord.Participant(slotPlayer[slot], names[slot], millis));
+
+            totalMillis[slot] += millis;
+            timeBoard.update(slot, totalMillis[slot]);
+            if (millis >= minMillis) {
+                sessionsAttended[slot]++;
+                attendanceBoard.update(slot, sessionsAttended[slot]);
+            }
+        }
+        participants.sort((a, b) -> Long.compare(b.millis(), a.millis()));
+
+        SessionRecord record = new SessionRecord(session.getId(), session.getTrigger(), tracking.startedMillis, now,
+                Collections.unmodifiableList(participants));
+        addHistory(record);
+        save();
+        return record;
+    }
+
+    /**
+     * Drop accounting for a session that was stopped without ending; totals are not changed.
+     *
+     * @param session stopped session.
+     */
+    public void discard(Session session) {
+        Tracking tracking = find(session);
+        if (tracking != null) {
+            open.remove(tracking);
+        }
+    }
+
+    /**
+     * Players who attended the most sessions.
+     *
+     * @return leaderboard, best first.
+     */
+    public List<LeaderboardEntry> getTopAttendance() {
+        return entries(attendanceBoard);
+    }
+
+    /**
+     * Players who spent the most time in sessions.
+     *
+     * @return leaderboard in milliseconds, best first.
+     */
+    public List<LeaderboardEntry> getTopPlaytime() {
+        return entries(timeBoard);
+    }
+
+    /**
+     * Number of sessions a player attended.
+     *
+     * @param playerId player UUID.
+     * @return sessions attended, 0 for unknown players.
+     */
+    public int getSessionsAttended(UUID playerId) {
+        Integer slot = slots.get(playerId);
+        return slot != null ? sessionsAttended[slot] : 0;
+    }
+
+    /**
+     * Total time a player spent in finished sessions.
+     *
+     * @param playerId player UUID.
+     * @return milliseconds, 0 for unknown players.
+     */
+    public long getTotalMillis(UUID playerId) {
+        Integer slot = slots.get(playerId);
+        return slot != null ? totalMillis[slot] : 0L;
+    }
+
+    /**
+     * Time a player has spent so far in a running session.
+     *
+     * @param session  running session.
+     * @param playerId player UUID.
+     * @return milliseconds, 0 when the session or player is not tracked.
+     */
+    public long getSessionMillis(Session session, UUID playerId) {
+        Tracking tracking = find(session);
+        Integer slot = slots.get(playerId);
+        if (tracking == null || slot == null || slot >= tracking.millis.length) {
+            return 0L;
+        }
+        long millis = tracking.millis[slot];
+        long joined = tracking.joinedAt[slot];
+        return joined >= 0 ? millis + SessionManager.getClock().millis() - joined : millis;
+    }
+
+    /**
+     * Records of recently finished sessions.
+     *
+     * @return records, newest first.
+     */
+    public List<SessionRecord> getHistory() {
+        return new ArrayList<>(history);
+    }
+
+    /**
+     * Start a stint in every open session.
+     *
+     * @param event join event.
+     */
+    @EventHandler
+    public void onPlayerJoin(PlayerJoinEvent event) {
+        Player player = event.getPlayer();
+        long now = SessionManager.getClock().millis();
+        // On Folia the event fires on the player's region; tracking state belongs to the global region
+        SessionManager.runGlobal(() -> {
+            if (open.isEmpty()) {
+                return;
+            }
+            int slot = slotFor(player);
+            for (Tracking tracking : open) {
+                enter(tracking, slot, now);
+            }
+        });
+    }
+
+    /**
+     * End the player's stint in every open session.
+     *
+     * @param event quit event.
+     */
+    @EventHandler
+    public void onPlayerQuit(PlayerQuitEvent event) {
+        UUID playerId = event.getPlayer().getUniqueId();
+        long now = SessionManager.getClock().millis();
+        SessionManager.runGlobal(() -> {
+            if (open.isEmpty()) {
+                return;
+            }
+            Integer slot = slots.get(playerId);
+            if (slot == null) {
+                return;
+            }
+            for (Tracking tracking : open) {
+                leave(tracking, slot, now);
+            }
+        });
+    }
+
+    private void enter(Tracking tracking, int slot, long now) {
+        long joined = tracking.joinedAt[slot];
+        if (joined >= 0) {
+            return;
+        }
+        if (joined == NEVER_JOINED) {
+            if (tracking.participantCount == tracking.participants.length) {
+                tracking.participants = Arrays.copyOf(tracking.participants, tracking.participantCount * 2);
+            }
+            tracking.participants[tracking.participantCount++] = slot;
+        }
+        tracking.joinedAt[slot] = now;
+    }
+
+    private static void leave(Tracking tracking, int slot, long now) {
+        long joined = tracking.joinedAt[slot];
+        if (joined >= 0) {
+            tracking.millis[slot] += now - joined;
+            tracking.joinedAt[slot] = LEFT;
+        }
+    }
+
+    /**
+     * Look up or allocate the slot for a player, refreshing the stored name.
+     *
+     * @param player online player.
+     * @return slot index.
+     */
+    private int slotFor(Player player) {
+        Integer existing = slots.get(player.getUniqueId());
+        if (existing != null) {
+            names[existing] = player.getName();
+            return existing;
+        }
+        return allocate(player.getUniqueId(), player.getName());
+    }
+
+    private int allocate(UUID playerId, String name) {
+        if (slotCount == slotPlayer.length) {
+            int capacity = slotCount * 2;
+            slotPlayer = Arrays.copyOf(slotPlayer, capacity);
+            names = Arrays.copyOf(names, capacity);
+            sessionsAttended = Arrays.copyOf(sessionsAttended, capacity);
+            totalMillis = Arrays.copyOf(totalMillis, capacity);
+            for (Tracking tracking : open) {
+                int old = tracking.joinedAt.length;
+                tracking.joinedAt = Arrays.copyOf(tracking.joinedAt, capacity);
+                tracking.millis = Arrays.copyOf(tracking.millis, capacity);
+                Arrays.fill(tracking.joinedAt, old, capacity, NEVER_JOINED);
+            }
+        }
+        int slot = slotCount++;
+        slotPlayer[slot] = playerId;
+        names[slot] = name;
+        slots.put(playerId, slot);
+        return slot;
+    }
+
+    private Tracking find(Session session) {
+        for (Tracking tracking : open) {
+            if (tracking.session == session) {
+                return tracking;
+            }
+        }
+        return null;
+    }
+
+    private List<LeaderboardEntry> entries(Leaderboard board) {
+        List<LeaderboardEntry> entries = new ArrayList<>(board.size());
+        for (int rank = 0; rank < board.size(); rank++) {
+            int slot = board.slotAt(rank);
+            entries.add(new LeaderboardEntry(slotPlayer[slot], names[slot], board.valueAt(rank)));
+        }
+        return entries;
+    }
+
+    private void addHistory(SessionRecord record) {
+        if (historySize == 0) {
+            return;
+        }
+        history.addFirst(record);
+        while (history.size() > historySize) {
+            history.removeLast();
+        }
+    }
+
+    /**
+     * Restore totals and history and rebuild the leaderboards.
+     *
+     * @param yaml parsed participation file, or null if none.
+     */
+    private void load(YamlConfiguration yaml) {
+        if (yaml == null) {
+            return;
+        }
+        ConfigurationSection players = yaml.getConfigurationSection("players");
+        if (players != null) {
+            for (String key : players.getKeys(false)) {
+                UUID playerId;
+                try {
+                    playerId = UUID.fromString(key);
+                } catch (IllegalArgumentException e) {
+                    continue;
+                }
+                int slot = allocate(playerId, players.getString(key + ".name", key));
+                sessionsAttended[slot] = players.getInt(key + ".sessions", 0);
+                totalMillis[slot] = players.getLong(key + ".millis", 0L);
+                attendanceBoard.update(slot, sessionsAttended[slot]);
+                timeBoard.update(slot, totalMillis[slot]);
+            }
+        }
+
+        ConfigurationSection records = yaml.getConfigurationSection("history");
+        if (records != null) {
+            // Saved oldest first; addFirst leaves the newest at the head
+            for (String key : records.getKeys(false)) {
+                SessionRecord record = readRecord(records.getConfigurationSection(key));
+                if (record != null) {
+                    addHistory(record);
+                }
+            }
+        }
+    }
+
+    private SessionRecord readRecord(ConfigurationSection section) {
+        if (section == null) {
+            return null;
+        }
+        SessionTrigger trigger;
+        try {
+            trigger = SessionTrigger.valueOf(section.getString("trigger", SessionTrigger.MANUAL.name()));
+        } catch (IllegalArgumentException e) {
+            trigger = SessionTrigger.MANUAL;
+        }
+        List<SessionRecord.Participant> participants = new ArrayList<>();
+        ConfigurationSection times = section.getConfigurationSection("participants");
+        if (times != null) {
+            for (String key : times.getKeys(false)) {
+                try {
+                    UUID playerId = UUID.fromString(key);
+                    Integer slot = slots.get(playerId);
+                    participants.add(new SessionRecord.Participant(playerId,
+                            slot != null ? names[slot] : key, times.getLong(key, 0L)));
+                } catch (IllegalArgumentException e) {
+                    // Skip malformed entries
+                }
+            }
+        }
+        participants.sort((a, b) -> Long.compare(b.millis(), a.millis()));
+        return new SessionRecord(section.getLong("id", 0L), trigger, section.getLong("started", 0L),
+                section.getLong("ended", 0L), Collections.unmodifiableList(participants));
+    }
+
+    /**
+     * Write totals and history to disk.
+     */
+    private void save() {
+        YamlConfiguration yaml = new YamlConfiguration();
+        for (int slot = 0; slot < slotCount; slot++) {
+            String key = "players." + slotPlayer[slot];
+            yaml.set(key + ".name", names[slot]);
+            yaml.set(key + ".sessions", sessionsAttended[slot]);
+            yaml.set(key + ".millis", totalMillis[slot]);
+        }
+        int index = 0;
+        for (Iterator<SessionRecord> it = history.descendingIterator(); it.hasNext(); index++) {
+            SessionRecord record = it.next();
+            String key = "history." + index;
+            yaml.set(key + ".id", record.sessionId());
+            yaml.set(key + ".trigger", record.trigger() != null ? record.trigger().name() : null);
+            yaml.set(key + ".started", record.startedMillis());
+            yaml.set(key + ".ended", record.endedMillis());
+            for (SessionRecord.Participant participant : record.participants()) {
+                yaml.set(key + ".participants." + participant.playerId(), participant.millis());
+            }
+        }
+        // The document is built here and never touched again, so the write may run off-thread
+        SessionManager.getScheduler().runIo(() -> {
+            try {
+                yaml.save(file);
+            } catch (IOException e) {
+                plugin.getLogger().warning("Could not save " + file.getName() + ": " + e.getMessage());
+            }
+        });
+    }
+}
@@ -0,0 +1,29 @@
+package me.BaddCamden.SessionLibrary.participation;
+
+import java.util.List;
+import java.util.UUID;
+
+import me.BaddCamden.SessionLibrary.SessionTrigger;
+
+/**
+ * Immutable account of who took part in a finished session and for how long.
+ *
+ * @param sessionId     session identifier.
+ * @param trigger       what started the session.
+ * @param startedMillis epoch millis the session started.
+ * @param endedMillis   epoch millis the session ended.
+ * @param participants  players who were online during the session, longest first.
+ */
+public record SessionRecord(long sessionId, SessionTrigger trigger, long startedMillis, long endedMillis,
+        List<Participant> participants) {
+
+    /**
+     * One player's time in a session.
+     *
+     * @param playerId player UUID.
+     * @param name     player name at the time.
+     * @param millis   milliseconds spent online during the session.
+     */
+    public record Participant(UUID playerId, String name, long millis) {
+    }
+}
@@ -0,0 +1,489 @@
+package me.BaddCamden.SessionLibrary.playtime;
+
+import java.io.IOException;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
+import org.bukkit.Bukkit;
+import org.bukkit.entity.Player;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.Listener;
+import org.bukkit.event.player.PlayerJoinEvent;
+import org.bukkit.event.player.PlayerQuitEvent;
+import org.bukkit.plugin.Plugin;
+
+import me.BaddCamden.SessionLibrary.SessionManager;
+import me.BaddCamden.SessionLibrary.events.PlayerQuotaExhaustedEvent;
+import me.BaddCamden.SessionLibrary.hooks.DayChangeListener;
+import me.BaddCamden.SessionLibrary.scheduler.SessionTask;
+
+/**
+ * Per-player daily playtime quotas that count down only while the player is online.
+ * <p>
+ * Instead of a {@code Session} and a task per player, every player seen today gets a compact
+ * slot index into parallel primitive arrays (remaining seconds, grace seconds, deadline, state).
+ * Online slots are also kept in a dense list, so the once-per-second tick is a single pass over
+ * online players with no allocation. Every change is written through to a memory-mapped
+ * {@link PlaytimeStore}, which is flushed periodically and survives restarts. Quotas reset at the
+ * calendar day boundary tracked by the day counter. All methods are expected to be called on the
+ * main thread.
+ */
+public class PlaytimeQuotaManager implements Listener, DayChangeListener {
+
+    private static final byte UNTRACKED = (byte) PlaytimeState.UNTRACKED.ordinal();
+    private static final byte COUNTING = (byte) PlaytimeState.COUNTING.ordinal();
+    private static final byte GRACE = (byte) PlaytimeState.GRACE.ordinal();
+    private static final byte EXHAUSTED = (byte) PlaytimeState.EXHAUSTED.ordinal();
+    private static final PlaytimeState[] STATES = PlaytimeState.values();
+
+    private final Plugin plugin;
+    private final PlaytimeStore store;
+    private final int flushSeconds;
+    private final int dailySeconds;
+    private final int graceSeconds;
+    private final int[] warnings;
+    private final String bypassPermission;
+
+    // Slot lookup; only touched on join, quit, and reset
+    private final Map<UUID, Integer> slots = new HashMap<>();
+    private int[] freeSlots = new int[16];
+    private int freeCount;
+    private int slotCount;
+
+    // Per-slot state
+    private UUID[] slotPlayer = new UUID[16];
+    private Player[] online = new Player[16];
+    private int[] remaining = new int[16];
+    private int[] graceLeft = new int[16];
+    private long[] deadlineMillis = new long[16];
+    private byte[] state = new byte[16];
+    private int[] onlinePosition = new int[16];
+    private int[] record = new int[16];
+    private int knownResizeCount;
+
+    // Dense list of online slots for the tick pass
+    private int[] onlineSlots = new int[16];
+    private int onlineCount;
+
+    // Slots whose grace ran out during a pass; kicked after the pass
+    private int[] pendingKicks = new int[16];
+    private int pendingKickCount;
+
+    private int secondsSinceFlush;
+    private SessionTask task;
+
+    /**
+     * Create a quota manager; call {@link #start(LocalDate)} to begin counting.
+     *
+     * @param plugin           owning plugin for event registration.
+     * @param store            persistent record of today's remaining quotas.
+     * @param flushSeconds     interval between flushes of the store to disk.
+     * @param dailySeconds     quota granted to each player per day.
+     * @param graceSeconds     seconds between running out and removal.
+     * @param warnings         remaining-seconds marks at which the player is warned.
+     * @param bypassPermission permission that exempts a player from quotas.
+     */
+    public PlaytimeQuotaManager(Plugin plugin, PlaytimeStore store, int flushSeconds, int dailySeconds,
+            int graceSeconds, int[] warnings, String bypassPermission) {
+        this.plugin = plugin;
+        this.store = store;
+        this.flushSeconds = Math.max(1, flushSeconds);
+        this.dailySeconds = Math.max(1, dailySeconds);
+        this.graceSeconds = Math.max(0, graceSeconds);
+        this.warnings = warnings.clone();
+        this.bypassPermission = bypassPermission;
+        Arrays.fill(onlinePosition, -1);
+    }
+
+    /**
+     * Discard stored quotas from an earlier day, track players already online, and start the tick.
+     *
+     * @param today current date in the calendar timezone.
+     */
+    public void start(LocalDate today) {
+        if (!today.equals(store.getDate())) {
+            store.clear(today);
+        }
+        for (Player player : Bukkit.getOnlinePlayers()) {
+            join(player);
+        }
+        Bukkit.getPluginManager().registerEvents(this, plugin);
+        SessionManager.registerDayChangeListener(this);
+        task = SessionManager.getScheduler().runTaskTimer(this::tick, 20L, 20L); // every second
+    }
+
+    /**
+     * Stop counting and close the store, flushing today's remaining quotas.
+     */
+    public void stop() {
+        if (task != null) {
+            task.cancel();
+            task = null;
+        }
+        SessionManager.unregisterDayChangeListener(this);
+        // A periodic flush may still be queued off-thread; it must not race the close
+        SessionManager.getScheduler().flushIo();
+        try {
+            store.close();
+        } catch (IOException e) {
+            plugin.getLogger().warning("Could not close playtime store: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Write remaining quotas to disk now instead of waiting for the next periodic flush.
+     */
+    public void flush() {
+        SessionManager.getScheduler().runIo(store::force);
+    }
+
+    /**
+     * Start counting a player's quota when they join; remove exhausted players again.
+     *
+     * @param event join event.
+     */
+    @EventHandler
+    public void onPlayerJoin(PlayerJoinEvent event) {
+        Player player = event.getPlayer();
+        // On Folia the event fires on the player's region; quota state belongs to the global region
+        SessionManager.runGlobal(() -> join(player));
+    }
+
+    /**
+     * Pause a player's quota when they leave.
+     *
+     * @param event quit event.
+     */
+    @EventHandler
+    public void onPlayerQuit(PlayerQuitEvent event) {
+        UUID playerId = event.getPlayer().getUniqueId();
+        SessionManager.runGlobal(() -> {
+            Integer slot = slots.get(playerId);
+            if (slot != null) {
+                leave(slot);
+            }
+        });
+    }
+
+    /**
+     * Give every player a full quota for the new day and forget players who are offline.
+     *
+     * @param today      new date in the calendar timezone.
+     * @param dayCounter day counter value after the change.
+     */
+    @Override
+    public void onDayChange(LocalDate today, int dayCounter) {
+        resetAll(today);
+    }
+
+    /**
+     * Give every player a full quota for the given day.
+     *
+     * @param today date the quotas belong to.
+     */
+    public void resetAll(LocalDate today) {
+        store.clear(today);
+        for (int slot = 0; slot < slotCount; slot++) {
+            if (slotPlayer[slot] == null) {
+                continue;
+            }
+            if (online[slot] == null) {
+                freeSlot(slot);
+                continue;
+            }
+            remaining[slot] = dailySeconds;
+            graceLeft[slot] = 0;
+            state[slot] = COUNTING;
+            record[slot] = storeRecord(slotPlayer[slot]);
+        }
+        long now = SessionManager.getClock().millis();
+        for (int i = 0; i < onlineCount; i++) {
+            deadlineMillis[onlineSlots[i]] = now + dailySeconds * 1000L;
+        }
+        String message = SessionManager.config.getString("messages.playtime-reset",
+                "Your daily playtime has been reset.");
+        if (message != null && !message.isEmpty()) {
+            for (int i = 0; i < onlineCount; i++) {
+                online[onlineSlots[i]].sendMessage(message);
+            }
+        }
+        store.force();
+    }
+
+    /**
+     * Read a player's remaining quota.
+     *
+     * @param playerId player UUID.
+     * @return remaining seconds, or -1 when the player is not tracked today.
+     */
+    public int getRemainingSeconds(UUID playerId) {
+        Integer slot = slots.get(playerId);
+        if (slot != null) {
+            return remaining[slot];
+        }
+        int index = store.find(playerId);
+        return index >= 0 ? store.getRemaining(index) : -1;
+    }
+
+    /**
+     * Overwrite a player's remaining quota, e.g. to grant extra time.
+     *
+     * @param playerId player UUID.
+     * @param seconds  new remaining seconds; values above 0 lift an exhausted or grace state.
+     */
+    public void setRemainingSeconds(UUID playerId, int seconds) {
+        int slot = slotFor(playerId);
+        remaining[slot] = Math.max(0, seconds);
+        if (remaining[slot] > 0) {
+            state[slot] = COUNTING;
+            graceLeft[slot] = 0;
+        }
+        persist(slot);
+        if (online[slot] != null) {
+            deadlineMillis[slot] = SessionManager.getClock().millis() + remaining[slot] * 1000L;
+        }
+    }
+
+    /**
+     * Epoch millis at which an online player's quota runs out if they stay online.
+     *
+     * @param playerId player UUID.
+     * @return deadline, or 0 when the player is offline or untracked.
+     */
+    public long getDeadlineMillis(UUID playerId) {
+        Integer slot = slots.get(playerId);
+        return slot != null && online[slot] != null ? deadlineMillis[slot] : 0L;
+    }
+
+    /**
+     * Read a player's quota state.
+     *
+     * @param playerId player UUID.
+     * @return current state.
+     */
+    public PlaytimeState getState(UUID playerId) {
+        Integer slot = slots.get(playerId);
+        if (slot != null) {
+            return STATES[state[slot]];
+        }
+        int index = store.find(playerId);
+        return index >= 0 ? STATES[store.getState(index)] : PlaytimeState.UNTRACKED;
+    }
+
+    /**
+     * Number of players currently counting down.
+     *
+     * @return online tracked players.
+     */
+    public int getOnlineCount() {
+        return onlineCount;
+    }
+
+    /**
+     * Advance every online player's quota by one second in a single pass.
+     */
+    private void tick() {
+        for (int i = 0; i < onlineCount; i++) {
+            int slot = onlineSlots[i];
+            byte current = state[slot];
+            if (current == COUNTING) {
+                int left = --remaining[slot];
+                if (left <= 0) {
+                    remaining[slot] = 0;
+                    exhaust(slot);
+                } else {
+                    warnIfDue(slot, left);
+                }
+                persist(slot);
+            } else if (current == GRACE && --graceLeft[slot] <= 0) {
+                state[slot] = EXHAUSTED;
+                persist(slot);
+                if (pendingKickCount == pendingKicks.length) {
+                    pendingKicks = Arrays.copyOf(pendingKicks, pendingKickCount * 2);
+                }
+                pendingKicks[pendingKickCount++] = slot;
+            }
+        }
+
+        // Kicking fires quit events that reorder the online list, so it happens after the pass
+        for (int i = 0; i < pendingKickCount; i++) {
+            Player player = online[pendingKicks[i]];
+            if (player != null) {
+                String message = SessionManager.config.getString("messages.playtime-kick",
+                        "You have used up today's playtime.");
+                SessionManager.runForPlayer(player, () -> player.kickPlayer(message));
+            }
+        }
+        pendingKickCount = 0;
+
+        if (++secondsSinceFlush >= flushSeconds) {
+            secondsSinceFlush = 0;
+            flush();
+        }
+    }
+
+    private void warnIfDue(int slot, int left) {
+        for (int warning : warnings) {
+            if (warning == left) {
+                String message = SessionManager.config.getString("messages.playtime-warning",
+                        "You have %seconds% seconds of playtime left today.");
+                if (message != null && !message.isEmpty()) {
+                    online[slot].sendMessage(message.replace("%seconds%", String.valueOf(left)));
+                }
+                return;
+            }
+        }
+    }
+
+    private void exhaust(int slot) {
+        Player player = online[slot];
+        state[slot] = GRACE;
+        graceLeft[slot] = Math.max(1, graceSeconds);
+        String message = SessionManager.config.getString("messages.playtime-grace",
+                "Your playtime for today is used up. Please log off within %seconds% seconds.");
+        if (message != null && !message.isEmpty()) {
+            player.sendMessage(message.replace("%seconds%", String.valueOf(graceSeconds)));
+        }
+        SessionManager.getProfiler().callEvent(new PlayerQuotaExhaustedEvent(player, graceSeconds));
+    }
+
+    private void join(Player player) {
+        if (bypassPermission != null && !bypassPermission.isEmpty() && player.hasPermission(bypassPermission)) {
+            return;
+        }
+        int slot = slotFor(player.getUniqueId());
+        online[slot] = player;
+        if (onlinePosition[slot] < 0) {
+            if (onlineCount == onlineSlots.length) {
+                onlineSlots = Arrays.copyOf(onlineSlots, onlineCount * 2);
+            }
+            onlinePosition[slot] = onlineCount;
+            onlineSlots[onlineCount++] = slot;
+        }
+        deadlineMillis[slot] = SessionManager.getClock().millis() + remaining[slot] * 1000L;
+
+        if (state[slot] == EXHAUSTED || state[slot] == GRACE) {
+            // Kicking during the join event is unreliable; remove the player on the next tick
+            state[slot] = EXHAUSTED;
+            persist(slot);
+            SessionManager.getScheduler().runTaskLater(() -> {
+                if (player.isOnline()) {
+                    String message = SessionManager.config.getString("messages.playtime-exhausted-join",
+                            "You have no playtime left today.");
+                    SessionManager.runForPlayer(player, () -> player.kickPlayer(message));
+                }
+            }, 1L);
+        }
+    }
+
+    private void leave(int slot) {
+        online[slot] = null;
+        int position = onlinePosition[slot];
+        if (position < 0) {
+            return;
+        }
+        int last = onlineSlots[--onlineCount];
+        onlineSlots[position] = last;
+        onlinePosition[last] = position;
+        onlinePosition[slot] = -1;
+        // A player who logs off during grace has no time left to resume with
+        if (state[slot] == GRACE) {
+            state[slot] = EXHAUSTED;
+            persist(slot);
+        }
+    }
+
+    /**
+     * Find or allocate the slot for a player, restoring their stored quota or starting a full one.
+     *
+     * @param playerId player UUID.
+     * @return slot index.
+     */
+    private int slotFor(UUID playerId) {
+        Integer existing = slots.get(playerId);
+        if (existing != null) {
+            return existing;
+        }
+        int slot;
+        if (freeCount > 0) {
+            slot = freeSlots[--freeCount];
+        } else {
+            if (slotCount == slotPlayer.length) {
+                grow(slotCount * 2);
+            }
+            slot = slotCount++;
+        }
+        slots.put(playerId, slot);
+        slotPlayer[slot] = playerId;
+        online[slot] = null;
+        graceLeft[slot] = 0;
+        deadlineMillis[slot] = 0L;
+        onlinePosition[slot] = -1;
+        record[slot] = storeRecord(playerId);
+        remaining[slot] = store.getRemaining(record[slot]);
+        // Grace is not resumable after a restart
+        state[slot] = store.getState(record[slot]) == COUNTING && remaining[slot] > 0 ? COUNTING : EXHAUSTED;
+        return slot;
+    }
+
+    private void freeSlot(int slot) {
+        slots.remove(slotPlayer[slot]);
+        slotPlayer[slot] = null;
+        state[slot] = UNTRACKED;
+        if (freeCount == freeSlots.length) {
+            freeSlots = Arrays.copyOf(freeSlots, freeCount * 2);
+        }
+        freeSlots[freeCount++] = slot;
+    }
+
+    private void grow(int capacity) {
+        slotPlayer = Arrays.copyOf(slotPlayer, capacity);
+        online = Arrays.copyOf(online, capacity);
+        remaining = Arrays.copyOf(remaining, capacity);
+        graceLeft = Arrays.copyOf(graceLeft, capacity);
+        deadlineMillis = Arrays.copyOf(deadlineMillis, capacity);
+        state = Arrays.copyOf(state, capacity);
+        record = Arrays.copyOf(record, capacity);
+        int oldLength = onlinePosition.length;
+        onlinePosition = Arrays.copyOf(onlinePosition, capacity);
+        Arrays.fill(onlinePosition, oldLength, capacity, -1);
+    }
+
+    /**
+     * Locate or create a player's store record, re-resolving every cached record index when
+     * the insert made the store rehash.
+     *
+     * @param playerId player UUID.
+     * @return record index.
+     */
+    private int storeRecord(UUID playerId) {
+        int index;
+        try {
+            index = store.findOrInsert(playerId, dailySeconds, COUNTING);
+        } catch (IOException e) {
+            throw new IllegalStateException("Could not grow playtime store", e);
+        }
+        if (store.getResizeCount() != knownResizeCount) {
+            knownResizeCount = store.getResizeCount();
+            for (int slot = 0; slot < slotCount; slot++) {
+                if (slotPlayer[slot] != null && slotPlayer[slot] != playerId) {
+                    record[slot] = store.find(slotPlayer[slot]);
+                }
+            }
+        }
+        return index;
+    }
+
+    /**
+     * Write a slot's remaining seconds and state through to the store.
+     *
+     * @param slot slot index.
+     */
+    private void persist(int slot) {
+        store.setRemaining(record[slot], remaining[slot]);
+        store.setState(record[slot], state[slot]);
+    }
+}
@@ -0,0 +1,15 @@
+package me.BaddCamden.SessionLibrary.playtime;
+
+/**
+ * Quota state of a single player for the current day.
+ */
+public enum PlaytimeState {
+    /** Not seen today, or exempt from quotas. */
+    UNTRACKED,
+    /** Has quota left; counts down while online. */
+    COUNTING,
+    /** Quota used up; counting down the grace period before removal. */
+    GRACE,
+    /** Quota and grace used up; removed until the next day. */
+    EXHAUSTED
+}
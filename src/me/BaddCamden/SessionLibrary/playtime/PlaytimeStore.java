@@ -0,0 +1,340 @@
+package me.BaddCamden.SessionLibrary.playtime;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+import java.util.UUID;
+
+import me.BaddCamden.SessionLibrary.SessionManager;
+
+/**
+ * Memory-mapped table of per-player playtime records keyed by UUID.
+ * <p>
+ * The file is a 32-byte header followed by a power-of-two number of fixed 24-byte records
+ * (UUID high bits, UUID low bits, remaining seconds, state). Records are located by open
+ * addressing with linear probing, so startup maps the file rather than parsing it and an update
+ * is a single in-place write into the mapping. Call {@link #force()} periodically to flush dirty
+ * pages. When the table passes 70% load it is rehashed in place over a mapping twice the size,
+ * which keeps 100k players in roughly 6 MB. The file is never replaced while mapped, which some
+ * platforms refuse; instead the header is flagged for the duration of the rehash, and a store
+ * left flagged by a crash is started afresh on the next open rather than read half-rehashed.
+ * Not thread-safe; use from the main thread, apart from {@link #force()} on the I/O thread.
+ */
+public class PlaytimeStore {
+
+    private static final int MAGIC = 0x534C5054; // "SLPT"
+    private static final int VERSION = 1;
+    private static final int HEADER_SIZE = 32;
+    private static final int RECORD_SIZE = 24;
+    private static final int OFFSET_REMAINING = 16;
+    private static final int OFFSET_STATE = 20;
+    private static final int OFFSET_REHASHING = 24;
+    private static final int MIN_CAPACITY = 1024;
+    // Keeps the whole mapping below the 2 GB limit of a single MappedByteBuffer
+    private static final int MAX_CAPACITY = 1 << 26;
+
+    private final File file;
+    private FileChannel channel;
+    // Read by force() on the I/O thread; replaced when the table grows
+    private volatile MappedByteBuffer buffer;
+    private int capacity;
+    private int size;
+    private int resizeCount;
+
+    private PlaytimeStore(File file) {
+        this.file = file;
+    }
+
+    /**
+     * Map an existing store or create an empty one.
+     *
+     * @param file            backing file.
+     * @param initialCapacity minimum number of records to size a new file for.
+     * @return opened store.
+     * @throws IOException when the file cannot be mapped.
+     */
+    public static PlaytimeStore open(File file, int initialCapacity) throws IOException {
+        PlaytimeStore store = new PlaytimeStore(file);
+        File parent = file.getAbsoluteFile().getParentFile();
+        if (parent != null) {
+            parent.mkdirs();
+        }
+        store.map(tableSizeFor(initialCapacity));
+        return store;
+    }
+
+    /**
+     * Date the stored records belong to.
+     *
+     * @return date, or null for a new store.
+     */
+    public LocalDate getDate() {
+        long epochDay = buffer.getLong(16);
+        return epochDay == Long.MIN_VALUE ? null : LocalDate.ofEpochDay(epochDay);
+    }
+
+    /**
+     * Drop every record and stamp the store with a new date.
+     *
+     * @param date date the following records belong to.
+     */
+    public void clear(LocalDate date) {
+        for (int offset = HEADER_SIZE; offset < HEADER_SIZE + capacity * RECORD_SIZE; offset += 8) {
+            buffer.putLong(offset, 0L);
+        }
+        size = 0;
+        buffer.putInt(12, 0);
+        buffer.putLong(16, date.toEpochDay());
+    }
+
+    /**
+     * Locate a player's record.
+     *
+     * @param playerId player UUID.
+     * @return record index, or -1 when the player has no record.
+     */
+    public int find(UUID playerId) {
+        long high = playerId.getMostSignificantBits();
+        long low = playerId.getLeastSignificantBits();
+        int mask = capacity - 1;
+        for (int index = hash(high, low) & mask; ; index = (index + 1) & mask) {
+            int offset = offset(index);
+            long storedHigh = buffer.getLong(offset);
+            long storedLow = buffer.getLong(offset + 8);
+            if (storedHigh == 0L && storedLow == 0L) {
+                return -1;
+            }
+            if (storedHigh == high && storedLow == low) {
+                return index;
+            }
+        }
+    }
+
+    /**
+     * Locate a player's record, creating it when missing. Creating a record may rehash the table,
+     * which invalidates previously returned indices; compare {@link #getResizeCount()} to detect it.
+     *
+     * @param playerId         player UUID; the nil UUID is not supported.
+     * @param initialRemaining remaining seconds for a new record.
+     * @param initialState     state for a new record.
+     * @return record index.
+     * @throws IOException when growing the file fails.
+     */
+    public int findOrInsert(UUID playerId, int initialRemaining, byte initialState) throws IOException {
+        int existing = find(playerId);
+        if (existing >= 0) {
+            return existing;
+        }
+        if ((size + 1) * 10L > capacity * 7L) {
+            grow();
+        }
+        int index = insert(playerId.getMostSignificantBits(), playerId.getLeastSignificantBits(),
+                initialRemaining, initialState);
+        buffer.putInt(12, size);
+        return index;
+    }
+
+    /**
+     * Read the remaining seconds stored in a record.
+     *
+     * @param index record index.
+     * @return remaining seconds.
+     */
+    public int getRemaining(int index) {
+        return buffer.getInt(offset(index) + OFFSET_REMAINING);
+    }
+
+    /**
+     * Update the remaining seconds of a record in place.
+     *
+     * @param index   record index.
+     * @param seconds remaining seconds.
+     */
+    public void setRemaining(int index, int seconds) {
+        buffer.putInt(offset(index) + OFFSET_REMAINING, seconds);
+    }
+
+    /**
+     * Read the state stored in a record.
+     *
+     * @param index record index.
+     * @return state ordinal.
+     */
+    public byte getState(int index) {
+        return buffer.get(offset(index) + OFFSET_STATE);
+    }
+
+    /**
+     * Update the state of a record in place.
+     *
+     * @param index record index.
+     * @param state state ordinal.
+     */
+    public void setState(int index, byte state) {
+        buffer.put(offset(index) + OFFSET_STATE, state);
+    }
+
+    /**
+     * Number of stored records.
+     *
+     * @return record count.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Number of times the table has been rehashed since opening.
+     *
+     * @return resize count.
+     */
+    public int getResizeCount() {
+        return resizeCount;
+    }
+
+    /**
+     * Flush modified pages to disk.
+     */
+    public void force() {
+        buffer.force();
+    }
+
+    /**
+     * Flush and close the store.
+     *
+     * @throws IOException when closing the channel fails.
+     */
+    public void close() throws IOException {
+        if (buffer != null) {
+            buffer.force();
+        }
+        if (channel != null) {
+            channel.close();
+        }
+        buffer = null;
+        channel = null;
+    }
+
+    /**
+     * Map the backing file, initialising a header when it is new or unreadable.
+     *
+     * @param minimumCapacity record capacity for a new file.
+     * @throws IOException when mapping fails.
+     */
+    private void map(int minimumCapacity) throws IOException {
+        channel = FileChannel.open(file.toPath(),
+                StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        long length = channel.size();
+        if (length >= HEADER_SIZE) {
+            MappedByteBuffer header = channel.map(FileChannel.MapMode.READ_ONLY, 0, HEADER_SIZE);
+            int storedCapacity = header.getInt(8);
+            if (header.getInt(0) == MAGIC && header.getInt(4) == VERSION && Integer.bitCount(storedCapacity) == 1
+                    && header.getInt(OFFSET_REHASHING) == 0
+                    && length >= HEADER_SIZE + (long) storedCapacity * RECORD_SIZE) {
+                capacity = storedCapacity;
+                buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, HEADER_SIZE + (long) capacity * RECORD_SIZE);
+                size = buffer.getInt(12);
+                return;
+            }
+        }
+        capacity = minimumCapacity;
+        channel.truncate(0);
+        buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, HEADER_SIZE + (long) capacity * RECORD_SIZE);
+        buffer.putInt(0, MAGIC);
+        buffer.putInt(4, VERSION);
+        buffer.putInt(8, capacity);
+        buffer.putInt(12, 0);
+        buffer.putLong(16, Long.MIN_VALUE);
+        buffer.putInt(OFFSET_REHASHING, 0);
+        size = 0;
+    }
+
+    /**
+     * Extend the file to twice the capacity and rehash every record into the larger mapping.
+     *
+     * @throws IOException when extending the file fails.
+     */
+    private void grow() throws IOException {
+        int oldCapacity = capacity;
+        if (oldCapacity >= MAX_CAPACITY) {
+            throw new IOException("Playtime store is full (" + size + " records)");
+        }
+        // Let queued force() calls on the current mapping finish before the table is rewritten
+        SessionManager.getScheduler().flushIo();
+
+        long[] highs = new long[size];
+        long[] lows = new long[size];
+        int[] remaining = new int[size];
+        byte[] states = new byte[size];
+        int count = 0;
+        for (int index = 0; index < oldCapacity; index++) {
+            int offset = offset(index);
+            long high = buffer.getLong(offset);
+            long low = buffer.getLong(offset + 8);
+            if (high != 0L || low != 0L) {
+                highs[count] = high;
+                lows[count] = low;
+                remaining[count] = buffer.getInt(offset + OFFSET_REMAINING);
+                states[count] = buffer.get(offset + OFFSET_STATE);
+                count++;
+            }
+        }
+
+        // A crash from here until the flag is cleared discards the store on the next open
+        buffer.putInt(OFFSET_REHASHING, 1);
+        buffer.force();
+        int newCapacity = oldCapacity * 2;
+        MappedByteBuffer grown = channel.map(FileChannel.MapMode.READ_WRITE, 0,
+                HEADER_SIZE + (long) newCapacity * RECORD_SIZE);
+        for (int offset = HEADER_SIZE; offset < HEADER_SIZE + newCapacity * RECORD_SIZE; offset += 8) {
+            grown.putLong(offset, 0L);
+        }
+        buffer = grown;
+        capacity = newCapacity;
+        size = 0;
+        for (int i = 0; i < count; i++) {
+            insert(highs[i], lows[i], remaining[i], states[i]);
+        }
+        buffer.putInt(8, capacity);
+        buffer.putInt(12, size);
+        buffer.force();
+        buffer.putInt(OFFSET_REHASHING, 0);
+        buffer.force();
+        resizeCount++;
+    }
+
+    private int insert(long high, long low, int remaining, byte state) {
+        int mask = capacity - 1;
+        int index = hash(high, low) & mask;
+        while (buffer.getLong(offset(index)) != 0L || buffer.getLong(offset(index) + 8) != 0L) {
+            index = (index + 1) & mask;
+        }
+        int offset = offset(index);
+        buffer.putLong(offset, high);
+        buffer.putLong(offset + 8, low);
+        buffer.putInt(offset + OFFSET_REMAINING, remaining);
+        buffer.put(offset + OFFSET_STATE, state);
+        size++;
+        return index;
+    }
+
+    private static int offset(int index) {
+        return HEADER_SIZE + index * RECORD_SIZE;
+    }
+
+    private static int hash(long high, long low) {
+        long h = high ^ low;
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        return (int) h;
+    }
+
+    private static int tableSizeFor(int records) {
+        int needed = Math.max(MIN_CAPACITY, (int) Math.min(MAX_CAPACITY, records * 10L / 7 + 1));
+        return Integer.highestOneBit(needed - 1) << 1;
+    }
+}
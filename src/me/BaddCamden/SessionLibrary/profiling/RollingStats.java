@@ -0,0 +1,76 @@
+package me.BaddCamden.SessionLibrary.profiling;
+
+import java.util.Arrays;
+
+/**
+ * Fixed-size ring of nanosecond samples used to report rolling percentiles.
+ * Recording never allocates; percentiles are computed on demand from a sorted copy.
+ */
+public class RollingStats {
+
+    private final long[] samples;
+    private int next;
+    private int size;
+    private long totalCalls;
+    private long maxNanos;
+
+    /**
+     * Create a rolling window holding the most recent samples.
+     *
+     * @param windowSize number of samples retained; values below 1 are clamped to 1.
+     */
+    public RollingStats(int windowSize) {
+        this.samples = new long[Math.max(1, windowSize)];
+    }
+
+    /**
+     * Record a single measurement, evicting the oldest sample once the window is full.
+     *
+     * @param nanos elapsed time in nanoseconds.
+     */
+    public void record(long nanos) {
+        samples[next] = nanos;
+        next = (next + 1) % samples.length;
+        if (size < samples.length) {
+            size++;
+        }
+        totalCalls++;
+        if (nanos > maxNanos) {
+            maxNanos = nanos;
+        }
+    }
+
+    /**
+     * Compute a percentile over the samples currently in the window.
+     *
+     * @param percentile value between 0 and 100.
+     * @return sample at the requested percentile in nanoseconds, or 0 when empty.
+     */
+    public long percentile(double percentile) {
+        if (size == 0) {
+            return 0L;
+        }
+        long[] sorted = Arrays.copyOf(samples, size);
+        Arrays.sort(sorted);
+        int index = (int) Math.ceil(percentile / 100.0 * size) - 1;
+        return sorted[Math.max(0, Math.min(size - 1, index))];
+    }
+
+    /**
+     * Total number of samples recorded since creation, including evicted ones.
+     *
+     * @return lifetime call count.
+     */
+    public long getTotalCalls() {
+        return totalCalls;
+    }
+
+    /**
+     * Largest sample ever recorded.
+     *
+     * @return maximum elapsed time in nanoseconds.
+     */
+    public long getMaxNanos() {
+        return maxNanos;
+    }
+}
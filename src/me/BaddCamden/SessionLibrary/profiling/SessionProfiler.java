@@ -0,0 +1,250 @@
+package me.BaddCamden.SessionLibrary.profiling;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import org.bukkit.Bukkit;
+import org.bukkit.event.Event;
+import org.bukkit.plugin.RegisteredListener;
+import org.bukkit.plugin.java.JavaPlugin;
+
+import me.BaddCamden.SessionLibrary.Session;
+import me.BaddCamden.SessionLibrary.hooks.SessionEndHook;
+
+/**
+ * Opt-in profiler that attributes the time spent in session event listeners and end hooks
+ * to the plugin that registered them. When disabled, events are passed straight to Bukkit.
+ */
+public class SessionProfiler {
+
+    private static final String UNKNOWN_OWNER = "unknown";
+
+    // lifecycle event name -> owning plugin -> samples
+    private final Map<String, Map<String, RollingStats>> stats = new LinkedHashMap<>();
+    private final Map<Class<?>, String> hookOwners = new HashMap<>();
+
+    // Resolved on first use so the profiler can be created before a server is installed
+    private Logger logger;
+    private boolean enabled;
+    private long eventBudgetNanos = 5_000_000L;
+    private int windowSize = 200;
+
+    /**
+     * Apply profiler settings loaded from configuration. Existing samples are discarded.
+     *
+     * @param enabled       whether listener timings should be collected.
+     * @param eventBudgetMs per-event budget in milliseconds before a warning is logged; <= 0 disables warnings.
+     * @param windowSize    number of samples kept per plugin and event for percentiles.
+     * @param logger        logger used for budget warnings.
+     */
+    public void configure(boolean enabled, double eventBudgetMs, int windowSize, Logger logger) {
+        this.enabled = enabled;
+        this.eventBudgetNanos = (long) (eventBudgetMs * 1_000_000L);
+        this.windowSize = Math.max(1, windowSize);
+        if (logger != null) {
+            this.logger = logger;
+        }
+        reset();
+    }
+
+    /**
+     * Check whether timings are currently being collected.
+     *
+     * @return true when profiling is active.
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Toggle collection at runtime without changing the configured budget.
+     *
+     * @param enabled desired profiling state.
+     */
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    /**
+     * Discard all collected samples.
+     */
+    public void reset() {
+        stats.clear();
+    }
+
+    /**
+     * Fire an event, timing each registered listener individually when profiling is enabled.
+     * Mirrors Bukkit's own dispatch loop: the same thread checks, listeners of disabled plugins are
+     * skipped, and listener exceptions are logged.
+     *
+     * @param event event to fire.
+     * @throws IllegalStateException when the event is fired on the wrong thread for its kind.
+     */
+    public void callEvent(Event event) {
+        if (!enabled) {
+            Bukkit.getPluginManager().callEvent(event);
+            return;
+        }
+        checkThread(event);
+
+        String eventName = event.getEventName();
+        long total = 0L;
+        long slowest = 0L;
+        String slowestOwner = null;
+
+        for (RegisteredListener registration : event.getHandlers().getRegisteredListeners()) {
+            if (registration.getPlugin() != null && !registration.getPlugin().isEnabled()) {
+                continue;
+            }
+            String owner = registration.getPlugin() != null ? registration.getPlugin().getName() : UNKNOWN_OWNER;
+            long start = System.nanoTime();
+            try {
+                registration.callEvent(event);
+            } catch (Throwable ex) {
+                logger().log(Level.SEVERE, "Could not pass event " + eventName + " to " + owner, ex);
+            }
+            long elapsed = System.nanoTime() - start;
+            statsFor(eventName, owner).record(elapsed);
+            total += elapsed;
+            if (elapsed > slowest) {
+                slowest = elapsed;
+                slowestOwner = owner;
+            }
+        }
+
+        checkBudget(eventName, total, slowestOwner, slowest);
+    }
+
+    /**
+     * Invoke an end hook, timing it against the plugin whose class loader provided it.
+     *
+     * @param hook    hook to invoke.
+     * @param session session entering its end sequence.
+     * @return the hook's result.
+     */
+    public boolean runEndHook(SessionEndHook hook, Session session) {
+        if (!enabled) {
+            return hook.handleEndSequence(session);
+        }
+
+        String owner = ownerOf(hook);
+        long start = System.nanoTime();
+        try {
+            return hook.handleEndSequence(session);
+        } finally {
+            long elapsed = System.nanoTime() - start;
+            statsFor("SessionEndHook", owner).record(elapsed);
+            checkBudget("SessionEndHook", elapsed, owner, elapsed);
+        }
+    }
+
+    /**
+     * Build a human-readable report with rolling percentiles per event and plugin.
+     *
+     * @return report lines, slowest p99 first within each event.
+     */
+    public List<String> report() {
+        List<String> lines = new ArrayList<>();
+        for (Map.Entry<String, Map<String, RollingStats>> eventEntry : stats.entrySet()) {
+            lines.add("§6" + eventEntry.getKey() + ":");
+            List<Map.Entry<String, RollingStats>> owners = new ArrayList<>(eventEntry.getValue().entrySet());
+            owners.sort((a, b) -> Long.compare(b.getValue().percentile(99), a.getValue().percentile(99)));
+            for (Map.Entry<String, RollingStats> ownerEntry : owners) {
+                RollingStats s = ownerEntry.getValue();
+                lines.add(String.format("§7  %s §f- calls %d, p50 %.3fms, p95 %.3fms, p99 %.3fms, max %.3fms",
+                        ownerEntry.getKey(), s.getTotalCalls(),
+                        toMillis(s.percentile(50)), toMillis(s.percentile(95)),
+                        toMillis(s.percentile(99)), toMillis(s.getMaxNanos())));
+            }
+        }
+        return lines;
+    }
+
+    /**
+     * Fetch or create the sample window for an event and owner pair.
+     *
+     * @param eventName lifecycle event name.
+     * @param owner     owning plugin name.
+     * @return rolling statistics bucket.
+     */
+    private RollingStats statsFor(String eventName, String owner) {
+        return stats.computeIfAbsent(eventName, k -> new LinkedHashMap<>())
+                .computeIfAbsent(owner, k -> new RollingStats(windowSize));
+    }
+
+    /**
+     * Apply Bukkit's rule that synchronous events fire on the main thread and asynchronous events
+     * off it, outside any lock on the plugin manager.
+     *
+     * @param event event about to be fired.
+     * @throws IllegalStateException when the event is fired on the wrong thread.
+     */
+    private static void checkThread(Event event) {
+        if (event.isAsynchronous()) {
+            if (Thread.holdsLock(Bukkit.getPluginManager())) {
+                throw new IllegalStateException(event.getEventName()
+                        + " cannot be triggered asynchronously from inside synchronized code.");
+            }
+            if (Bukkit.isPrimaryThread()) {
+                throw new IllegalStateException(event.getEventName()
+                        + " cannot be triggered asynchronously from primary server thread.");
+            }
+        } else if (!Bukkit.isPrimaryThread()) {
+            throw new IllegalStateException(event.getEventName() + " may only be triggered synchronously.");
+        }
+    }
+
+    /**
+     * Logger for budget warnings and listener exceptions.
+     *
+     * @return configured logger, or the server logger when none was configured.
+     */
+    private Logger logger() {
+        if (logger == null) {
+            logger = Bukkit.getLogger();
+        }
+        return logger;
+    }
+
+    /**
+     * Log a warning when the total time spent on one event exceeds the configured budget.
+     *
+     * @param eventName    lifecycle event name.
+     * @param totalNanos   time spent across all listeners.
+     * @param slowestOwner plugin with the slowest listener, if any.
+     * @param slowestNanos time spent by that plugin.
+     */
+    private void checkBudget(String eventName, long totalNanos, String slowestOwner, long slowestNanos) {
+        if (eventBudgetNanos <= 0 || totalNanos <= eventBudgetNanos) {
+            return;
+        }
+        logger().warning(String.format("%s took %.3fms (budget %.3fms); slowest plugin: %s (%.3fms)",
+                eventName, toMillis(totalNanos), toMillis(eventBudgetNanos),
+                slowestOwner != null ? slowestOwner : UNKNOWN_OWNER, toMillis(slowestNanos)));
+    }
+
+    /**
+     * Resolve the plugin that owns a hook implementation, caching the result per class.
+     *
+     * @param hook registered hook.
+     * @return plugin name or {@code unknown} when the class was not loaded by a plugin.
+     */
+    private String ownerOf(SessionEndHook hook) {
+        return hookOwners.computeIfAbsent(hook.getClass(), type -> {
+            try {
+                return JavaPlugin.getProvidingPlugin(type).getName();
+            } catch (IllegalArgumentException | IllegalStateException ex) {
+                return UNKNOWN_OWNER;
+            }
+        });
+    }
+
+    private static double toMillis(long nanos) {
+        return nanos / 1_000_000.0;
+    }
+}
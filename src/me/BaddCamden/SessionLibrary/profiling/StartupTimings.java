@@ -0,0 +1,59 @@
+package me.BaddCamden.SessionLibrary.profiling;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * Wall-clock breakdown of plugin enable, logged once so enable time can be tracked as the data
+ * files grow. Main-thread phases are recorded with {@link #mark(String)}; work running in
+ * parallel on other threads reports its own duration with {@link #record(String, long)}.
+ */
+public final class StartupTimings {
+
+    private final long startNanos = System.nanoTime();
+    private long lastMarkNanos = startNanos;
+    private final List<String> phases = new ArrayList<>();
+    private final ConcurrentLinkedQueue<String> parallel = new ConcurrentLinkedQueue<>();
+
+    /**
+     * Close the current main-thread phase.
+     *
+     * @param phase name of the work done since the previous mark.
+     */
+    public void mark(String phase) {
+        long now = System.nanoTime();
+        phases.add(phase + " " + format(now - lastMarkNanos));
+        lastMarkNanos = now;
+    }
+
+    /**
+     * Record work that ran on another thread. Safe to call from any thread.
+     *
+     * @param task         name of the work.
+     * @param elapsedNanos time it took.
+     */
+    public void record(String task, long elapsedNanos) {
+        parallel.add(task + " " + format(elapsedNanos));
+    }
+
+    /**
+     * Build the log line.
+     *
+     * @return total enable time followed by the main-thread phases and parallel work.
+     */
+    public String summary() {
+        StringBuilder summary = new StringBuilder("Enabled in ")
+                .append(format(System.nanoTime() - startNanos)).append(": ")
+                .append(String.join(", ", phases));
+        if (!parallel.isEmpty()) {
+            summary.append("; in parallel: ").append(String.join(", ", parallel));
+        }
+        return summary.toString();
+    }
+
+    private static String format(long nanos) {
+        return String.format(Locale.ROOT, "%.1f ms", nanos / 1_000_000.0);
+    }
+}
@@ -0,0 +1,78 @@
+package me.BaddCamden.SessionLibrary.scheduler;
+
+import org.bukkit.Bukkit;
+import org.bukkit.entity.Player;
+import org.bukkit.plugin.Plugin;
+import org.bukkit.scheduler.BukkitTask;
+
+/**
+ * {@link ServerScheduler} backed by the Bukkit main-thread scheduler. The main thread owns session
+ * state and every player, and file I/O runs inline.
+ */
+public class BukkitSessionScheduler implements ServerScheduler {
+
+    private final Plugin plugin;
+
+    /**
+     * Create a scheduler that registers tasks under the given plugin.
+     *
+     * @param plugin owning plugin.
+     */
+    public BukkitSessionScheduler(Plugin plugin) {
+        this.plugin = plugin;
+    }
+
+    @Override
+    public SessionTask runTaskLater(Runnable task, long delayTicks) {
+        return wrap(Bukkit.getScheduler().runTaskLater(plugin, task, delayTicks));
+    }
+
+    @Override
+    public SessionTask runTaskTimer(Runnable task, long delayTicks, long periodTicks) {
+        return wrap(Bukkit.getScheduler().runTaskTimer(plugin, task, delayTicks, periodTicks));
+    }
+
+    @Override
+    public void runGlobal(Runnable task) {
+        if (Bukkit.isPrimaryThread()) {
+            task.run();
+        } else {
+            Bukkit.getScheduler().runTask(plugin, task);
+        }
+    }
+
+    @Override
+    public void runForPlayer(Player player, Runnable task) {
+        runGlobal(task);
+    }
+
+    @Override
+    public void broadcast(String message) {
+        Bukkit.getServer().broadcastMessage(message);
+    }
+
+    @Override
+    public void broadcast(String message, String permission) {
+        Bukkit.getServer().broadcast(message, permission);
+    }
+
+    /**
+     * Adapt a Bukkit task handle to the library's task interface.
+     *
+     * @param task Bukkit task.
+     * @return library task handle.
+     */
+    private static SessionTask wrap(BukkitTask task) {
+        return new SessionTask() {
+            @Override
+            public void cancel() {
+                task.cancel();
+            }
+
+            @Override
+            public boolean isCancelled() {
+                return task.isCancelled();
+            }
+        };
+    }
+}
@@ -0,0 +1,199 @@
+package me.BaddCamden.SessionLibrary.scheduler;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+
+import org.bukkit.Bukkit;
+import org.bukkit.entity.Player;
+import org.bukkit.plugin.Plugin;
+
+/**
+ * {@link ServerScheduler} for Folia's region-threaded servers, where there is no main thread and
+ * {@code Bukkit.getScheduler()} is unavailable.
+ * <p>
+ * Session and trigger timing runs on the global region scheduler, per-player work on each
+ * player's entity scheduler, and file I/O on the async scheduler through a single serial lane so
+ * writes land in submission order. Folia's API is reached by reflection, so the plugin still
+ * compiles and runs against the plain Bukkit API.
+ */
+public class FoliaSessionScheduler implements ServerScheduler {
+
+    private static final String SCHEDULER_PACKAGE = "io.papermc.paper.threadedregions.scheduler.";
+
+    private final Plugin plugin;
+    private final Object globalScheduler;
+    private final Object asyncScheduler;
+    private final Method globalRunDelayed;
+    private final Method globalRunAtFixedRate;
+    private final Method globalExecute;
+    private final Method asyncRunNow;
+    private final Method playerGetScheduler;
+    private final Method entityRun;
+    private final Method taskCancel;
+    private final Method taskIsCancelled;
+
+    // Serial I/O lane: producers append, one async task at a time drains under ioLock
+    private final ConcurrentLinkedQueue<Runnable> ioQueue = new ConcurrentLinkedQueue<>();
+    private final AtomicBoolean ioScheduled = new AtomicBoolean();
+    private final Object ioLock = new Object();
+
+    /**
+     * Check whether the server is running Folia's regionised threading.
+     *
+     * @return true on Folia.
+     */
+    public static boolean isFolia() {
+        try {
+            Class.forName("io.papermc.paper.threadedregions.RegionizedServer");
+            return true;
+        } catch (ClassNotFoundException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Look up Folia's schedulers for the given plugin.
+     *
+     * @param plugin owning plugin.
+     * @throws ReflectiveOperationException if the Folia scheduler API is missing or changed.
+     */
+    public FoliaSessionScheduler(Plugin plugin) throws ReflectiveOperationException {
+        this.plugin = plugin;
+        Class<?> global = Class.forName(SCHEDULER_PACKAGE + "GlobalRegionScheduler");
+        Class<?> async = Class.forName(SCHEDULER_PACKAGE + "AsyncScheduler");
+        Class<?> entity = Class.forName(SCHEDULER_PACKAGE + "EntityScheduler");
+        Class<?> scheduled = Class.forName(SCHEDULER_PACKAGE + "ScheduledTask");
+        globalScheduler = Bukkit.class.getMethod("getGlobalRegionScheduler").invoke(null);
+        asyncScheduler = Bukkit.class.getMethod("getAsyncScheduler").invoke(null);
+        globalRunDelayed = global.getMethod("runDelayed", Plugin.class, Consumer.class, long.class);
+        globalRunAtFixedRate = global.getMethod("runAtFixedRate", Plugin.class, Consumer.class, long.class, long.class);
+        globalExecute = global.getMethod("execute", Plugin.class, Runnable.class);
+        asyncRunNow = async.getMethod("runNow", Plugin.class, Consumer.class);
+        playerGetScheduler = Player.class.getMethod("getScheduler");
+        entityRun = entity.getMethod("run", Plugin.class, Consumer.class, Runnable.class);
+        taskCancel = scheduled.getMethod("cancel");
+        taskIsCancelled = scheduled.getMethod("isCancelled");
+    }
+
+    @Override
+    public SessionTask runTaskLater(Runnable task, long delayTicks) {
+        // Folia rejects delays below one tick
+        return wrap(invoke(globalRunDelayed, globalScheduler, plugin, consumer(task), Math.max(1L, delayTicks)));
+    }
+
+    @Override
+    public SessionTask runTaskTimer(Runnable task, long delayTicks, long periodTicks) {
+        return wrap(invoke(globalRunAtFixedRate, globalScheduler, plugin, consumer(task), Math.max(1L, delayTicks),
+                Math.max(1L, periodTicks)));
+    }
+
+    @Override
+    public void runGlobal(Runnable task) {
+        invoke(globalExecute, globalScheduler, plugin, task);
+    }
+
+    @Override
+    public void runForPlayer(Player player, Runnable task) {
+        Object scheduler = invoke(playerGetScheduler, player);
+        invoke(entityRun, scheduler, plugin, consumer(task), null);
+    }
+
+    @Override
+    public void broadcast(String message) {
+        for (Player player : Bukkit.getOnlinePlayers()) {
+            runForPlayer(player, () -> player.sendMessage(message));
+        }
+        Bukkit.getLogger().info(message);
+    }
+
+    @Override
+    public void broadcast(String message, String permission) {
+        for (Player player : Bukkit.getOnlinePlayers()) {
+            runForPlayer(player, () -> {
+                if (player.hasPermission(permission)) {
+                    player.sendMessage(message);
+                }
+            });
+        }
+        Bukkit.getLogger().info(message);
+    }
+
+    @Override
+    public void runIo(Runnable task) {
+        ioQueue.offer(task);
+        if (ioScheduled.compareAndSet(false, true)) {
+            invoke(asyncRunNow, asyncScheduler, plugin, consumer(this::drainIo));
+        }
+    }
+
+    @Override
+    public void flushIo() {
+        synchronized (ioLock) {
+            runQueuedIo();
+        }
+    }
+
+    private void drainIo() {
+        synchronized (ioLock) {
+            // Cleared before polling so a task offered during the drain schedules another one
+            ioScheduled.set(false);
+            runQueuedIo();
+        }
+    }
+
+    private void runQueuedIo() {
+        Runnable task;
+        while ((task = ioQueue.poll()) != null) {
+            try {
+                task.run();
+            } catch (Exception ex) {
+                Bukkit.getLogger().warning("[SessionManager] I/O task threw an exception:");
+                ex.printStackTrace();
+            }
+        }
+    }
+
+    /**
+     * Adapt a runnable to the {@code Consumer<ScheduledTask>} Folia's schedulers expect.
+     */
+    private static Consumer<Object> consumer(Runnable task) {
+        return scheduledTask -> task.run();
+    }
+
+    /**
+     * Adapt a Folia task handle to the library's task interface.
+     *
+     * @param task Folia {@code ScheduledTask}.
+     * @return library task handle.
+     */
+    private SessionTask wrap(Object task) {
+        return new SessionTask() {
+            @Override
+            public void cancel() {
+                invoke(taskCancel, task);
+            }
+
+            @Override
+            public boolean isCancelled() {
+                return (Boolean) invoke(taskIsCancelled, task);
+            }
+        };
+    }
+
+    private static Object invoke(Method method, Object target, Object... args) {
+        try {
+            return method.invoke(target, args);
+        } catch (IllegalAccessException e) {
+            throw new IllegalStateException("Cannot call Folia scheduler method " + method.getName(), e);
+        } catch (InvocationTargetException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            throw new IllegalStateException("Folia scheduler method " + method.getName() + " failed", cause);
+        }
+    }
+}
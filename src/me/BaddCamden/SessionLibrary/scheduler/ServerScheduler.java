@@ -0,0 +1,43 @@
+package me.BaddCamden.SessionLibrary.scheduler;
+
+import org.bukkit.entity.Player;
+
+/**
+ * {@link SessionScheduler} of a running server, which also knows which thread owns session state
+ * and which thread owns each player.
+ */
+public interface ServerScheduler extends SessionScheduler {
+
+    /**
+     * Run work on the thread that owns session and trigger state, e.g. from an event fired on a
+     * player's thread. Runs immediately when the caller already is that thread.
+     *
+     * @param task work to run.
+     */
+    void runGlobal(Runnable task);
+
+    /**
+     * Run work on the thread that owns a player, e.g. to kick them. Dropped if the player leaves
+     * before it runs.
+     *
+     * @param player target player.
+     * @param task   work to run.
+     */
+    void runForPlayer(Player player, Runnable task);
+
+    /**
+     * Send a message to every online player and the console, each on the thread that owns them.
+     *
+     * @param message message to send.
+     */
+    void broadcast(String message);
+
+    /**
+     * Send a message to the console and every online player holding a permission, each on the
+     * thread that owns them.
+     *
+     * @param message    message to send.
+     * @param permission permission a player needs to receive it.
+     */
+    void broadcast(String message, String permission);
+}
@@ -0,0 +1,44 @@
+package me.BaddCamden.SessionLibrary.scheduler;
+
+/**
+ * Platform-neutral scheduler used by sessions and trigger monitors.
+ * Delays and periods are expressed in server ticks (20 per second).
+ */
+public interface SessionScheduler {
+
+    /**
+     * Run a task once after a delay.
+     *
+     * @param task       work to run.
+     * @param delayTicks ticks to wait before running.
+     * @return handle that can cancel the task.
+     */
+    SessionTask runTaskLater(Runnable task, long delayTicks);
+
+    /**
+     * Run a task repeatedly until cancelled.
+     *
+     * @param task        work to run.
+     * @param delayTicks  ticks to wait before the first run.
+     * @param periodTicks ticks between runs.
+     * @return handle that can cancel the task.
+     */
+    SessionTask runTaskTimer(Runnable task, long delayTicks, long periodTicks);
+
+    /**
+     * Run blocking file I/O. Backends may move it to another thread, running one task at a time
+     * in submission order, so the task must only touch data nobody changes afterwards. The
+     * default runs it immediately on the calling thread.
+     *
+     * @param task write to perform.
+     */
+    default void runIo(Runnable task) {
+        task.run();
+    }
+
+    /**
+     * Finish every I/O task submitted so far before returning, e.g. before the plugin disables.
+     */
+    default void flushIo() {
+    }
+}
@@ -0,0 +1,19 @@
+package me.BaddCamden.SessionLibrary.scheduler;
+
+/**
+ * Handle to a task scheduled through a {@link SessionScheduler}.
+ */
+public interface SessionTask {
+
+    /**
+     * Stop the task from running again. Safe to call more than once.
+     */
+    void cancel();
+
+    /**
+     * Check whether the task has been cancelled.
+     *
+     * @return true once {@link #cancel()} has been called.
+     */
+    boolean isCancelled();
+}
@@ -0,0 +1,106 @@
+package me.BaddCamden.SessionLibrary.scheduler;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+
+/**
+ * Mutable {@link Clock} whose time only moves when told to, used for headless simulations.
+ * Reading {@link #millis()} or moving the clock by whole milliseconds allocates nothing.
+ */
+public class VirtualClock extends Clock {
+
+    private final ZoneId zone;
+    private volatile long epochMillis;
+
+    // Last instant set or handed out; rebuilt only once the millis have moved past it
+    private volatile Instant instant;
+
+    /**
+     * Create a clock frozen at the given instant.
+     *
+     * @param start initial instant.
+     * @param zone  zone reported by {@link #getZone()}.
+     */
+    public VirtualClock(Instant start, ZoneId zone) {
+        this.instant = start;
+        this.epochMillis = start.toEpochMilli();
+        this.zone = zone;
+    }
+
+    @Override
+    public ZoneId getZone() {
+        return zone;
+    }
+
+    @Override
+    public Clock withZone(ZoneId newZone) {
+        VirtualClock view = this;
+        return new Clock() {
+            @Override
+            public ZoneId getZone() {
+                return newZone;
+            }
+
+            @Override
+            public Clock withZone(ZoneId otherZone) {
+                return view.withZone(otherZone);
+            }
+
+            @Override
+            public Instant instant() {
+                return view.instant();
+            }
+
+            @Override
+            public long millis() {
+                return view.millis();
+            }
+        };
+    }
+
+    @Override
+    public Instant instant() {
+        Instant current = instant;
+        long millis = epochMillis;
+        if (current == null || current.toEpochMilli() != millis) {
+            current = Instant.ofEpochMilli(millis);
+            instant = current;
+        }
+        return current;
+    }
+
+    @Override
+    public long millis() {
+        return epochMillis;
+    }
+
+    /**
+     * Move the clock to an absolute instant.
+     *
+     * @param newInstant new current time.
+     */
+    public void setInstant(Instant newInstant) {
+        this.instant = newInstant;
+        this.epochMillis = newInstant.toEpochMilli();
+    }
+
+    /**
+     * Move the clock to an absolute time without creating an {@link Instant}.
+     *
+     * @param newEpochMillis new current time in epoch milliseconds.
+     */
+    public void setMillis(long newEpochMillis) {
+        this.epochMillis = newEpochMillis;
+    }
+
+    /**
+     * Move the clock forward by a duration.
+     *
+     * @param amount time to advance.
+     */
+    public void advance(Duration amount) {
+        setInstant(instant().plus(amount));
+    }
+}
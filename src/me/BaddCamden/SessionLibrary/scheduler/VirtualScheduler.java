@@ -0,0 +1,138 @@
+package me.BaddCamden.SessionLibrary.scheduler;
+
+import java.time.Duration;
+import java.util.PriorityQueue;
+
+/**
+ * Event-driven {@link SessionScheduler} that runs tasks against a {@link VirtualClock}.
+ * Advancing jumps straight to the next due task, so years of virtual time pass in
+ * as many steps as there are task runs rather than server ticks.
+ */
+public class VirtualScheduler implements SessionScheduler {
+
+    /** Real-time length of one server tick. */
+    public static final long MILLIS_PER_TICK = 50L;
+
+    private final VirtualClock clock;
+    private final long originMillis;
+    private final PriorityQueue<VirtualTask> queue = new PriorityQueue<>();
+    private long currentTick;
+    private long sequence;
+
+    /**
+     * Create a scheduler whose tick zero is the clock's current millisecond.
+     *
+     * @param clock clock advanced as tasks run.
+     */
+    public VirtualScheduler(VirtualClock clock) {
+        this.clock = clock;
+        this.originMillis = clock.millis();
+    }
+
+    @Override
+    public SessionTask runTaskLater(Runnable task, long delayTicks) {
+        return schedule(task, delayTicks, -1L);
+    }
+
+    @Override
+    public SessionTask runTaskTimer(Runnable task, long delayTicks, long periodTicks) {
+        return schedule(task, delayTicks, Math.max(1L, periodTicks));
+    }
+
+    /**
+     * Run every task due within the next {@code ticks} ticks, in due order.
+     *
+     * @param ticks number of ticks to advance.
+     */
+    public void advanceTicks(long ticks) {
+        long target = currentTick + ticks;
+        while (!queue.isEmpty() && queue.peek().dueTick <= target) {
+            VirtualTask next = queue.poll();
+            if (next.cancelled) {
+                continue;
+            }
+            moveTo(next.dueTick);
+            next.task.run();
+            if (next.periodTicks > 0 && !next.cancelled) {
+                next.dueTick += next.periodTicks;
+                queue.add(next);
+            }
+        }
+        moveTo(target);
+    }
+
+    /**
+     * Advance by a wall-clock duration, rounded down to whole ticks.
+     *
+     * @param amount virtual time to advance.
+     */
+    public void advance(Duration amount) {
+        advanceTicks(amount.toMillis() / MILLIS_PER_TICK);
+    }
+
+    /**
+     * Number of ticks elapsed since the scheduler was created.
+     *
+     * @return current virtual tick.
+     */
+    public long getCurrentTick() {
+        return currentTick;
+    }
+
+    /**
+     * Number of scheduled tasks that have not been cancelled or completed.
+     *
+     * @return pending task count.
+     */
+    public int getPendingTaskCount() {
+        int pending = 0;
+        for (VirtualTask task : queue) {
+            if (!task.cancelled) {
+                pending++;
+            }
+        }
+        return pending;
+    }
+
+    private SessionTask schedule(Runnable task, long delayTicks, long periodTicks) {
+        VirtualTask scheduled = new VirtualTask(task, currentTick + Math.max(0L, delayTicks), periodTicks, sequence++);
+        queue.add(scheduled);
+        return scheduled;
+    }
+
+    private void moveTo(long tick) {
+        currentTick = tick;
+        clock.setMillis(originMillis + tick * MILLIS_PER_TICK);
+    }
+
+    private static final class VirtualTask implements SessionTask, Comparable<VirtualTask> {
+        private final Runnable task;
+        private final long periodTicks;
+        private final long order;
+        private long dueTick;
+        private boolean cancelled;
+
+        private VirtualTask(Runnable task, long dueTick, long periodTicks, long order) {
+            this.task = task;
+            this.dueTick = dueTick;
+            this.periodTicks = periodTicks;
+            this.order = order;
+        }
+
+        @Override
+        public void cancel() {
+            cancelled = true;
+        }
+
+        @Override
+        public boolean isCancelled() {
+            return cancelled;
+        }
+
+        @Override
+        public int compareTo(VirtualTask other) {
+            int byTick = Long.compare(dueTick, other.dueTick);
+            return byTick != 0 ? byTick : Long.compare(order, other.order);
+        }
+    }
+}
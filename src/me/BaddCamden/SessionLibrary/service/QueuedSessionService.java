@@ -0,0 +1,192 @@
+package me.BaddCamden.SessionLibrary.service;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.function.Supplier;
+
+import me.BaddCamden.SessionLibrary.SessionManager;
+import me.BaddCamden.SessionLibrary.SessionSnapshot;
+import me.BaddCamden.SessionLibrary.scheduler.SessionScheduler;
+import me.BaddCamden.SessionLibrary.scheduler.SessionTask;
+
+/**
+ * {@link SessionService} that marshals calls onto the main thread through one shared queue.
+ * <p>
+ * Producers on any thread append to a lock-free {@link ConcurrentLinkedQueue}; a single repeating
+ * task on the main thread is the only consumer and drains up to a fixed number of commands per
+ * tick. A burst of remote commands therefore costs one queue append each instead of one
+ * scheduler task each, and commands run in the order they were submitted.
+ */
+public final class QueuedSessionService implements SessionService {
+
+    /**
+     * Queued action and the future it completes.
+     */
+    private record Command<T>(Supplier<T> action, CompletableFuture<T> future) {
+
+        void run() {
+            try {
+                future.complete(action.get());
+            } catch (Throwable ex) {
+                future.completeExceptionally(ex);
+            }
+        }
+
+        void reject() {
+            future.completeExceptionally(new IllegalStateException("SessionLibrary is disabled"));
+        }
+    }
+
+    private final ConcurrentLinkedQueue<Command<?>> queue = new ConcurrentLinkedQueue<>();
+    private final int maxCommandsPerTick;
+
+    private volatile boolean running;
+    private SessionTask drainTask;
+    private long completedCommands;
+    private int busiestTick;
+
+    /**
+     * Create a stopped service.
+     *
+     * @param maxCommandsPerTick commands run per tick at most; the rest wait for the next tick.
+     */
+    public QueuedSessionService(int maxCommandsPerTick) {
+        this.maxCommandsPerTick = Math.max(1, maxCommandsPerTick);
+    }
+
+    /**
+     * Begin draining the queue once per tick. Must be called on the main thread.
+     *
+     * @param scheduler scheduler used for the drain task.
+     */
+    public void start(SessionScheduler scheduler) {
+        if (drainTask != null) {
+            return;
+        }
+        running = true;
+        drainTask = scheduler.runTaskTimer(this::drain, 1L, 1L);
+    }
+
+    /**
+     * Stop draining and fail every command still queued, as well as any submitted afterwards.
+     * Must be called on the main thread.
+     */
+    public void stop() {
+        running = false;
+        if (drainTask != null) {
+            drainTask.cancel();
+            drainTask = null;
+        }
+        rejectQueued();
+    }
+
+    /**
+     * Run queued commands, up to the per-tick limit.
+     */
+    private void drain() {
+        int ran = 0;
+        Command<?> command;
+        while (ran < maxCommandsPerTick && (command = queue.poll()) != null) {
+            command.run();
+            ran++;
+        }
+        if (ran > 0) {
+            completedCommands += ran;
+            busiestTick = Math.max(busiestTick, ran);
+        }
+    }
+
+    private void rejectQueued() {
+        Command<?> command;
+        while ((command = queue.poll()) != null) {
+            command.reject();
+        }
+    }
+
+    @Override
+    public <T> CompletableFuture<T> submit(Supplier<T> action) {
+        Command<T> command = new Command<>(action, new CompletableFuture<>());
+        queue.offer(command);
+        if (!running) {
+            // stop() may already have emptied the queue; make sure this command is not stranded
+            rejectQueued();
+        }
+        return command.future();
+    }
+
+    @Override
+    public CompletableFuture<SessionSnapshot> startNewSession(int durationSeconds, boolean autoStart) {
+        return submit(() -> {
+            SessionManager.startNewSession(durationSeconds, autoStart);
+            return SessionManager.snapshot();
+        });
+    }
+
+    @Override
+    public CompletableFuture<Boolean> endSession() {
+        return submit(() -> {
+            boolean active = SessionManager.hasActiveSession();
+            SessionManager.endSession();
+            return active;
+        });
+    }
+
+    @Override
+    public CompletableFuture<Boolean> stopSession() {
+        return submit(() -> {
+            boolean active = SessionManager.hasActiveSession();
+            SessionManager.stopSession();
+            return active;
+        });
+    }
+
+    @Override
+    public CompletableFuture<Boolean> resetSessionTimer() {
+        return submit(() -> {
+            boolean active = SessionManager.hasActiveSession();
+            SessionManager.resetSessionTimer();
+            return active;
+        });
+    }
+
+    @Override
+    public CompletableFuture<Void> setDefaultDuration(int seconds) {
+        return submit(() -> {
+            SessionManager.setDefaultDuration(seconds);
+            return null;
+        });
+    }
+
+    @Override
+    public CompletableFuture<Void> setAutostartEnabled(boolean enabled) {
+        return submit(() -> {
+            SessionManager.setAutostartEnabled(enabled);
+            return null;
+        });
+    }
+
+    @Override
+    public CompletableFuture<Void> setAutostartBuffer(int bufferSeconds) {
+        return submit(() -> {
+            SessionManager.setAutostartBuffer(bufferSeconds);
+            return null;
+        });
+    }
+
+    @Override
+    public SessionSnapshot snapshot() {
+        return SessionManager.snapshot();
+    }
+
+    /**
+     * Summarize queue activity for diagnostics. Must be called on the main thread.
+     *
+     * @return report lines.
+     */
+    public List<String> report() {
+        return Collections.singletonList("Session service: " + completedCommands + " commands run, busiest tick "
+                + busiestTick + ", " + queue.size() + " queued (limit " + maxCommandsPerTick + "/tick)");
+    }
+}
@@ -0,0 +1,88 @@
+package me.BaddCamden.SessionLibrary.service;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+
+import me.BaddCamden.SessionLibrary.SessionSnapshot;
+
+/**
+ * Thread-safe session control API, registered with Bukkit's {@code ServicesManager}.
+ * <p>
+ * Every method may be called from any thread. Commands are queued and run on the main thread in
+ * submission order the next time the library drains its queue, which happens once per tick;
+ * the returned future completes on the main thread once the command has run. Callers already on
+ * the main thread may use the static {@code SessionManager} methods directly instead.
+ */
+public interface SessionService {
+
+    /**
+     * Start a new session unless one is already running.
+     *
+     * @param durationSeconds duration in seconds, or {@literal <=} 0 to use the default duration.
+     * @param autoStart       metadata flag indicating whether the start was automatic.
+     * @return future completed with a snapshot of the running session.
+     */
+    CompletableFuture<SessionSnapshot> startNewSession(int durationSeconds, boolean autoStart);
+
+    /**
+     * Begin the end sequence on the current session.
+     *
+     * @return future completed with true if a session was running.
+     */
+    CompletableFuture<Boolean> endSession();
+
+    /**
+     * Stop and reset the current session without firing end events.
+     *
+     * @return future completed with true if a session was running.
+     */
+    CompletableFuture<Boolean> stopSession();
+
+    /**
+     * Reset the timer on the current session back to its original duration.
+     *
+     * @return future completed with true if a session was running.
+     */
+    CompletableFuture<Boolean> resetSessionTimer();
+
+    /**
+     * Update the default session length.
+     *
+     * @param seconds duration in seconds; ignored if non-positive.
+     * @return future completed once the setting is applied.
+     */
+    CompletableFuture<Void> setDefaultDuration(int seconds);
+
+    /**
+     * Enable or disable automatic session startup after boot.
+     *
+     * @param enabled desired autostart flag.
+     * @return future completed once the setting is applied.
+     */
+    CompletableFuture<Void> setAutostartEnabled(boolean enabled);
+
+    /**
+     * Update the delay before autostart triggers.
+     *
+     * @param bufferSeconds seconds to wait; ignored if negative.
+     * @return future completed once the setting is applied.
+     */
+    CompletableFuture<Void> setAutostartBuffer(int bufferSeconds);
+
+    /**
+     * Run arbitrary work on the main thread in order with the other queued commands, e.g. to
+     * call a {@code SessionManager} or {@code Session} method this interface does not cover.
+     *
+     * @param action work to run; exceptions complete the future exceptionally.
+     * @param <T>    result type.
+     * @return future completed with the action's result.
+     */
+    <T> CompletableFuture<T> submit(Supplier<T> action);
+
+    /**
+     * Latest published session state. Reads directly without queueing.
+     *
+     * @return current snapshot; never null.
+     */
+    SessionSnapshot snapshot();
+}
@@ -0,0 +1,298 @@
+package me.BaddCamden.SessionLibrary.shutdown;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import org.bukkit.Bukkit;
+import org.bukkit.World;
+import org.bukkit.entity.Player;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.Listener;
+import org.bukkit.event.player.PlayerLoginEvent;
+import org.bukkit.plugin.Plugin;
+
+import me.BaddCamden.SessionLibrary.Session;
+import me.BaddCamden.SessionLibrary.SessionManager;
+import me.BaddCamden.SessionLibrary.events.ShutdownStageEndEvent;
+import me.BaddCamden.SessionLibrary.events.ShutdownStageStartEvent;
+import me.BaddCamden.SessionLibrary.scheduler.SessionTask;
+
+/**
+ * Staged shutdown pipeline run when a session ends, spreading the work that usually stalls a
+ * single tick across many.
+ * <p>
+ * Players are kicked in batches of {@code kickBatchSize} every {@code kickIntervalTicks} while
+ * new logins are refused, worlds are saved one per {@code saveIntervalTicks}, the library's own
+ * persistence is flushed, and finally the server shuts down, restarts through Spigot's
+ * {@code restart-script}, or stays up. Each stage fires {@link ShutdownStageStartEvent} and
+ * {@link ShutdownStageEndEvent}, and the stage timings are logged before the final action.
+ * Runs on the main thread.
+ */
+public class ShutdownOrchestrator implements Listener {
+
+    /**
+     * What to do once everything is saved.
+     */
+    public enum Action {
+        /** Stop the server. */
+        SHUTDOWN,
+        /** Restart through Spigot's configured restart script. */
+        RESTART,
+        /** Leave the server running, e.g. when an external supervisor takes over. */
+        NONE
+    }
+
+    private static final ShutdownStage[] STAGES = ShutdownStage.values();
+
+    private final Plugin plugin;
+    private final Action action;
+    private final int kickBatchSize;
+    private final int kickIntervalTicks;
+    private final int saveIntervalTicks;
+
+    private Session session;
+    private ShutdownStage stage;
+    private SessionTask timer;
+    private boolean listening;
+    private long stageStartNanos;
+    private int stageTicks;
+    private int stageUnits;
+    private final long[] stageMillis = new long[STAGES.length];
+    private final int[] stageUnitCounts = new int[STAGES.length];
+    private List<World> worlds;
+    // Worlds whose autosave this run switched off; switched back on if the server stays up
+    private final List<World> autoSaveDisabled = new ArrayList<>();
+    // Players already sent a kick; on Folia the kick lands later on the player's own thread
+    private final Set<UUID> kicked = new HashSet<>();
+
+    /**
+     * Create an orchestrator; call {@link #begin(Session)} to run it.
+     *
+     * @param plugin            plugin registering the login listener.
+     * @param action            final action once everything is saved.
+     * @param kickBatchSize     players kicked per batch.
+     * @param kickIntervalTicks ticks between kick batches.
+     * @param saveIntervalTicks ticks between world saves.
+     */
+    public ShutdownOrchestrator(Plugin plugin, Action action, int kickBatchSize, int kickIntervalTicks,
+            int saveIntervalTicks) {
+        this.plugin = plugin;
+        this.action = action;
+        this.kickBatchSize = Math.max(1, kickBatchSize);
+        this.kickIntervalTicks = Math.max(1, kickIntervalTicks);
+        this.saveIntervalTicks = Math.max(1, saveIntervalTicks);
+    }
+
+    /**
+     * Start the pipeline. Ignored while a run is already in progress.
+     *
+     * @param endedSession session whose end triggered the shutdown, or null when started directly.
+     */
+    public void begin(Session endedSession) {
+        if (stage != null) {
+            return;
+        }
+        session = endedSession;
+        if (!listening) {
+            Bukkit.getPluginManager().registerEvents(this, plugin);
+            listening = true;
+        }
+        plugin.getLogger().info("Session ended; starting staged shutdown (" + action.name().toLowerCase() + ").");
+        enter(ShutdownStage.KICK_PLAYERS);
+        timer = SessionManager.getScheduler().runTaskTimer(this::pulse, 1L, 1L);
+    }
+
+    /**
+     * Check whether a shutdown is in progress.
+     *
+     * @return true from {@link #begin(Session)} until the final action.
+     */
+    public boolean isRunning() {
+        return stage != null;
+    }
+
+    /**
+     * Access the stage in progress.
+     *
+     * @return current stage, or null when idle.
+     */
+    public ShutdownStage getStage() {
+        return stage;
+    }
+
+    /**
+     * Time the last run spent in a stage.
+     *
+     * @param shutdownStage stage to look up.
+     * @return elapsed milliseconds, or 0 when the stage has not finished.
+     */
+    public long getStageMillis(ShutdownStage shutdownStage) {
+        return stageMillis[shutdownStage.ordinal()];
+    }
+
+    /**
+     * Stop the pipeline without running the remaining stages, turn world autosave back on, and
+     * accept logins again.
+     */
+    public void cancel() {
+        if (timer != null) {
+            timer.cancel();
+            timer = null;
+        }
+        for (World world : autoSaveDisabled) {
+            world.setAutoSave(true);
+        }
+        autoSaveDisabled.clear();
+        stage = null;
+        session = null;
+        worlds = null;
+    }
+
+    /**
+     * Refuse logins while players are being moved off the server.
+     *
+     * @param event login attempt.
+     */
+    @EventHandler
+    public void onLogin(PlayerLoginEvent event) {
+        if (stage != null) {
+            event.disallow(PlayerLoginEvent.Result.KICK_OTHER, kickMessage());
+        }
+    }
+
+    /**
+     * Do one tick's worth of the current stage.
+     */
+    private void pulse() {
+        if (stage == null) {
+            return;
+        }
+        int tick = stageTicks++;
+        switch (stage) {
+            case KICK_PLAYERS:
+                if (tick % kickIntervalTicks == 0) {
+                    kickBatch();
+                }
+                break;
+            case SAVE_WORLDS:
+                if (tick % saveIntervalTicks == 0) {
+                    saveNextWorld();
+                }
+                break;
+            case FLUSH_PERSISTENCE:
+                stageUnits = SessionManager.flushPersistence();
+                enter(ShutdownStage.SHUTDOWN);
+                break;
+            case SHUTDOWN:
+                finish();
+                break;
+            default:
+                break;
+        }
+    }
+
+    private void kickBatch() {
+        // Copy first: kicking removes players from the live online collection
+        List<Player> online = new ArrayList<>();
+        for (Player player : Bukkit.getOnlinePlayers()) {
+            if (!kicked.contains(player.getUniqueId())) {
+                online.add(player);
+            }
+        }
+        if (online.isEmpty()) {
+            kicked.clear();
+            enter(ShutdownStage.SAVE_WORLDS);
+            return;
+        }
+        String message = kickMessage();
+        int count = Math.min(kickBatchSize, online.size());
+        for (int i = 0; i < count; i++) {
+            Player player = online.get(i);
+            kicked.add(player.getUniqueId());
+            SessionManager.runForPlayer(player, () -> player.kickPlayer(message));
+            stageUnits++;
+        }
+    }
+
+    private void saveNextWorld() {
+        if (SessionManager.isFolia()) {
+            // Folia saves each region on its own thread and cannot save a whole world from one
+            enter(ShutdownStage.FLUSH_PERSISTENCE);
+            return;
+        }
+        if (worlds == null) {
+            worlds = new ArrayList<>(Bukkit.getWorlds());
+        }
+        if (stageUnits >= worlds.size()) {
+            worlds = null;
+            enter(ShutdownStage.FLUSH_PERSISTENCE);
+            return;
+        }
+        World world = worlds.get(stageUnits);
+        world.save();
+        if (action != Action.NONE && world.isAutoSave()) {
+            // Keep the periodic autosave from writing the same world again before the server stops
+            world.setAutoSave(false);
+            autoSaveDisabled.add(world);
+        }
+        stageUnits++;
+    }
+
+    /**
+     * Log the stage timings and carry out the final action.
+     */
+    private void finish() {
+        StringBuilder summary = new StringBuilder("Staged shutdown timings:");
+        for (int i = 0; i < ShutdownStage.SHUTDOWN.ordinal(); i++) {
+            summary.append(' ').append(STAGES[i].name().toLowerCase().replace('_', ' '))
+                    .append(' ').append(stageMillis[i]).append(" ms (").append(stageUnitCounts[i]).append(')');
+            summary.append(i + 1 < ShutdownStage.SHUTDOWN.ordinal() ? ',' : '.');
+        }
+        plugin.getLogger().info(summary.toString());
+
+        switch (action) {
+            case RESTART:
+                Bukkit.spigot().restart();
+                break;
+            case SHUTDOWN:
+                Bukkit.shutdown();
+                break;
+            case NONE:
+            default:
+                Session endedSession = session;
+                long elapsed = (System.nanoTime() - stageStartNanos) / 1_000_000L;
+                cancel();
+                SessionManager.getProfiler().callEvent(
+                        new ShutdownStageEndEvent(endedSession, ShutdownStage.SHUTDOWN, elapsed, 0));
+                break;
+        }
+    }
+
+    /**
+     * Close the current stage, if any, and begin the next.
+     *
+     * @param next stage to begin.
+     */
+    private void enter(ShutdownStage next) {
+        long now = System.nanoTime();
+        if (stage != null) {
+            long elapsed = (now - stageStartNanos) / 1_000_000L;
+            stageMillis[stage.ordinal()] = elapsed;
+            stageUnitCounts[stage.ordinal()] = stageUnits;
+            SessionManager.getProfiler().callEvent(new ShutdownStageEndEvent(session, stage, elapsed, stageUnits));
+        }
+        stage = next;
+        stageStartNanos = now;
+        stageTicks = 0;
+        stageUnits = 0;
+        SessionManager.getProfiler().callEvent(new ShutdownStageStartEvent(session, next));
+    }
+
+    private static String kickMessage() {
+        return SessionManager.config.getString("messages.shutdown-kick",
+                "The session has ended. The server is shutting down.");
+    }
+}
@@ -0,0 +1,15 @@
+package me.BaddCamden.SessionLibrary.shutdown;
+
+/**
+ * Stages of the staged shutdown pipeline, in the order they run.
+ */
+public enum ShutdownStage {
+    /** Players are kicked in rate-limited batches; new logins are refused. */
+    KICK_PLAYERS,
+    /** Worlds are saved one at a time on separate ticks. */
+    SAVE_WORLDS,
+    /** The library's session count, day counter, playtime quotas, and participation totals are written to disk. */
+    FLUSH_PERSISTENCE,
+    /** The server shuts down, restarts, or stays up, depending on the configured action. */
+    SHUTDOWN
+}
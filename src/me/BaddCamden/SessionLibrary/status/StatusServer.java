@@ -0,0 +1,236 @@
+package me.BaddCamden.SessionLibrary.status;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.ZonedDateTime;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Logger;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import me.BaddCamden.SessionLibrary.Session;
+import me.BaddCamden.SessionLibrary.SessionManager;
+import me.BaddCamden.SessionLibrary.SessionPhase;
+import me.BaddCamden.SessionLibrary.SessionSnapshot;
+import me.BaddCamden.SessionLibrary.hooks.SessionStateListener;
+
+/**
+ * Optional embedded HTTP server exposing session state as JSON at {@code /status},
+ * {@code /schedule} and {@code /history}.
+ * <p>
+ * Each document is rendered once on the server thread when the underlying state changes and
+ * stored as a byte array behind a volatile field. Request threads only copy those bytes to the
+ * socket, so polling never touches Bukkit objects or costs tick time. Clients derive the time
+ * left from {@code deadlineMillis}, which is why the status document does not change every second.
+ */
+public class StatusServer implements SessionStateListener {
+
+    private static final String JSON = "application/json; charset=utf-8";
+
+    private final String bindAddress;
+    private final int port;
+    private final int historySize;
+    private final Logger logger;
+
+    // Finished sessions, newest first; only touched on the server thread
+    private final Deque<String> history = new ArrayDeque<>();
+    private long trackedId = -1L;
+    private long trackedStartMillis;
+    private int trackedDuration;
+
+    private volatile byte[] statusBody = "{}".getBytes(StandardCharsets.UTF_8);
+    private volatile byte[] scheduleBody = "{}".getBytes(StandardCharsets.UTF_8);
+    private volatile byte[] historyBody = "[]".getBytes(StandardCharsets.UTF_8);
+
+    private HttpServer server;
+    private ExecutorService executor;
+
+    /**
+     * Create a status server; call {@link #start()} to bind it.
+     *
+     * @param bindAddress interface to listen on, e.g. 127.0.0.1.
+     * @param port        TCP port.
+     * @param historySize number of finished sessions kept in {@code /history}.
+     * @param logger      logger for startup problems.
+     */
+    public StatusServer(String bindAddress, int port, int historySize, Logger logger) {
+        this.bindAddress = bindAddress;
+        this.port = port;
+        this.historySize = Math.max(0, historySize);
+        this.logger = logger;
+    }
+
+    /**
+     * Render the initial documents, bind the socket, and listen for session state changes.
+     *
+     * @throws IOException when the port cannot be bound.
+     */
+    public void start() throws IOException {
+        publishStatus();
+        publishSchedule();
+
+        server = HttpServer.create(new InetSocketAddress(bindAddress, port), 0);
+        server.createContext("/status", exchange -> respond(exchange, statusBody));
+        server.createContext("/schedule", exchange -> respond(exchange, scheduleBody));
+        server.createContext("/history", exchange -> respond(exchange, historyBody));
+        executor = createExecutor();
+        server.setExecutor(executor);
+        server.start();
+        Session.registerStateListener(this);
+    }
+
+    /**
+     * Stop listening for state changes and close the socket.
+     */
+    public void stop() {
+        Session.unregisterStateListener(this);
+        if (server != null) {
+            server.stop(0);
+            server = null;
+        }
+        if (executor != null) {
+            executor.shutdownNow();
+            executor = null;
+        }
+    }
+
+    /**
+     * Record finished sessions and re-render the status document.
+     *
+     * @param session session whose state changed.
+     */
+    @Override
+    public void onStateChange(Session session) {
+        SessionPhase phase = session.getPhase();
+        if (phase == SessionPhase.RUNNING && session.getId() != trackedId) {
+            trackedId = session.getId();
+            trackedStartMillis = SessionManager.getClock().millis();
+            trackedDuration = session.getDuration();
+        } else if ((phase == SessionPhase.ENDED || phase == SessionPhase.IDLE) && session.getId() == trackedId) {
+            recordHistory(phase);
+            trackedId = -1L;
+        }
+        publishStatus();
+    }
+
+    /**
+     * Re-render the schedule document, e.g. after trigger state or leadership changed.
+     */
+    public void publishSchedule() {
+        StringBuilder json = new StringBuilder(256).append('{');
+        field(json, "triggerAuthority", SessionManager.isTriggerAuthority()).append(',');
+        field(json, "autostart", SessionManager.autostart).append(',');
+        field(json, "scheduledStartEnabled", SessionManager.scheduledStartEnabled).append(',');
+        field(json, "scheduledStart", SessionManager.scheduledStartDateTime != null
+                && SessionManager.scheduledStartZone != null
+                ? SessionManager.scheduledStartDateTime.atZone(SessionManager.scheduledStartZone).toString()
+                : null).append(',');
+        field(json, "calendarEnabled", SessionManager.calendarAutoSessionEnabled).append(',');
+        field(json, "calendarMode", SessionManager.calendarMode).append(',');
+        ZonedDateTime next = SessionManager.getNextCalendarEligibleTime();
+        field(json, "nextCalendarSession", next != null ? next.toString() : null).append(',');
+        field(json, "dayCounter", SessionManager.getDayCounterValue());
+        scheduleBody = json.append('}').toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Re-render the status document from the latest {@link SessionManager#snapshot()}.
+     */
+    public void publishStatus() {
+        SessionSnapshot state = SessionManager.snapshot();
+        StringBuilder json = new StringBuilder(256).append('{');
+        field(json, "running", state.isRunning()).append(',');
+        field(json, "phase", state.phase().name()).append(',');
+        field(json, "sessionId", state.id()).append(',');
+        field(json, "duration", state.duration()).append(',');
+        field(json, "deadlineMillis", state.deadlineMillis()).append(',');
+        field(json, "trigger", state.trigger() != null ? state.trigger().name() : null).append(',');
+        field(json, "sessionCount", state.sessionCount()).append(',');
+        field(json, "dayCounter", state.dayCounter()).append(',');
+        field(json, "generatedMillis", SessionManager.getClock().millis());
+        statusBody = json.append('}').toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    private void recordHistory(SessionPhase outcome) {
+        if (historySize == 0) {
+            return;
+        }
+        StringBuilder json = new StringBuilder(128).append('{');
+        field(json, "sessionId", trackedId).append(',');
+        field(json, "duration", trackedDuration).append(',');
+        field(json, "startedMillis", trackedStartMillis).append(',');
+        field(json, "endedMillis", SessionManager.getClock().millis()).append(',');
+        field(json, "outcome", outcome == SessionPhase.ENDED ? "ended" : "stopped");
+        history.addFirst(json.append('}').toString());
+        while (history.size() > historySize) {
+            history.removeLast();
+        }
+        historyBody = ("[" + String.join(",", history) + "]").getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static void respond(HttpExchange exchange, byte[] body) throws IOException {
+        try {
+            if (!"GET".equals(exchange.getRequestMethod())) {
+                exchange.sendResponseHeaders(405, -1);
+                return;
+            }
+            exchange.getResponseHeaders().set("Content-Type", JSON);
+            exchange.getResponseHeaders().set("Cache-Control", "no-cache");
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        } finally {
+            exchange.close();
+        }
+    }
+
+    /**
+     * Use virtual threads when the runtime has them, otherwise a small daemon pool.
+     *
+     * @return executor for request handling.
+     */
+    private ExecutorService createExecutor() {
+        try {
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (ReflectiveOperationException ex) {
+            logger.fine("Virtual threads unavailable; serving status requests from a thread pool.");
+        }
+        AtomicInteger counter = new AtomicInteger();
+        return Executors.newFixedThreadPool(4, runnable -> {
+            Thread thread = new Thread(runnable, "SessionLibrary-status-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    private static StringBuilder field(StringBuilder json, String name, Object value) {
+        json.append('"').append(name).append("\":");
+        if (value == null) {
+            return json.append("null");
+        }
+        if (value instanceof String) {
+            json.append('"');
+            String text = (String) value;
+            for (int i = 0; i < text.length(); i++) {
+                char c = text.charAt(i);
+                if (c == '"' || c == '\\') {
+                    json.append('\\').append(c);
+                } else if (c < 0x20) {
+                    json.append(String.format("\\u%04x", (int) c));
+                } else {
+                    json.append(c);
+                }
+            }
+            return json.append('"');
+        }
+        return json.append(value);
+    }
+}
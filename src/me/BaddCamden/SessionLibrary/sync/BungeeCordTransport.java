@@ -0,0 +1,131 @@
+package me.BaddCamden.SessionLibrary.sync;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.function.Consumer;
+
+import org.bukkit.Bukkit;
+import org.bukkit.entity.Player;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.HandlerList;
+import org.bukkit.event.Listener;
+import org.bukkit.event.player.PlayerJoinEvent;
+import org.bukkit.plugin.Plugin;
+import org.bukkit.plugin.messaging.PluginMessageListener;
+
+import me.BaddCamden.SessionLibrary.SessionManager;
+
+/**
+ * Transport that relays payloads to every backend through the proxy's {@code Forward} sub-channel.
+ * Plugin messages travel over a player connection, so while the server is empty the latest payload
+ * is held back and sent shortly after the next player joins. Each payload carries the full session
+ * state, so only the latest one needs to be kept.
+ */
+public class BungeeCordTransport implements SessionSyncTransport, PluginMessageListener, Listener {
+
+    private static final String PROXY_CHANNEL = "BungeeCord";
+    // The proxy drops plugin messages sent before the joining player's connection is set up
+    private static final long JOIN_SEND_DELAY_TICKS = 20L;
+
+    private final Plugin plugin;
+    private final String subChannel;
+    private volatile Consumer<byte[]> receiver;
+    private byte[] pending;
+
+    /**
+     * Create a transport using the given forward sub-channel name.
+     *
+     * @param plugin     plugin used to register messaging channels.
+     * @param subChannel name shared by all servers in the network.
+     */
+    public BungeeCordTransport(Plugin plugin, String subChannel) {
+        this.plugin = plugin;
+        this.subChannel = subChannel;
+    }
+
+    @Override
+    public void open(Consumer<byte[]> receiver) {
+        this.receiver = receiver;
+        Bukkit.getServer().getMessenger().registerOutgoingPluginChannel(plugin, PROXY_CHANNEL);
+        Bukkit.getServer().getMessenger().registerIncomingPluginChannel(plugin, PROXY_CHANNEL, this);
+        Bukkit.getPluginManager().registerEvents(this, plugin);
+    }
+
+    @Override
+    public void publish(byte[] payload) {
+        Iterator<? extends Player> players = Bukkit.getOnlinePlayers().iterator();
+        if (!players.hasNext()) {
+            pending = payload;
+            return;
+        }
+        pending = null;
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeUTF("Forward");
+            out.writeUTF("ALL");
+            out.writeUTF(subChannel);
+            out.writeShort(payload.length);
+            out.write(payload);
+        } catch (IOException e) {
+            plugin.getLogger().warning("Could not encode session sync message: " + e.getMessage());
+            return;
+        }
+        players.next().sendPluginMessage(plugin, PROXY_CHANNEL, bytes.toByteArray());
+    }
+
+    @Override
+    public void close() {
+        receiver = null;
+        pending = null;
+        HandlerList.unregisterAll(this);
+        Bukkit.getServer().getMessenger().unregisterIncomingPluginChannel(plugin);
+        Bukkit.getServer().getMessenger().unregisterOutgoingPluginChannel(plugin);
+    }
+
+    /**
+     * Send the payload held back while the server was empty once a player connection exists.
+     *
+     * @param event join event.
+     */
+    @EventHandler
+    public void onPlayerJoin(PlayerJoinEvent event) {
+        SessionManager.getScheduler().runTaskLater(() -> {
+            byte[] payload = pending;
+            if (payload != null && receiver != null) {
+                publish(payload);
+            }
+        }, JOIN_SEND_DELAY_TICKS);
+    }
+
+    /**
+     * Unwrap forwarded messages addressed to this transport's sub-channel.
+     */
+    @Override
+    public void onPluginMessageReceived(String channel, Player player, byte[] message) {
+        Consumer<byte[]> target = receiver;
+        if (!PROXY_CHANNEL.equals(channel) || target == null) {
+            return;
+        }
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(message))) {
+            if (!subChannel.equals(in.readUTF())) {
+                return;
+            }
+            int length = in.readUnsignedShort();
+            if (length != SessionStateDelta.SIZE || length > in.available()) {
+                // Corrupt, truncated, or from an incompatible version; never allocate from it
+                plugin.getLogger().warning("Ignoring session sync message with payload length " + length + ".");
+                return;
+            }
+            byte[] payload = new byte[length];
+            in.readFully(payload);
+            target.accept(payload);
+        } catch (IOException e) {
+            plugin.getLogger().warning("Malformed session sync message: " + e.getMessage());
+        }
+    }
+}
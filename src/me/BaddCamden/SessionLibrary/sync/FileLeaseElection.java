@@ -0,0 +1,228 @@
+package me.BaddCamden.SessionLibrary.sync;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.channels.OverlappingFileLockException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.StandardOpenOption;
+import java.util.logging.Logger;
+
+import me.BaddCamden.SessionLibrary.SessionManager;
+import me.BaddCamden.SessionLibrary.scheduler.SessionTask;
+
+/**
+ * Lease-based leader election among servers that share a host, built on an OS file lock.
+ * <p>
+ * The leader holds an exclusive lock on a byte past the lease record. Liveness comes from the
+ * lock alone: if the leader process dies, the OS releases it and the next follower to retry
+ * takes over within one interval, so the record carries no heartbeat time. The record holds a
+ * generation number that the leader bumps whenever it writes trigger state, so followers can
+ * notice changes with a single small read instead of reparsing files, and the leader's node id
+ * for anyone inspecting the file.
+ */
+public class FileLeaseElection {
+
+    /**
+     * Callbacks for leadership and trigger-state changes. Invoked on the scheduler thread.
+     */
+    public interface Listener {
+
+        /**
+         * Called when this node gains or loses leadership, and with {@code false} after the
+         * first failed attempt so a node that never leads still learns it is a follower.
+         *
+         * @param leader true when this node is now the leader.
+         */
+        void onLeadershipChange(boolean leader);
+
+        /**
+         * Called on followers when the leader has written new trigger state.
+         *
+         * @param generation new generation number.
+         */
+        void onTriggerStateChanged(long generation);
+    }
+
+    private static final int MAGIC = 0x534C4C45; // "SLLE"
+    private static final int MAX_NODE_ID_BYTES = 64;
+    private static final int RECORD_SIZE = 4 + 8 + 2 + MAX_NODE_ID_BYTES;
+    // Lock a byte past the record so followers can still read it on every platform
+    private static final long LOCK_POSITION = 1024L;
+
+    private final File leaseFile;
+    private final String nodeId;
+    private final long heartbeatTicks;
+    private final Listener listener;
+    private final Logger logger;
+
+    private FileChannel channel;
+    private FileLock lock;
+    private SessionTask heartbeat;
+    private long generation;
+    private long lastSeenGeneration = -1L;
+    // False until the listener has heard this node's first leadership state
+    private boolean stateReported;
+
+    /**
+     * Create an election participant; call {@link #start()} to begin campaigning.
+     *
+     * @param leaseFile        lease file shared by all participating servers.
+     * @param nodeId           identifier recorded while this node leads.
+     * @param heartbeatSeconds interval for retrying the lease and checking the generation.
+     * @param listener         receiver for leadership and trigger-state changes.
+     * @param logger           logger for lease I/O problems.
+     */
+    public FileLeaseElection(File leaseFile, String nodeId, int heartbeatSeconds, Listener listener, Logger logger) {
+        this.leaseFile = leaseFile;
+        this.nodeId = nodeId;
+        this.heartbeatTicks = Math.max(1, heartbeatSeconds) * 20L;
+        this.listener = listener;
+        this.logger = logger;
+    }
+
+    /**
+     * Open the lease file, try to take the lease immediately, and start the heartbeat.
+     *
+     * @throws IOException when the lease file cannot be opened.
+     */
+    public void start() throws IOException {
+        File parent = leaseFile.getAbsoluteFile().getParentFile();
+        if (parent != null) {
+            parent.mkdirs();
+        }
+        channel = FileChannel.open(leaseFile.toPath(),
+                StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        beat();
+        heartbeat = SessionManager.getScheduler().runTaskTimer(this::beat, heartbeatTicks, heartbeatTicks);
+    }
+
+    /**
+     * Stop the heartbeat and release the lease so another node can take over at once.
+     */
+    public void stop() {
+        if (heartbeat != null) {
+            heartbeat.cancel();
+            heartbeat = null;
+        }
+        try {
+            if (lock != null) {
+                lock.release();
+            }
+            if (channel != null) {
+                channel.close();
+            }
+        } catch (IOException e) {
+            logger.warning("Could not release leader lease: " + e.getMessage());
+        }
+        lock = null;
+        channel = null;
+        stateReported = false;
+    }
+
+    /**
+     * Check whether this node currently holds the lease.
+     *
+     * @return true for the leader.
+     */
+    public boolean isLeader() {
+        FileLock current = lock;
+        return current != null && current.isValid();
+    }
+
+    /**
+     * Record that the leader has written new trigger state. Ignored on followers. Safe to call
+     * from the thread that ran the write.
+     */
+    public synchronized void markTriggerStateChanged() {
+        if (!isLeader()) {
+            return;
+        }
+        generation++;
+        writeRecord();
+    }
+
+    /**
+     * As follower, try to acquire the lease and check for new trigger state. The leader has
+     * nothing to renew; the lock stays held until it is released or the process dies.
+     */
+    private void beat() {
+        if (channel == null || isLeader()) {
+            return;
+        }
+
+        boolean wasLeader = lock != null;
+        lock = null;
+        try {
+            lock = channel.tryLock(LOCK_POSITION, 1L, false);
+        } catch (OverlappingFileLockException e) {
+            // Another participant in this JVM holds it
+            lock = null;
+        } catch (IOException e) {
+            logger.warning("Could not acquire leader lease: " + e.getMessage());
+        }
+
+        if (lock != null) {
+            synchronized (this) {
+                generation = Math.max(generation, readGeneration());
+                writeRecord();
+            }
+            stateReported = true;
+            listener.onLeadershipChange(true);
+            return;
+        }
+
+        if (wasLeader || !stateReported) {
+            stateReported = true;
+            listener.onLeadershipChange(false);
+        }
+
+        long observed = readGeneration();
+        if (observed != lastSeenGeneration) {
+            boolean firstRead = lastSeenGeneration < 0;
+            lastSeenGeneration = observed;
+            if (!firstRead) {
+                listener.onTriggerStateChanged(observed);
+            }
+        }
+    }
+
+    /**
+     * Write the lease record: magic, generation, node id.
+     */
+    private synchronized void writeRecord() {
+        byte[] id = nodeId.getBytes(StandardCharsets.UTF_8);
+        int idLength = Math.min(id.length, MAX_NODE_ID_BYTES);
+        ByteBuffer record = ByteBuffer.allocate(RECORD_SIZE);
+        record.putInt(MAGIC)
+                .putLong(generation)
+                .putShort((short) idLength)
+                .put(id, 0, idLength);
+        record.rewind();
+        try {
+            channel.write(record, 0L);
+        } catch (IOException e) {
+            logger.warning("Could not renew leader lease: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Read the generation number from the lease record.
+     *
+     * @return generation, or 0 when the record is missing or unreadable.
+     */
+    private long readGeneration() {
+        ByteBuffer header = ByteBuffer.allocate(12);
+        try {
+            if (channel.read(header, 0L) < 12) {
+                return 0L;
+            }
+        } catch (IOException e) {
+            return 0L;
+        }
+        header.flip();
+        return header.getInt() == MAGIC ? header.getLong() : 0L;
+    }
+}
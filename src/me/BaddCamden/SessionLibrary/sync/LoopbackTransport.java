@@ -0,0 +1,67 @@
+package me.BaddCamden.SessionLibrary.sync;
+
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * In-process transport: every endpoint connected to the same {@link Bus} receives what the
+ * others publish, synchronously on the publishing thread. Intended for tests and single-JVM setups.
+ */
+public class LoopbackTransport implements SessionSyncTransport {
+
+    /**
+     * Shared medium connecting loopback endpoints.
+     */
+    public static final class Bus {
+        private final CopyOnWriteArrayList<LoopbackTransport> endpoints = new CopyOnWriteArrayList<>();
+
+        /**
+         * Create a new endpoint attached to this bus.
+         *
+         * @return transport endpoint.
+         */
+        public LoopbackTransport connect() {
+            return new LoopbackTransport(this);
+        }
+    }
+
+    private static final Bus DEFAULT_BUS = new Bus();
+
+    private final Bus bus;
+    private volatile Consumer<byte[]> receiver;
+
+    private LoopbackTransport(Bus bus) {
+        this.bus = bus;
+    }
+
+    /**
+     * Endpoint on the JVM-wide default bus.
+     *
+     * @return transport endpoint.
+     */
+    public static LoopbackTransport onDefaultBus() {
+        return DEFAULT_BUS.connect();
+    }
+
+    @Override
+    public void open(Consumer<byte[]> receiver) {
+        this.receiver = receiver;
+        bus.endpoints.addIfAbsent(this);
+    }
+
+    @Override
+    public void publish(byte[] payload) {
+        for (LoopbackTransport endpoint : bus.endpoints) {
+            Consumer<byte[]> target = endpoint.receiver;
+            if (endpoint != this && target != null) {
+                target.accept(payload.clone());
+            }
+        }
+    }
+
+    @Override
+    public void close() {
+        bus.endpoints.remove(this);
+        receiver = null;
+    }
+}
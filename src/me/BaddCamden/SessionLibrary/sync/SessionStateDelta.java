@@ -0,0 +1,138 @@
+package me.BaddCamden.SessionLibrary.sync;
+
+import java.nio.ByteBuffer;
+
+import me.BaddCamden.SessionLibrary.Session;
+import me.BaddCamden.SessionLibrary.SessionPhase;
+
+/**
+ * Compact, self-contained description of the authoritative session state.
+ * Every delta carries the full state, so applying one twice or out of order is harmless.
+ */
+public final class SessionStateDelta {
+
+    /** Encoded size in bytes. */
+    public static final int SIZE = 1 + 8 + 1 + 4 + 8 + 1;
+    private static final byte VERSION = 1;
+    private static final SessionPhase[] PHASES = SessionPhase.values();
+
+    private final long sessionId;
+    private final SessionPhase phase;
+    private final int duration;
+    private final long deadlineMillis;
+    private final boolean autoStart;
+
+    /**
+     * Create a delta from explicit values.
+     *
+     * @param sessionId      authority's session id.
+     * @param phase          lifecycle phase.
+     * @param duration       total duration in seconds.
+     * @param deadlineMillis epoch millis at which the countdown reaches zero.
+     * @param autoStart      whether the session was started automatically.
+     */
+    public SessionStateDelta(long sessionId, SessionPhase phase, int duration, long deadlineMillis, boolean autoStart) {
+        this.sessionId = sessionId;
+        this.phase = phase;
+        this.duration = duration;
+        this.deadlineMillis = deadlineMillis;
+        this.autoStart = autoStart;
+    }
+
+    /**
+     * Capture the current state of a session.
+     *
+     * @param session session to describe.
+     * @return delta for the session's current phase and deadline.
+     */
+    public static SessionStateDelta of(Session session) {
+        return new SessionStateDelta(session.getId(), session.getPhase(), session.getDuration(),
+                session.getDeadlineMillis(), session.isAutoStartSession());
+    }
+
+    /**
+     * Serialize to the fixed-size wire format.
+     *
+     * @return encoded bytes.
+     */
+    public byte[] encode() {
+        return ByteBuffer.allocate(SIZE)
+                .put(VERSION)
+                .putLong(sessionId)
+                .put((byte) phase.ordinal())
+                .putInt(duration)
+                .putLong(deadlineMillis)
+                .put((byte) (autoStart ? 1 : 0))
+                .array();
+    }
+
+    /**
+     * Parse a payload produced by {@link #encode()}.
+     *
+     * @param payload encoded bytes.
+     * @return decoded delta, or null when the payload is malformed or from an unknown version.
+     */
+    public static SessionStateDelta decode(byte[] payload) {
+        if (payload == null || payload.length != SIZE) {
+            return null;
+        }
+        ByteBuffer buffer = ByteBuffer.wrap(payload);
+        if (buffer.get() != VERSION) {
+            return null;
+        }
+        long sessionId = buffer.getLong();
+        int phaseIndex = buffer.get();
+        if (phaseIndex < 0 || phaseIndex >= PHASES.length) {
+            return null;
+        }
+        int duration = buffer.getInt();
+        long deadline = buffer.getLong();
+        boolean autoStart = buffer.get() != 0;
+        return new SessionStateDelta(sessionId, PHASES[phaseIndex], duration, deadline, autoStart);
+    }
+
+    /**
+     * Session id assigned by the authoritative node.
+     *
+     * @return remote session id.
+     */
+    public long getSessionId() {
+        return sessionId;
+    }
+
+    /**
+     * Lifecycle phase on the authoritative node.
+     *
+     * @return session phase.
+     */
+    public SessionPhase getPhase() {
+        return phase;
+    }
+
+    /**
+     * Configured session length.
+     *
+     * @return duration in seconds.
+     */
+    public int getDuration() {
+        return duration;
+    }
+
+    /**
+     * Instant at which the authoritative countdown reaches zero.
+     *
+     * @return epoch millis deadline.
+     */
+    public long getDeadlineMillis() {
+        return deadlineMillis;
+    }
+
+    /**
+     * Whether the authoritative session was started automatically.
+     *
+     * @return auto-start flag.
+     */
+    public boolean isAutoStart() {
+        return autoStart;
+    }
+}
@@ -0,0 +1,199 @@
+package me.BaddCamden.SessionLibrary.sync;
+
+import org.bukkit.plugin.Plugin;
+
+import me.BaddCamden.SessionLibrary.Session;
+import me.BaddCamden.SessionLibrary.SessionManager;
+import me.BaddCamden.SessionLibrary.SessionPhase;
+import me.BaddCamden.SessionLibrary.SessionTrigger;
+import me.BaddCamden.SessionLibrary.hooks.SessionStateListener;
+import me.BaddCamden.SessionLibrary.scheduler.SessionTask;
+
+/**
+ * Keeps sessions on several servers on one timeline. The authority publishes a
+ * {@link SessionStateDelta} whenever its session changes phase or deadline, plus a periodic
+ * heartbeat that repeats the current phase for servers that join late or missed a message;
+ * followers mirror it by applying the deadline rather than counting their own ticks, and never
+ * start sessions from their own triggers.
+ * <p>
+ * Transports must deliver received payloads on the main thread.
+ */
+public class SessionSyncService implements SessionStateListener {
+
+    /**
+     * Part a server plays in the sync network.
+     */
+    public enum Role {
+        /** Publishes session state and evaluates triggers. */
+        AUTHORITY,
+        /** Mirrors the authority's session state. */
+        FOLLOWER
+    }
+
+    private final Plugin plugin;
+    private final SessionSyncTransport transport;
+    private final long heartbeatTicks;
+    private volatile Role role;
+
+    private SessionTask heartbeat;
+    private long followedRemoteId = -1L;
+    private Session followedSession;
+
+    /**
+     * Create a sync service; call {@link #start()} to begin exchanging state.
+     *
+     * @param plugin           plugin used as the owner of mirrored sessions.
+     * @param transport        channel to the other servers.
+     * @param role             initial role of this server.
+     * @param heartbeatSeconds interval for republishing the current session; <= 0 disables.
+     */
+    public SessionSyncService(Plugin plugin, SessionSyncTransport transport, Role role, int heartbeatSeconds) {
+        this.plugin = plugin;
+        this.transport = transport;
+        this.role = role;
+        this.heartbeatTicks = heartbeatSeconds * 20L;
+    }
+
+    /**
+     * Open the transport and begin publishing or following.
+     */
+    public void start() {
+        transport.open(this::receive);
+        Session.registerStateListener(this);
+        if (heartbeatTicks > 0) {
+            heartbeat = SessionManager.getScheduler().runTaskTimer(this::publishHeartbeat, heartbeatTicks, heartbeatTicks);
+        }
+    }
+
+    /**
+     * Stop publishing and following, and close the transport.
+     */
+    public void stop() {
+        Session.unregisterStateListener(this);
+        if (heartbeat != null) {
+            heartbeat.cancel();
+            heartbeat = null;
+        }
+        transport.close();
+    }
+
+    /**
+     * Current role of this server.
+     *
+     * @return authority or follower.
+     */
+    public Role getRole() {
+        return role;
+    }
+
+    /**
+     * Change this server's role, e.g. after a failover.
+     *
+     * @param role new role.
+     */
+    public void setRole(Role role) {
+        this.role = role;
+        if (role == Role.AUTHORITY) {
+            publishHeartbeat();
+        }
+    }
+
+    /**
+     * Check whether this server publishes state and evaluates triggers.
+     *
+     * @return true for the authority.
+     */
+    public boolean isAuthority() {
+        return role == Role.AUTHORITY;
+    }
+
+    /**
+     * Publish local state changes while acting as the authority.
+     */
+    @Override
+    public void onStateChange(Session session) {
+        if (role == Role.AUTHORITY && !session.isFollowingDeadline()) {
+            transport.publish(SessionStateDelta.of(session).encode());
+        }
+    }
+
+    /**
+     * Republish the current session in whatever phase it is in, so late-joining followers catch
+     * up and followers that missed an end or stop still leave the session.
+     */
+    private void publishHeartbeat() {
+        Session current = SessionManager.getCurrentSession();
+        if (current != null) {
+            onStateChange(current);
+        }
+    }
+
+    /**
+     * Decode and apply a payload from another node.
+     *
+     * @param payload encoded delta.
+     */
+    private void receive(byte[] payload) {
+        if (role != Role.FOLLOWER) {
+            return;
+        }
+        SessionStateDelta delta = SessionStateDelta.decode(payload);
+        if (delta == null) {
+            plugin.getLogger().warning("Ignoring malformed session sync payload.");
+            return;
+        }
+        apply(delta);
+    }
+
+    /**
+     * Bring the mirrored session in line with the authority's state.
+     *
+     * @param delta authoritative state.
+     */
+    private void apply(SessionStateDelta delta) {
+        boolean sameSession = followedSession != null && followedRemoteId == delta.getSessionId();
+
+        switch (delta.getPhase()) {
+            case RUNNING:
+                if (sameSession && followedSession.isRunning()) {
+                    if (followedSession.getDeadlineMillis() != delta.getDeadlineMillis()) {
+                        followedSession.followDeadline(delta.getDeadlineMillis());
+                    }
+                    return;
+                }
+                if (followedSession != null && followedSession.isRunning()) {
+                    // The authority moved on to a new session; drop the one mirrored so far
+                    followedSession.stopSession();
+                }
+                Session local = SessionManager.getCurrentSession();
+                if (local != null && local.isRunning()) {
+                    // A local session was running before the authority's; the authority wins
+                    local.stopSession();
+                }
+                followedSession = new Session(plugin, delta.getDuration(), delta.isAutoStart(), SessionTrigger.REMOTE);
+                followedRemoteId = delta.getSessionId();
+                followedSession.followDeadline(delta.getDeadlineMillis());
+                SessionManager.currentSession = followedSession;
+                followedSession.start();
+                break;
+            case ENDING:
+                if (sameSession) {
+                    followedSession.beginEndSequence();
+                }
+                break;
+            case ENDED:
+                if (sameSession) {
+                    followedSession.forceEndNow();
+                }
+                break;
+            case IDLE:
+                // Heartbeats repeat the phase; only stop a mirrored session once
+                if (sameSession && followedSession.getPhase() != SessionPhase.IDLE) {
+                    followedSession.stopSession();
+                }
+                break;
+            default:
+                break;
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package me.BaddCamden.SessionLibrary.sync;
+
+import java.util.function.Consumer;
+
+/**
+ * Pluggable channel used to exchange encoded {@link SessionStateDelta} payloads between servers.
+ */
+public interface SessionSyncTransport {
+
+    /**
+     * Start delivering payloads published by other nodes.
+     *
+     * @param receiver invoked with each payload received from another node.
+     */
+    void open(Consumer<byte[]> receiver);
+
+    /**
+     * Send a payload to every other node. Delivery is best-effort.
+     *
+     * @param payload encoded delta.
+     */
+    void publish(byte[] payload);
+
+    /**
+     * Stop receiving and release any resources.
+     */
+    void close();
+}
@@ -0,0 +1,151 @@
+package me.BaddCamden.SessionLibrary;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import java.lang.management.ManagementFactory;
+import java.time.DayOfWeek;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.EnumSet;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.bukkit.plugin.Plugin;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import me.BaddCamden.SessionLibrary.calendar.CalendarEngine;
+import me.BaddCamden.SessionLibrary.calendar.DayCounterRegistry;
+import me.BaddCamden.SessionLibrary.hooks.SessionTickListener;
+import me.BaddCamden.SessionLibrary.scheduler.VirtualScheduler;
+
+/**
+ * Checks the per-call allocation budgets of the library's fast paths by counting the bytes the
+ * test thread allocates while the paths run on a {@link VirtualScheduler}.
+ * Each path is warmed up first so the JIT has compiled it, and the best of several rounds is
+ * compared, so a stray allocation from class loading or GC bookkeeping does not fail the test.
+ */
+class AllocationBudgetTest {
+
+    // Bytes per call allowed on a session tick with no milestone and no SessionTickEvent listener
+    private static final long SESSION_TICK_BUDGET_BYTES = 0L;
+    // Bytes per call allowed on a calendar check inside the engine's quiet period
+    private static final long CALENDAR_CHECK_BUDGET_BYTES = 0L;
+
+    private static final int WARMUP_CALLS = 20_000;
+    private static final int MEASURED_CALLS = 10_000;
+    private static final int ROUNDS = 5;
+    // Allowed per round on top of the budget, for the allocation counter's own bookkeeping
+    private static final long ROUND_SLACK_BYTES = 1024L;
+
+    // Long enough that no halfway, milestone or countdown message is reached
+    private static final int SESSION_SECONDS = 1_000_000;
+
+    private final com.sun.management.ThreadMXBean threads =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+    private VirtualScheduler scheduler;
+    private Plugin plugin;
+    private Session session;
+
+    @BeforeEach
+    void setUp() {
+        assumeTrue(threads.isThreadAllocatedMemorySupported(), "JVM cannot measure thread allocations");
+        threads.setThreadAllocatedMemoryEnabled(true);
+        plugin = HeadlessServer.install();
+        scheduler = HeadlessServer.start(Instant.parse("2024-01-01T00:00:00Z"));
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (session != null) {
+            session.forceEndNow();
+        }
+    }
+
+    @Test
+    void plainSessionTickStaysWithinBudget() {
+        session = new Session(plugin, SESSION_SECONDS, false);
+        session.start();
+
+        assertWithinBudget("Session.tick", SESSION_TICK_BUDGET_BYTES, () -> scheduler.advanceTicks(20));
+        assertEquals(SESSION_SECONDS - (WARMUP_CALLS + ROUNDS * MEASURED_CALLS), session.getTimeLeft());
+    }
+
+    @Test
+    void tickListenersAreNotifiedWithoutAllocating() {
+        long[] seen = new long[1];
+        SessionTickListener listener = (sessionId, secondsLeft) -> seen[0] += secondsLeft;
+        Session.registerTickListener(listener);
+        try {
+            session = new Session(plugin, SESSION_SECONDS, false);
+            session.start();
+
+            assertWithinBudget("Session.tick with a tick listener", SESSION_TICK_BUDGET_BYTES,
+                    () -> scheduler.advanceTicks(20));
+            assertTrue(seen[0] > 0);
+        } finally {
+            Session.unregisterTickListener(listener);
+        }
+    }
+
+    @Test
+    void quietCalendarCheckStaysWithinBudget() {
+        ZoneId zone = ZoneOffset.UTC;
+        LocalTime dailyTime = LocalTime.of(18, 0);
+        Set<DayOfWeek> weekdays = new HashSet<>(EnumSet.of(DayOfWeek.MONDAY, DayOfWeek.FRIDAY));
+        Set<Integer> monthDays = new HashSet<>(Set.of(1, 15));
+        Set<Integer> yearDays = new HashSet<>(Set.of(100));
+        CalendarEngine engine = new CalendarEngine(SessionManager.getClock());
+        engine.configure(true, "day-of-week", zone, null, dailyTime, weekdays, monthDays, yearDays, 0);
+        DayCounterRegistry counters = new DayCounterRegistry(SessionManager.getClock());
+        counters.configure(List.of(new DayCounterRegistry.Definition("events", zone, LocalDate.of(2023, 12, 1), 0,
+                false)));
+        // The first check evaluates the rules and opens the quiet period
+        assertTrue(engine.check());
+        counters.check();
+
+        // Same work as SessionManager.runCalendarCheck, including the settings sync
+        assertWithinBudget("runCalendarCheck", CALENDAR_CHECK_BUDGET_BYTES, () -> {
+            engine.updateSettings(true, "day-of-week", zone, null, dailyTime, weekdays, monthDays, yearDays, 0);
+            if (engine.check()) {
+                throw new AssertionError("Quiet period ended early");
+            }
+            counters.check();
+        });
+        assertFalse(engine.check());
+    }
+
+    /**
+     * Run a path repeatedly and fail unless its least-allocating round stayed within
+     * {@code budgetBytes} per call, plus {@link #ROUND_SLACK_BYTES} for the whole round.
+     *
+     * @param name        path name for the failure message.
+     * @param budgetBytes bytes allowed per call.
+     * @param path        path to measure.
+     */
+    private void assertWithinBudget(String name, long budgetBytes, Runnable path) {
+        for (int i = 0; i < WARMUP_CALLS; i++) {
+            path.run();
+        }
+        long best = Long.MAX_VALUE;
+        for (int round = 0; round < ROUNDS; round++) {
+            long before = threads.getCurrentThreadAllocatedBytes();
+            for (int i = 0; i < MEASURED_CALLS; i++) {
+                path.run();
+            }
+            best = Math.min(best, threads.getCurrentThreadAllocatedBytes() - before);
+        }
+        long allowed = budgetBytes * MEASURED_CALLS + ROUND_SLACK_BYTES;
+        long allocated = best;
+        assertTrue(allocated <= allowed, () -> name + " allocated " + allocated + " bytes over " + MEASURED_CALLS
+                + " calls; the budget allows " + allowed);
+    }
+}
@@ -0,0 +1,181 @@
+package me.BaddCamden.SessionLibrary;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.Collections;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Logger;
+
+import org.bukkit.Bukkit;
+import org.bukkit.Server;
+import org.bukkit.configuration.file.YamlConfiguration;
+import org.bukkit.event.Event;
+import org.bukkit.event.EventException;
+import org.bukkit.plugin.Plugin;
+import org.bukkit.plugin.PluginManager;
+import org.bukkit.plugin.RegisteredListener;
+
+import me.BaddCamden.SessionLibrary.scheduler.VirtualClock;
+import me.BaddCamden.SessionLibrary.scheduler.VirtualScheduler;
+
+/**
+ * Minimal stand-in for a Bukkit server so sessions and the calendar can run without one.
+ * Events are dispatched to their registered listeners, broadcasts are only counted, and time
+ * and scheduling go through a {@link VirtualClock} and {@link VirtualScheduler}.
+ * Shared with the benchmarks and the concurrency stress tests through the test jar.
+ */
+public final class HeadlessServer {
+
+    private static final Logger LOGGER = Logger.getLogger("SessionLibrary-headless");
+    private static final AtomicInteger BROADCASTS = new AtomicInteger();
+    private static Plugin plugin;
+
+    private HeadlessServer() {
+    }
+
+    /**
+     * Install the stand-in server into {@link Bukkit} once per JVM, with an empty plugin
+     * configuration. Later calls have no effect.
+     *
+     * @return plugin to pass to sessions.
+     */
+    public static synchronized Plugin install() {
+        if (plugin == null) {
+            PluginManager pluginManager = proxy(PluginManager.class, (method, args) -> {
+                if (method.getName().equals("callEvent")) {
+                    dispatch((Event) args[0]);
+                }
+                return null;
+            });
+            Server server = proxy(Server.class, (method, args) -> {
+                switch (method.getName()) {
+                    case "getLogger":
+                        return LOGGER;
+                    case "getPluginManager":
+                        return pluginManager;
+                    case "getName":
+                        return "Headless";
+                    case "getVersion":
+                    case "getBukkitVersion":
+                        return "headless";
+                    case "broadcastMessage":
+                    case "broadcast":
+                        BROADCASTS.incrementAndGet();
+                        return 0;
+                    case "getOnlinePlayers":
+                    case "getWorlds":
+                        return Collections.emptyList();
+                    case "isPrimaryThread":
+                        return true;
+                    default:
+                        return null;
+                }
+            });
+            if (Bukkit.getServer() == null) {
+                Bukkit.setServer(server);
+            }
+            plugin = proxy(Plugin.class, (method, args) -> {
+                switch (method.getName()) {
+                    case "getName":
+                        return "SessionLibrary";
+                    case "getLogger":
+                        return LOGGER;
+                    case "getServer":
+                        return Bukkit.getServer();
+                    case "isEnabled":
+                        return true;
+                    default:
+                        return null;
+                }
+            });
+            SessionManager.config = new YamlConfiguration();
+        }
+        return plugin;
+    }
+
+    /**
+     * Install the server if needed and point {@link SessionManager} at a fresh virtual clock
+     * and scheduler starting at the given instant.
+     *
+     * @param start virtual time of tick zero.
+     * @return scheduler that drives sessions and timers from now on.
+     */
+    public static VirtualScheduler start(Instant start) {
+        install();
+        VirtualClock clock = new VirtualClock(start, ZoneOffset.UTC);
+        VirtualScheduler scheduler = new VirtualScheduler(clock);
+        SessionManager.setClock(clock);
+        SessionManager.setScheduler(scheduler);
+        return scheduler;
+    }
+
+    /**
+     * Number of messages broadcast since the server was installed.
+     *
+     * @return broadcast count.
+     */
+    public static int getBroadcastCount() {
+        return BROADCASTS.get();
+    }
+
+    private static void dispatch(Event event) throws EventException {
+        for (RegisteredListener listener : event.getHandlers().getRegisteredListeners()) {
+            listener.callEvent(event);
+        }
+    }
+
+    @FunctionalInterface
+    private interface Handler {
+        Object invoke(Method method, Object[] args) throws Throwable;
+    }
+
+    private static <T> T proxy(Class<T> type, Handler handler) {
+        InvocationHandler invocation = (self, method, args) -> {
+            switch (method.getName()) {
+                case "equals":
+                    return self == args[0];
+                case "hashCode":
+                    return System.identityHashCode(self);
+                case "toString":
+                    return type.getSimpleName() + "[headless]";
+                default:
+                    break;
+            }
+            Object result = handler.invoke(method, args);
+            return result != null ? result : defaultValue(method.getReturnType());
+        };
+        return type.cast(Proxy.newProxyInstance(HeadlessServer.class.getClassLoader(), new Class<?>[] { type },
+                invocation));
+    }
+
+    private static Object defaultValue(Class<?> type) {
+        if (type == boolean.class) {
+            return false;
+        }
+        if (type == int.class) {
+            return 0;
+        }
+        if (type == long.class) {
+            return 0L;
+        }
+        if (type == double.class) {
+            return 0D;
+        }
+        if (type == float.class) {
+            return 0F;
+        }
+        if (type == short.class) {
+            return (short) 0;
+        }
+        if (type == byte.class) {
+            return (byte) 0;
+        }
+        if (type == char.class) {
+            return '\0';
+        }
+        return null;
+    }
+}
@@ -0,0 +1,220 @@
+package me.BaddCamden.SessionLibrary.calendar;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Clock;
+import java.time.DayOfWeek;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.EnumSet;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Whole-year runs of each calendar mode through {@link CalendarSimulation}, checking trigger
+ * counts, the day counter, and the state that would be written to daycounter.yml.
+ */
+class CalendarSimulationTest {
+
+    private static final ZoneId UTC = ZoneOffset.UTC;
+    private static final ZoneId BERLIN = ZoneId.of("Europe/Berlin");
+
+    @Test
+    void dailyRuleFiresOncePerDay() {
+        CalendarEngine engine = engine("daily", UTC, LocalTime.of(18, 0), null, null, null, 0);
+
+        CalendarSimulation.Result result = new CalendarSimulation(engine, Instant.parse("2023-01-01T00:00:00Z"))
+                .withSessionDuration(3600)
+                .run(Duration.ofDays(365));
+
+        assertEquals(List.of(), result.verify(365, 365, Map.of(
+                "day-count", 365,
+                "last-updated-date", "2024-01-01",
+                "last-calendar-trigger-date", "2023-12-31")));
+        for (ZonedDateTime trigger : result.getTriggers()) {
+            // Checks run every 40 seconds, so each trigger lands within one period of 18:00
+            assertEquals(18, trigger.getHour(), trigger::toString);
+            assertEquals(0, trigger.getMinute(), trigger::toString);
+        }
+        assertEquals(365, distinctDates(result).size());
+    }
+
+    @Test
+    void dailyRuleCoversLeapDay() {
+        CalendarEngine engine = engine("daily", UTC, LocalTime.NOON, null, null, null, 0);
+
+        CalendarSimulation.Result result = new CalendarSimulation(engine, Instant.parse("2024-01-01T00:00:00Z"))
+                .run(Duration.ofDays(366));
+
+        assertEquals(List.of(), result.verify(366, 366, Map.of("last-calendar-trigger-date", "2024-12-31")));
+        assertTrue(distinctDates(result).contains(LocalDate.of(2024, 2, 29)));
+    }
+
+    @Test
+    void dayOfWeekRuleFiresOnlyOnConfiguredDays() {
+        CalendarEngine engine = engine("day-of-week", UTC, LocalTime.of(20, 0),
+                EnumSet.of(DayOfWeek.MONDAY, DayOfWeek.FRIDAY), null, null, 0);
+
+        // 2023 starts on a Sunday: 52 Mondays and 52 Fridays
+        CalendarSimulation.Result result = new CalendarSimulation(engine, Instant.parse("2023-01-01T00:00:00Z"))
+                .withSessionDuration(1800)
+                .run(Duration.ofDays(365));
+
+        assertEquals(List.of(), result.verify(104, 365, Map.of("last-calendar-trigger-date", "2023-12-29")));
+        for (ZonedDateTime trigger : result.getTriggers()) {
+            DayOfWeek day = trigger.getDayOfWeek();
+            assertTrue(day == DayOfWeek.MONDAY || day == DayOfWeek.FRIDAY, trigger::toString);
+        }
+    }
+
+    @Test
+    void dayOfYearRuleFiresDay366OnlyInLeapYears() {
+        CalendarEngine engine = engine("day-of-year", UTC, LocalTime.of(9, 0), null, null, Set.of(60, 366), 0);
+
+        CalendarSimulation.Result result = new CalendarSimulation(engine, Instant.parse("2023-01-01T00:00:00Z"))
+                .run(Duration.ofDays(365 + 366));
+
+        assertEquals(List.of(), result.verify(3, 731, Map.of("last-calendar-trigger-date", "2024-12-31")));
+        assertEquals(List.of(LocalDate.of(2023, 3, 1), LocalDate.of(2024, 2, 29), LocalDate.of(2024, 12, 31)),
+                result.getTriggers().stream().map(ZonedDateTime::toLocalDate).collect(Collectors.toList()));
+    }
+
+    @Test
+    void dayOfMonthRuleSkipsShortMonths() {
+        CalendarEngine engine = engine("day-of-month", UTC, LocalTime.MIDNIGHT, null, Set.of(31), null, 0);
+
+        // Seven months of 2023 have a 31st
+        CalendarSimulation.Result result = new CalendarSimulation(engine, Instant.parse("2023-01-01T00:00:00Z"))
+                .run(Duration.ofDays(365));
+
+        assertEquals(List.of(), result.verify(7, 365, Map.of("last-calendar-trigger-date", "2023-12-31")));
+    }
+
+    @Test
+    void customCounterFiresEveryTargetDaysAndResets() {
+        CalendarEngine engine = engine("custom-counter", UTC, null, null, null, null, 7);
+
+        // Fires on days 7, 14, ..., 70; the last reset leaves three days counted
+        CalendarSimulation.Result result = new CalendarSimulation(engine, Instant.parse("2023-01-01T00:00:00Z"))
+                .withSessionDuration(600)
+                .run(Duration.ofDays(73));
+
+        assertEquals(List.of(), result.verify(10, 3, Map.of(
+                "day-count", 3,
+                "last-counter-trigger", 0,
+                "last-updated-date", "2023-03-15",
+                "last-calendar-trigger-date", "2023-03-12")));
+        for (int i = 0; i < result.getTriggers().size(); i++) {
+            assertEquals(LocalDate.of(2023, 1, 1).plusDays(7L * (i + 1)), result.getTriggers().get(i).toLocalDate());
+        }
+    }
+
+    @Test
+    void dailyRuleFollowsLocalTimeAcrossDstTransitions() {
+        // 02:30 does not exist on 2024-03-31 in Berlin and occurs twice on 2024-10-27
+        CalendarEngine engine = engine("daily", BERLIN, LocalTime.of(2, 30), null, null, null, 0);
+
+        CalendarSimulation.Result result = new CalendarSimulation(engine, Instant.parse("2023-12-31T23:00:00Z"))
+                .run(Duration.ofDays(366));
+
+        assertEquals(List.of(), result.verify(366, 366, Map.of(
+                "last-updated-date", "2025-01-01",
+                "last-calendar-trigger-date", "2024-12-31")));
+        assertEquals(366, distinctDates(result).size());
+        ZonedDateTime springForward = triggerOn(result, LocalDate.of(2024, 3, 31));
+        assertEquals(3, springForward.getHour(), springForward::toString);
+        ZonedDateTime fallBack = triggerOn(result, LocalDate.of(2024, 10, 27));
+        assertEquals(ZoneOffset.ofHours(2), fallBack.getOffset(), fallBack::toString);
+    }
+
+    @Test
+    void dayCounterAdvancesOncePerLocalDayAcrossDst() {
+        CalendarEngine engine = new CalendarEngine(Clock.systemUTC());
+        engine.configure(false, "daily", BERLIN, null, LocalTime.NOON, null, null, null, 0);
+
+        // The 23-hour and 25-hour days each count as one day
+        CalendarSimulation.Result result = new CalendarSimulation(engine, Instant.parse("2024-03-30T23:00:00Z"))
+                .run(Duration.ofHours(23 + 24 * 209 + 25));
+
+        assertEquals(List.of(), result.verify(0, 211, Map.of("last-updated-date", "2024-10-28")));
+    }
+
+    @Test
+    void restoredStateDoesNotFireTwiceOnTheSameDay() {
+        CalendarEngine engine = engine("daily", UTC, LocalTime.of(6, 0), null, null, null, 0);
+        CalendarSimulation.Result before = new CalendarSimulation(engine, Instant.parse("2023-06-01T00:00:00Z"))
+                .run(Duration.ofHours(12));
+        assertEquals(1, before.getTriggers().size());
+
+        // Restart at noon the same day from what was persisted
+        CalendarEngine restarted = engine("daily", UTC, LocalTime.of(6, 0), null, null, null, 0);
+        restarted.restoreState(before.getPersistedState());
+        CalendarSimulation.Result after = new CalendarSimulation(restarted, Instant.parse("2023-06-01T12:00:00Z"))
+                .run(Duration.ofDays(2));
+
+        assertEquals(List.of(), after.verify(2, 2, Map.of("last-calendar-trigger-date", "2023-06-03")));
+        assertEquals(LocalDate.of(2023, 6, 2), after.getTriggers().get(0).toLocalDate());
+    }
+
+    @Test
+    void blackoutDaysAreSkippedAndForceIncludeDaysAdded() {
+        CalendarEngine engine = engine("day-of-week", UTC, LocalTime.of(19, 0), EnumSet.of(DayOfWeek.SATURDAY),
+                null, null, 0);
+        engine.setDayCalendars(
+                DayCalendar.parse(List.of("2023-12-23..2023-12-31"), entry -> { }),
+                DayCalendar.parse(List.of("2023-12-20"), entry -> { }));
+
+        // December 2023 Saturdays: 2, 9, 16, 23 (blackout), 30 (blackout); plus Wednesday 20
+        CalendarSimulation.Result result = new CalendarSimulation(engine, Instant.parse("2023-12-01T00:00:00Z"))
+                .run(Duration.ofDays(31));
+
+        assertEquals(List.of(LocalDate.of(2023, 12, 2), LocalDate.of(2023, 12, 9), LocalDate.of(2023, 12, 16),
+                LocalDate.of(2023, 12, 20)),
+                result.getTriggers().stream().map(ZonedDateTime::toLocalDate).collect(Collectors.toList()));
+    }
+
+    @Test
+    void updateSettingsPicksUpDaySetsEditedInPlace() {
+        Set<DayOfWeek> weekdays = new HashSet<>(Set.of(DayOfWeek.MONDAY));
+        CalendarEngine engine = new CalendarEngine(Clock.fixed(Instant.parse("2024-01-02T00:00:00Z"), UTC));
+        engine.configure(true, "day-of-week", UTC, null, LocalTime.NOON, weekdays, null, null, 0);
+        assertTrue(engine.check());
+
+        engine.updateSettings(true, "day-of-week", UTC, null, LocalTime.NOON, weekdays, null, null, 0);
+        assertFalse(engine.check(), "Unchanged settings should keep the quiet period");
+
+        weekdays.add(DayOfWeek.TUESDAY);
+        engine.updateSettings(true, "day-of-week", UTC, null, LocalTime.NOON, weekdays, null, null, 0);
+        assertTrue(engine.check(), "An in-place edit should end the quiet period");
+    }
+
+    private static CalendarEngine engine(String mode, ZoneId zone, LocalTime dailyTime, Set<DayOfWeek> weekdays,
+            Set<Integer> monthDays, Set<Integer> yearDays, int counterTarget) {
+        CalendarEngine engine = new CalendarEngine(Clock.systemUTC());
+        engine.configure(true, mode, zone, null, dailyTime, weekdays, monthDays, yearDays, counterTarget);
+        return engine;
+    }
+
+    private static Set<LocalDate> distinctDates(CalendarSimulation.Result result) {
+        return result.getTriggers().stream().map(ZonedDateTime::toLocalDate).collect(Collectors.toCollection(HashSet::new));
+    }
+
+    private static ZonedDateTime triggerOn(CalendarSimulation.Result result, LocalDate date) {
+        return result.getTriggers().stream()
+                .filter(trigger -> trigger.toLocalDate().equals(date))
+                .findFirst()
+                .orElseThrow(() -> new AssertionError("No trigger on " + date));
+    }
+}